@@ -0,0 +1,91 @@
+package io.github.warnotte.warkanoid.bench;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.warnotte.warkanoid.Ball;
+import io.github.warnotte.warkanoid.BallCollider;
+import io.github.warnotte.warkanoid.GameWorld;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Scaling curve of {@link BallCollider}: balls bounce in a box whose area grows with
+ * the ball count (constant density, about 100 balls per 800x600 screen), and only the
+ * ball-ball pass is timed. Near-linear cost shows up as a flat {@code nsPerBall} column.
+ * <p>
+ * Usage: {@code BallCollisionBenchmark [balls=100,1000,5000,10000,20000] [ticks=600] [seed=1]}
+ */
+public final class BallCollisionBenchmark {
+    private static final int WARMUP_TICKS = 120;
+
+    private BallCollisionBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        String[] counts = (args.length > 0 ? args[0] : "100,1000,5000,10000,20000").split(",");
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+
+        System.out.println("balls,meanResolveUs,nsPerBall,pairTests,bruteForcePairs,contactsPerTick");
+        for (String value : counts) {
+            int count = Integer.parseInt(value.trim());
+            run(count, ticks, seed);
+        }
+    }
+
+    private static void run(int count, int ticks, long seed) {
+        Random random = new RandomXS128(seed);
+        float scale = (float) Math.sqrt(count / 100f);
+        float width = 800f * scale;
+        float height = 600f * scale;
+        float radius = GameWorld.BALL_RADIUS;
+
+        List<Ball> balls = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Ball ball = new Ball(radius + random.nextFloat() * (width - 2f * radius),
+                                 radius + random.nextFloat() * (height - 2f * radius), radius);
+            float angle = random.nextFloat() * MathUtils.PI2;
+            ball.setVelocity(MathUtils.cos(angle) * 283f, MathUtils.sin(angle) * 283f);
+            balls.add(ball);
+        }
+
+        BallCollider collider = new BallCollider();
+        long total = 0L;
+        long pairTests = 0L;
+        long contacts = 0L;
+        for (int tick = -WARMUP_TICKS; tick < ticks; tick++) {
+            for (int i = 0; i < count; i++) {
+                move(balls.get(i), BenchSupport.TICK, width, height);
+            }
+            long start = System.nanoTime();
+            int tickContacts = collider.resolve(balls);
+            long elapsed = System.nanoTime() - start;
+            if (tick >= 0) {
+                total += elapsed;
+                pairTests += collider.getPairTests();
+                contacts += tickContacts;
+            }
+        }
+        System.out.println(count + "," + total / ticks / 1000 + "," + total / ticks / count + ","
+                + pairTests / ticks + "," + (long) count * (count - 1) / 2 + ","
+                + String.format("%.1f", contacts / (double) ticks));
+    }
+
+    /** Straight move with wall bounces, standing in for the world's ball step. */
+    private static void move(Ball ball, float deltaTime, float width, float height) {
+        ball.markTickStart();
+        float x = ball.getX() + ball.getVelocity().x * deltaTime;
+        float y = ball.getY() + ball.getVelocity().y * deltaTime;
+        float radius = ball.getRadius();
+        if (x < radius || x > width - radius) {
+            ball.reverseX();
+            x = MathUtils.clamp(x, radius, width - radius);
+        }
+        if (y < radius || y > height - radius) {
+            ball.reverseY();
+            y = MathUtils.clamp(y, radius, height - radius);
+        }
+        ball.setPosition(x, y);
+    }
+}
@@ -0,0 +1,127 @@
+package io.github.warnotte.warkanoid.bench;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.warnotte.warkanoid.Ball;
+import io.github.warnotte.warkanoid.GameInput;
+import io.github.warnotte.warkanoid.GameWorld;
+import io.github.warnotte.warkanoid.level.LevelCompiler;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelRepository;
+import io.github.warnotte.warkanoid.level.PreparedLevel;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/** Shared plumbing for the headless harnesses: world setup and a simple autopilot. */
+final class BenchSupport {
+    static final float TICK = 1f / 60f;
+
+    private BenchSupport() {
+    }
+
+    static GameWorld newWorld(LevelData data, long seed) {
+        Random random = new RandomXS128(seed);
+        GameWorld world = new GameWorld(data.width, data.height, random, GameWorld.NO_LISTENER);
+        reload(world, data, random);
+        return world;
+    }
+
+    /** Restarts {@code world} on a fresh copy of {@code data} (also clears the won/lost state). */
+    static void reload(GameWorld world, LevelData data, Random random) {
+        world.restart(PreparedLevel.of(0, data, random));
+        // Never end the run on lives, we only care about the cost of the simulation.
+        world.setLives(Integer.MAX_VALUE / 2);
+    }
+
+    /**
+     * Fills {@code input} for the next tick: the paddle follows the lowest falling ball
+     * and the action button is held so the ball is (re)launched right away.
+     */
+    static void autopilot(GameWorld world, GameInput input) {
+        input.clear();
+        input.action = true;
+        List<Ball> balls = world.getBalls();
+        float targetX = world.getPaddle().getX() + world.getPaddle().getWidth() / 2f;
+        float lowestY = Float.MAX_VALUE;
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            if (ball.getVelocity().y <= 0f && ball.getY() < lowestY) {
+                lowestY = ball.getY();
+                targetX = ball.getX();
+            }
+        }
+        input.pointerX = targetX;
+    }
+
+    /**
+     * Keeps {@code count} balls in play once the first one has been launched. Extra balls
+     * are spawned at a random X just under {@code spawnY} (see {@link #frontLine}) so they
+     * reach the bricks right away, even on very tall generated playfields.
+     */
+    static void topUpBalls(GameWorld world, int count, float spawnY, Random random) {
+        if (!world.isBallLaunched()) {
+            return;
+        }
+        List<Ball> balls = world.getBalls();
+        float radius = GameWorld.BALL_RADIUS;
+        while (balls.size() < count) {
+            float x = radius + random.nextFloat() * (world.getWidth() - 2f * radius);
+            Ball ball = new Ball(x, spawnY, radius);
+            float angle = MathUtils.PI * (0.2f + 0.6f * random.nextFloat());
+            float speed = 283f; // same speed as Ball.launch()
+            ball.setVelocity(MathUtils.cos(angle) * speed, MathUtils.sin(angle) * speed);
+            world.addBall(ball);
+        }
+    }
+
+    /** Spawn height for extra balls: a few radii under the lowest brick, above the paddle. */
+    static float frontLine(LevelData data) {
+        float lowest = data.height;
+        for (int i = 0; i < data.count; i++) {
+            lowest = Math.min(lowest, data.y[i]);
+        }
+        return Math.max(100f, lowest - GameWorld.BALL_RADIUS * 4f);
+    }
+
+    /** Compiles the built-in JSON levels found in {@code levelsDir} (level1, level2, ... until one is missing). */
+    static List<LevelData> builtInLevels(Path levelsDir) throws IOException {
+        List<LevelData> levels = new ArrayList<>();
+        for (int level = 1; ; level++) {
+            Path json = levelsDir.resolve(LevelRepository.getBaseName(level) + ".json");
+            if (!Files.exists(json)) {
+                return levels;
+            }
+            levels.add(LevelCompiler.compile(LevelRepository.getBaseName(level),
+                    new String(Files.readAllBytes(json), StandardCharsets.UTF_8)));
+        }
+    }
+
+    /** Heap in use after a few forced collections; good enough for trends, not exact sizes. */
+    static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    static int remainingBricks(GameWorld world) {
+        int remaining = 0;
+        for (int i = 0; i < world.getBricks().size(); i++) {
+            if (!world.getBricks().get(i).isDestroyed()) {
+                remaining++;
+            }
+        }
+        return remaining;
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.warnotte.warkanoid.bench;
+
+import io.github.warnotte.warkanoid.Ball;
+import io.github.warnotte.warkanoid.ForkJoinParallelFor;
+import io.github.warnotte.warkanoid.GameInput;
+import io.github.warnotte.warkanoid.GameWorld;
+import io.github.warnotte.warkanoid.ParallelFor;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Massive multi-ball scaling: runs the same seeded session with 1..N worker threads and
+ * prints the tick cost and a hash of the final world state, which must be identical for
+ * every thread count.
+ * <p>
+ * Usage: {@code MultiBallBenchmark [balls=1000,10000] [ticks=600] [bricks=5000] [seed=1] [maxThreads=cores]}
+ */
+public final class MultiBallBenchmark {
+    private static final int WARMUP_TICKS = 120;
+
+    private MultiBallBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        String[] ballArg = (args.length > 0 ? args[0] : "1000,10000").split(",");
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 600;
+        int bricks = args.length > 2 ? Integer.parseInt(args[2]) : 5000;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+        int cores = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+        LevelData data = LevelGenerator.generate(LevelGenerator.Layout.GRID, bricks, seed);
+
+        System.out.println("balls,threads,meanTickUs,speedup,stateHash");
+        for (String value : ballArg) {
+            int balls = Integer.parseInt(value.trim());
+            long serialNanos = 0L;
+            long serialHash = 0L;
+            boolean deterministic = true;
+            for (int threads = 1; threads <= cores; threads *= 2) {
+                ForkJoinPool pool = threads == 1 ? null : new ForkJoinPool(threads);
+                ParallelFor parallelFor = pool == null ? ParallelFor.SERIAL : new ForkJoinParallelFor(pool, 64);
+                long[] result = run(data, seed, balls, ticks, parallelFor);
+                if (pool != null) {
+                    pool.shutdown();
+                }
+                if (threads == 1) {
+                    serialNanos = result[0];
+                    serialHash = result[1];
+                }
+                deterministic &= result[1] == serialHash;
+                System.out.println(balls + "," + threads + "," + result[0] / ticks / 1000 + ","
+                        + String.format("%.2f", serialNanos / (double) result[0]) + ","
+                        + Long.toHexString(result[1]));
+            }
+            System.out.println("# " + balls + " balls: " + (deterministic ? "same" : "DIFFERENT")
+                    + " final state for every thread count");
+        }
+    }
+
+    /** @return {total simulation nanos, state hash} */
+    private static long[] run(LevelData data, long seed, int ballCount, int ticks, ParallelFor parallelFor) {
+        GameWorld world = BenchSupport.newWorld(data, seed);
+        world.setParallelFor(parallelFor);
+        GameInput input = new GameInput();
+        long total = 0L;
+        for (int tick = -WARMUP_TICKS; tick < ticks; tick++) {
+            BenchSupport.autopilot(world, input);
+            if (world.getBalls().size() < ballCount) {
+                world.spawnBallBurst(ballCount - world.getBalls().size());
+            }
+            long start = System.nanoTime();
+            world.update(BenchSupport.TICK, input);
+            if (tick >= 0) {
+                total += System.nanoTime() - start;
+            }
+        }
+        return new long[] {total, stateHash(world)};
+    }
+
+    private static long stateHash(GameWorld world) {
+        long hash = world.getScore();
+        for (Ball ball : world.getBalls()) {
+            hash = hash * 31 + Float.floatToIntBits(ball.getX());
+            hash = hash * 31 + Float.floatToIntBits(ball.getY());
+            hash = hash * 31 + Float.floatToIntBits(ball.getVelocity().x);
+        }
+        return hash * 31 + BenchSupport.remainingBricks(world);
+    }
+}
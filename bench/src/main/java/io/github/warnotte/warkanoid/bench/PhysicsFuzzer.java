@@ -0,0 +1,341 @@
+package io.github.warnotte.warkanoid.bench;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.warnotte.warkanoid.Ball;
+import io.github.warnotte.warkanoid.Brick;
+import io.github.warnotte.warkanoid.CollisionMode;
+import io.github.warnotte.warkanoid.GameInput;
+import io.github.warnotte.warkanoid.GameWorld;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import io.github.warnotte.warkanoid.level.LevelRepository;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Headless physics fuzzer: flies randomized balls (position, angle, speed, radius) through
+ * the built-in levels and generated layouts under each {@link CollisionMode}, one ball at a
+ * time through {@link GameWorld#update}, and checks every tick for:
+ * <ul>
+ * <li>tunneling: the ball center crossed a brick that is still standing;</li>
+ * <li>inside: the ball center ended the tick inside a standing brick;</li>
+ * <li>escape: the ball left the field through a wall or the ceiling;</li>
+ * <li>stuck: the ball kept moving but stayed within one diameter for two seconds.</li>
+ * </ul>
+ * Trajectories are cut in fixed blocks, each with its own seed and world, so results do
+ * not depend on the thread count. Failures print the block, trajectory and tick to replay.
+ * <p>
+ * Usage: {@code PhysicsFuzzer [trajectories=1000000] [ticks=240] [seed=1] [threads=cores]
+ * [modes=all|DISCRETE,ROBUST,...] [levelsDir=levels/]}
+ */
+public final class PhysicsFuzzer {
+    private static final int BLOCK = 256;
+    private static final int GENERATED_BRICKS = 2000;
+    private static final int STUCK_TICKS = 120;
+    private static final int MAX_REPORTS = 3;
+
+    private static final int TRAJECTORIES = 0;
+    private static final int BALL_TICKS = 1;
+    private static final int TUNNELS = 2;
+    private static final int INSIDE = 3;
+    private static final int ESCAPES = 4;
+    private static final int STUCK = 5;
+    private static final int NANOS = 6;
+
+    private PhysicsFuzzer() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int trajectories = args.length > 0 ? Integer.parseInt(args[0]) : 1000000;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 240;
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 1L;
+        int threads = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+        List<CollisionMode> modes = new ArrayList<>();
+        if (args.length > 4 && !args[4].equals("all")) {
+            for (String mode : args[4].split(",")) {
+                modes.add(CollisionMode.valueOf(mode.trim()));
+            }
+        } else {
+            for (CollisionMode mode : CollisionMode.values()) {
+                modes.add(mode);
+            }
+        }
+        List<LevelData> levels = loadLevels(Paths.get(args.length > 5 ? args[5] : LevelRepository.LEVEL_DIR), seed);
+
+        int blocks = (trajectories + BLOCK - 1) / BLOCK;
+        System.out.println("# " + trajectories + " trajectories x " + ticks + " ticks, " + levels.size()
+                + " levels, seed " + seed + ", " + threads + " threads");
+        System.out.println("mode,trajectories,ballTicks,tunnels,inside,escapes,stuck,ballTicksPerSec");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (CollisionMode mode : modes) {
+                List<Future<Block>> futures = new ArrayList<>();
+                long start = System.nanoTime();
+                for (int b = 0; b < blocks; b++) {
+                    int first = b * BLOCK;
+                    int count = Math.min(BLOCK, trajectories - first);
+                    final int index = b;
+                    futures.add(executor.submit(new Callable<Block>() {
+                        @Override
+                        public Block call() {
+                            return runBlock(mode, levels, seed, index, count, ticks);
+                        }
+                    }));
+                }
+                long[] totals = new long[NANOS + 1];
+                List<String> reports = new ArrayList<>();
+                for (Future<Block> future : futures) {
+                    Block block = future.get();
+                    for (int i = 0; i < totals.length; i++) {
+                        totals[i] += block.counters[i];
+                    }
+                    if (reports.size() < 10) {
+                        reports.addAll(block.reports);
+                    }
+                }
+                double seconds = (System.nanoTime() - start) / 1e9;
+                System.out.println(mode + "," + totals[TRAJECTORIES] + "," + totals[BALL_TICKS] + ","
+                        + totals[TUNNELS] + "," + totals[INSIDE] + "," + totals[ESCAPES] + "," + totals[STUCK] + ","
+                        + (long) (totals[BALL_TICKS] / seconds));
+                for (int i = 0; i < Math.min(10, reports.size()); i++) {
+                    System.out.println("#   " + reports.get(i));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /** Built-in levels from {@code levelsDir} (when present) plus one of each generated layout. */
+    private static List<LevelData> loadLevels(Path levelsDir, long seed) throws IOException {
+        List<LevelData> levels = BenchSupport.builtInLevels(levelsDir);
+        if (levels.isEmpty()) {
+            System.out.println("# no built-in levels under " + levelsDir.toAbsolutePath() + ", generated only");
+        }
+        for (LevelGenerator.Layout layout : LevelGenerator.Layout.values()) {
+            levels.add(LevelGenerator.generate(layout, GENERATED_BRICKS, seed));
+        }
+        return levels;
+    }
+
+    private static Block runBlock(CollisionMode mode, List<LevelData> levels, long seed, int blockIndex,
+                                  int count, int ticks) {
+        Block block = new Block();
+        long blockSeed = seed * 0x9E3779B97F4A7C15L + blockIndex;
+        LevelData data = levels.get(blockIndex % levels.size());
+        Random random = new RandomXS128(blockSeed);
+        GameWorld world = BenchSupport.newWorld(data, blockSeed);
+        world.setCollisionMode(mode);
+        GameInput input = new GameInput();
+        IntArray candidates = new IntArray();
+        long start = System.nanoTime();
+
+        for (int t = 0; t < count; t++) {
+            if (world.isGameWon()) {
+                BenchSupport.reload(world, data, random);
+            }
+            Ball ball = spawn(world, data, input, random, candidates);
+            block.counters[TRAJECTORIES]++;
+            float minX = ball.getX();
+            float maxX = minX;
+            float minY = ball.getY();
+            float maxY = minY;
+            int windowStart = 0;
+
+            for (int tick = 0; tick < ticks; tick++) {
+                float fromX = ball.getX();
+                float fromY = ball.getY();
+                BenchSupport.autopilot(world, input);
+                input.action = false;
+                world.update(BenchSupport.TICK, input);
+                block.counters[BALL_TICKS]++;
+
+                List<Ball> balls = world.getBalls();
+                if (!balls.contains(ball) || !ball.isMoving()) {
+                    break; // Lost at the bottom, level cleared, or caught by a sticky paddle
+                }
+                // Power-ups may have added balls, only the fuzzed one is followed
+                balls.clear();
+                balls.add(ball);
+
+                String failure = check(world, ball, fromX, fromY, candidates, block);
+                if (failure == null) {
+                    minX = Math.min(minX, ball.getX());
+                    maxX = Math.max(maxX, ball.getX());
+                    minY = Math.min(minY, ball.getY());
+                    maxY = Math.max(maxY, ball.getY());
+                    if (tick - windowStart >= STUCK_TICKS) {
+                        if (maxX - minX < ball.getRadius() * 2f && maxY - minY < ball.getRadius() * 2f) {
+                            block.counters[STUCK]++;
+                            failure = "stuck";
+                        }
+                        windowStart = tick;
+                        minX = maxX = ball.getX();
+                        minY = maxY = ball.getY();
+                    }
+                }
+                if (failure != null) {
+                    if (block.reports.size() < MAX_REPORTS) {
+                        block.reports.add(mode + " " + data.name + " block " + blockIndex + " trajectory " + t
+                                + " tick " + tick + ": " + failure + " at " + ball.getX() + "," + ball.getY()
+                                + " v=" + ball.getVelocity() + " r=" + ball.getRadius());
+                    }
+                    break;
+                }
+            }
+            world.getBalls().clear();
+        }
+        block.counters[NANOS] = System.nanoTime() - start;
+        world.dispose();
+        return block;
+    }
+
+    /** Launches the world if needed and replaces its balls with one random ball clear of bricks. */
+    private static Ball spawn(GameWorld world, LevelData data, GameInput input, Random random,
+                              IntArray candidates) {
+        if (!world.isBallLaunched()) {
+            if (world.getBalls().isEmpty()) {
+                world.getBalls().add(new Ball(world.getWidth() / 2f, 100f, GameWorld.BALL_RADIUS));
+            }
+            input.clear();
+            input.action = true;
+            world.update(0f, input);
+        }
+        float radius = 4f + random.nextFloat() * 12f;
+        float x = 0f;
+        float y = 0f;
+        // Dense layouts rarely leave room: fall back to the open band above the paddle
+        float top = world.getHeight() - radius;
+        for (int attempt = 0; attempt < 40; attempt++) {
+            if (attempt == 20) {
+                top = Math.min(top, BenchSupport.frontLine(data));
+            }
+            x = radius + random.nextFloat() * (world.getWidth() - 2f * radius);
+            y = 80f + random.nextFloat() * (top - 80f);
+            if (!overlapsBrick(world, data, x, y, radius, candidates)) {
+                break;
+            }
+        }
+        Ball ball = new Ball(x, y, radius);
+        float angle = random.nextFloat() * MathUtils.PI2;
+        float speed = 100f + random.nextFloat() * 2900f;
+        ball.setVelocity(MathUtils.cos(angle) * speed, MathUtils.sin(angle) * speed);
+        world.getBalls().clear();
+        world.addBall(ball);
+        return ball;
+    }
+
+    /** @return the failure kind, or null when the tick looks sane */
+    private static String check(GameWorld world, Ball ball, float fromX, float fromY, IntArray candidates,
+                                Block block) {
+        float x = ball.getX();
+        float y = ball.getY();
+        float radius = ball.getRadius();
+        if (x < radius - 1f || x > world.getWidth() - radius + 1f || y > world.getHeight() - radius + 1f) {
+            block.counters[ESCAPES]++;
+            return "escape";
+        }
+
+        List<Brick> bricks = world.getBricks();
+        world.getBrickGrid().query(Math.min(fromX, x), Math.min(fromY, y), Math.max(fromX, x), Math.max(fromY, y),
+                candidates);
+        for (int c = 0; c < candidates.size; c++) {
+            Brick brick = bricks.get(candidates.get(c));
+            if (brick.isDestroyed()) {
+                continue;
+            }
+            if (x > brick.getX() && x < brick.getX() + brick.getWidth()
+                    && y > brick.getY() && y < brick.getY() + brick.getHeight()) {
+                block.counters[INSIDE]++;
+                return "inside " + brick.getX() + "," + brick.getY();
+            }
+            // One pixel inset so a chord grazing a corner is not reported
+            if (segmentCrossesRect(fromX, fromY, x, y, brick.getX() + 1f, brick.getY() + 1f,
+                    brick.getX() + brick.getWidth() - 1f, brick.getY() + brick.getHeight() - 1f)) {
+                block.counters[TUNNELS]++;
+                return "tunnel through " + brick.getX() + "," + brick.getY() + " from " + fromX + "," + fromY;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Streamed levels only hold the chunks near the paddle and balls, so a spot far from them
+     * is checked against the whole level data (destroyed bricks included) instead.
+     */
+    private static boolean overlapsBrick(GameWorld world, LevelData data, float x, float y, float radius,
+                                         IntArray candidates) {
+        if (world.getBrickChunks() != null) {
+            for (int i = 0; i < data.count; i++) {
+                if (circleOverlapsRect(x, y, radius, data.x[i], data.y[i], data.w[i], data.h[i])) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        world.getBrickGrid().query(x - radius, y - radius, x + radius, y + radius, candidates);
+        for (int c = 0; c < candidates.size; c++) {
+            Brick brick = world.getBricks().get(candidates.get(c));
+            if (!brick.isDestroyed() && circleOverlapsRect(x, y, radius,
+                    brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean circleOverlapsRect(float x, float y, float radius,
+                                              float left, float bottom, float width, float height) {
+        float dx = x - MathUtils.clamp(x, left, left + width);
+        float dy = y - MathUtils.clamp(y, bottom, bottom + height);
+        return dx * dx + dy * dy <= radius * radius;
+    }
+
+    /** Slab test of the segment against an axis-aligned rectangle. */
+    private static boolean segmentCrossesRect(float x0, float y0, float x1, float y1,
+                                              float left, float bottom, float right, float top) {
+        if (left >= right || bottom >= top) {
+            return false;
+        }
+        float tMin = 0f;
+        float tMax = 1f;
+        float dx = x1 - x0;
+        float dy = y1 - y0;
+        if (Math.abs(dx) < 1e-6f) {
+            if (x0 <= left || x0 >= right) {
+                return false;
+            }
+        } else {
+            float t1 = (left - x0) / dx;
+            float t2 = (right - x0) / dx;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        if (Math.abs(dy) < 1e-6f) {
+            if (y0 <= bottom || y0 >= top) {
+                return false;
+            }
+        } else {
+            float t1 = (bottom - y0) / dy;
+            float t2 = (top - y0) / dy;
+            tMin = Math.max(tMin, Math.min(t1, t2));
+            tMax = Math.min(tMax, Math.max(t1, t2));
+        }
+        return tMin < tMax;
+    }
+
+    private static final class Block {
+        final long[] counters = new long[NANOS + 1];
+        final List<String> reports = new ArrayList<>();
+    }
+}
@@ -0,0 +1,327 @@
+package io.github.warnotte.warkanoid.bench;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.warnotte.warkanoid.GameInput;
+import io.github.warnotte.warkanoid.GameWorld;
+import io.github.warnotte.warkanoid.PowerUp;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import io.github.warnotte.warkanoid.level.LevelRepository;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Headless performance regression suite: scripted sessions played through
+ * {@link GameWorld#update} with the same {@link GameInput} that {@code Main.update}
+ * fills from the keyboard and mouse (autopilot paddle, action held, cheat power-ups):
+ * <ul>
+ * <li>{@code clear-levelN}: each built-in level until it is cleared, or five minutes of
+ * play for the ones walled in by indestructible bricks;</li>
+ * <li>{@code multi-ball}: MULTI_BALL every half second on a generated grid;</li>
+ * <li>{@code bomb-storm}: a generated bomb field hit by a crowd of balls;</li>
+ * <li>{@code laser-spam}: LASER kept on and fired at every cooldown.</li>
+ * </ul>
+ * Every scenario runs once to warm up the JIT, then each is measured over a few rounds
+ * (median kept): ticks per second of update time, p99 tick, bytes allocated per tick
+ * (HotSpot thread counter) and peak heap (sum of the heap pool peaks). Results are compared with the baseline CSV: a metric
+ * worse by more than {@code threshold} (and a small absolute margin) fails the run with
+ * exit code 1. Timings only compare on the machine that recorded the baseline.
+ * <p>
+ * Usage: {@code RegressionSuite baseline.csv [threshold=0.25] [--update] [levelsDir=levels/]};
+ * a missing baseline or {@code --update} records the current results as the baseline.
+ */
+public final class RegressionSuite {
+    private static final String HEADER = "scenario,ticks,ticksPerSec,p99Us,allocBytesPerTick,peakHeapKB";
+    private static final long SEED = 1L;
+    private static final int CLEAR_MAX_TICKS = 5 * 60 * 60;
+    private static final int SESSION_TICKS = 60 * 60;
+    private static final int ROUNDS = 5;
+    /** Absolute slack on top of the relative threshold, so near-zero metrics do not flap. */
+    private static final double TICK_MARGIN_US = 1.0;
+    private static final double P99_MARGIN_US = 20.0;
+    private static final double ALLOC_MARGIN_BYTES = 256.0;
+    private static final double HEAP_MARGIN_KB = 4096.0;
+
+    private RegressionSuite() {
+    }
+
+    /** A scripted session: its level, its inputs on top of the autopilot, and when it ends. */
+    private abstract static class Scenario {
+        final String name;
+        final LevelData level;
+        final int maxTicks;
+
+        Scenario(String name, LevelData level, int maxTicks) {
+            this.name = name;
+            this.level = level;
+            this.maxTicks = maxTicks;
+        }
+
+        void script(GameWorld world, GameInput input, int tick, Random random) {
+        }
+
+        boolean done(GameWorld world) {
+            return false;
+        }
+    }
+
+    private static final class Result {
+        String scenario;
+        int ticks;
+        double ticksPerSec;
+        double p99Us;
+        double allocBytesPerTick;
+        double peakHeapKB;
+
+        String toCsv() {
+            return scenario + "," + ticks + "," + Math.round(ticksPerSec) + "," + round(p99Us) + ","
+                    + Math.round(allocBytesPerTick) + "," + Math.round(peakHeapKB);
+        }
+
+        static Result parse(String line) {
+            String[] fields = line.split(",");
+            Result result = new Result();
+            result.scenario = fields[0];
+            result.ticks = Integer.parseInt(fields[1]);
+            result.ticksPerSec = Double.parseDouble(fields[2]);
+            result.p99Us = Double.parseDouble(fields[3]);
+            result.allocBytesPerTick = Double.parseDouble(fields[4]);
+            result.peakHeapKB = Double.parseDouble(fields[5]);
+            return result;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: RegressionSuite baseline.csv [threshold=0.25] [--update] [levelsDir=levels/]");
+            System.exit(2);
+        }
+        Path baselinePath = Paths.get(args[0]);
+        double threshold = 0.25;
+        boolean update = false;
+        Path levelsDir = Paths.get(LevelRepository.LEVEL_DIR);
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--update")) {
+                update = true;
+            } else if (args[i].matches("[0-9.]+")) {
+                threshold = Double.parseDouble(args[i]);
+            } else {
+                levelsDir = Paths.get(args[i]);
+            }
+        }
+
+        List<Scenario> scenarios = scenarios(levelsDir);
+        // Warm up on every scenario first, so each one is measured with the same compiled code
+        for (Scenario scenario : scenarios) {
+            run(scenario);
+        }
+        List<Result> results = new ArrayList<>();
+        System.out.println(HEADER);
+        for (Scenario scenario : scenarios) {
+            Result[] rounds = new Result[ROUNDS];
+            for (int r = 0; r < ROUNDS; r++) {
+                rounds[r] = run(scenario);
+            }
+            Result result = median(rounds);
+            results.add(result);
+            System.out.println(result.toCsv());
+        }
+
+        if (update || !Files.exists(baselinePath)) {
+            StringBuilder out = new StringBuilder(HEADER).append('\n');
+            for (Result result : results) {
+                out.append(result.toCsv()).append('\n');
+            }
+            Files.write(baselinePath, out.toString().getBytes(StandardCharsets.UTF_8));
+            System.out.println("Baseline written to " + baselinePath.toAbsolutePath());
+            return;
+        }
+
+        Map<String, Result> baseline = new LinkedHashMap<>();
+        List<String> lines = Files.readAllLines(baselinePath, StandardCharsets.UTF_8);
+        for (int i = 1; i < lines.size(); i++) {
+            if (!lines.get(i).trim().isEmpty()) {
+                Result result = Result.parse(lines.get(i).trim());
+                baseline.put(result.scenario, result);
+            }
+        }
+        int regressions = 0;
+        for (Result result : results) {
+            Result base = baseline.get(result.scenario);
+            if (base == null) {
+                System.out.println(result.scenario + ": not in the baseline");
+                continue;
+            }
+            regressions += check(result.scenario, "ticksPerSec", base.ticksPerSec, result.ticksPerSec,
+                    1e6 / result.ticksPerSec > 1e6 / base.ticksPerSec * (1.0 + threshold) + TICK_MARGIN_US);
+            regressions += check(result.scenario, "p99Us", base.p99Us, result.p99Us,
+                    result.p99Us > base.p99Us * (1.0 + threshold) + P99_MARGIN_US);
+            regressions += check(result.scenario, "allocBytesPerTick", base.allocBytesPerTick, result.allocBytesPerTick,
+                    result.allocBytesPerTick > base.allocBytesPerTick * (1.0 + threshold) + ALLOC_MARGIN_BYTES);
+            regressions += check(result.scenario, "peakHeapKB", base.peakHeapKB, result.peakHeapKB,
+                    result.peakHeapKB > base.peakHeapKB * (1.0 + threshold) + HEAP_MARGIN_KB);
+        }
+        if (regressions > 0) {
+            System.out.println(regressions + " regression(s) over " + Math.round(threshold * 100) + "% against "
+                    + baselinePath.toAbsolutePath());
+            System.exit(1);
+        }
+        System.out.println("No regression over " + Math.round(threshold * 100) + "% against " + baselinePath.toAbsolutePath());
+    }
+
+    /** Metric by metric median of the rounds, so one noisy round does not fail the run. */
+    private static Result median(Result[] rounds) {
+        int n = rounds.length;
+        double[] ticksPerSec = new double[n];
+        double[] p99Us = new double[n];
+        double[] alloc = new double[n];
+        double[] heap = new double[n];
+        for (int r = 0; r < n; r++) {
+            ticksPerSec[r] = rounds[r].ticksPerSec;
+            p99Us[r] = rounds[r].p99Us;
+            alloc[r] = rounds[r].allocBytesPerTick;
+            heap[r] = rounds[r].peakHeapKB;
+        }
+        Arrays.sort(ticksPerSec);
+        Arrays.sort(p99Us);
+        Arrays.sort(alloc);
+        Arrays.sort(heap);
+        Result result = new Result();
+        result.scenario = rounds[0].scenario;
+        result.ticks = rounds[0].ticks;
+        result.ticksPerSec = ticksPerSec[n / 2];
+        result.p99Us = p99Us[n / 2];
+        result.allocBytesPerTick = alloc[n / 2];
+        result.peakHeapKB = heap[n / 2];
+        return result;
+    }
+
+    private static int check(String scenario, String metric, double base, double current, boolean regressed) {
+        if (!regressed) {
+            return 0;
+        }
+        System.out.println("REGRESSION " + scenario + " " + metric + ": " + round(base) + " -> " + round(current));
+        return 1;
+    }
+
+    private static List<Scenario> scenarios(Path levelsDir) throws Exception {
+        List<Scenario> scenarios = new ArrayList<>();
+        List<LevelData> builtIn = BenchSupport.builtInLevels(levelsDir);
+        if (builtIn.isEmpty()) {
+            System.out.println("# no built-in levels under " + levelsDir.toAbsolutePath() + ", no clear scenarios");
+        }
+        for (int i = 0; i < builtIn.size(); i++) {
+            scenarios.add(new Scenario("clear-level" + (i + 1), builtIn.get(i), CLEAR_MAX_TICKS) {
+                @Override
+                void script(GameWorld world, GameInput input, int tick, Random random) {
+                    // Sweep the hit point along the paddle, else the ball settles in a loop
+                    input.pointerX += MathUtils.sin(tick * 0.011f) * world.getPaddle().getWidth() * 0.4f;
+                }
+
+                @Override
+                boolean done(GameWorld world) {
+                    return world.isGameWon();
+                }
+            });
+        }
+        scenarios.add(new Scenario("multi-ball", LevelGenerator.generate(LevelGenerator.Layout.GRID, 2000, SEED),
+                SESSION_TICKS) {
+            @Override
+            void script(GameWorld world, GameInput input, int tick, Random random) {
+                if (tick % 30 == 0) {
+                    input.powerUp = PowerUp.Type.MULTI_BALL;
+                }
+            }
+        });
+        LevelData bombField = LevelGenerator.generate(LevelGenerator.Layout.BOMB_FIELD, 5000, SEED);
+        final float bombFront = BenchSupport.frontLine(bombField);
+        scenarios.add(new Scenario("bomb-storm", bombField, SESSION_TICKS) {
+            @Override
+            void script(GameWorld world, GameInput input, int tick, Random random) {
+                BenchSupport.topUpBalls(world, 32, bombFront, random);
+            }
+        });
+        scenarios.add(new Scenario("laser-spam", LevelGenerator.generate(LevelGenerator.Layout.GRID, 2000, SEED),
+                SESSION_TICKS) {
+            @Override
+            void script(GameWorld world, GameInput input, int tick, Random random) {
+                // The autopilot holds the action button: a beam pair at every cooldown
+                if (tick % 300 == 0) {
+                    input.powerUp = PowerUp.Type.LASER;
+                }
+            }
+        });
+        return scenarios;
+    }
+
+    private static Result run(Scenario scenario) {
+        Random random = new RandomXS128(SEED);
+        GameWorld world = BenchSupport.newWorld(scenario.level, SEED);
+        GameInput input = new GameInput();
+        long[] tickNanos = new long[scenario.maxTicks];
+
+        BenchSupport.usedHeap();
+        List<MemoryPoolMXBean> heapPools = new ArrayList<>();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                pool.resetPeakUsage();
+                heapPools.add(pool);
+            }
+        }
+        long allocatedBefore = allocatedBytes();
+
+        int ticks = 0;
+        long total = 0L;
+        while (ticks < scenario.maxTicks && !scenario.done(world)) {
+            BenchSupport.autopilot(world, input);
+            scenario.script(world, input, ticks, random);
+            long start = System.nanoTime();
+            world.update(BenchSupport.TICK, input);
+            long elapsed = System.nanoTime() - start;
+            tickNanos[ticks++] = elapsed;
+            total += elapsed;
+        }
+
+        long allocated = allocatedBytes() - allocatedBefore;
+        long peakHeap = 0L;
+        for (MemoryPoolMXBean pool : heapPools) {
+            peakHeap += pool.getPeakUsage().getUsed();
+        }
+        Arrays.sort(tickNanos, 0, ticks);
+
+        Result result = new Result();
+        result.scenario = scenario.name;
+        result.ticks = ticks;
+        result.ticksPerSec = total > 0L ? ticks * 1e9 / total : 0.0;
+        result.p99Us = ticks > 0 ? tickNanos[Math.min(ticks - 1, (int) Math.ceil(ticks * 0.99) - 1)] / 1000.0 : 0.0;
+        result.allocBytesPerTick = allocated >= 0L && ticks > 0 ? allocated / (double) ticks : -1.0;
+        result.peakHeapKB = peakHeap / 1024.0;
+        return result;
+    }
+
+    /** Bytes allocated by this thread so far, -1 when the JVM does not tell (non-HotSpot). */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1L;
+    }
+
+    private static String round(double value) {
+        return String.valueOf(Math.round(value * 10.0) / 10.0);
+    }
+}
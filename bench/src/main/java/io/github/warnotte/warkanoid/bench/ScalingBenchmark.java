@@ -0,0 +1,139 @@
+package io.github.warnotte.warkanoid.bench;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.warnotte.warkanoid.Ball;
+import io.github.warnotte.warkanoid.Brick;
+import io.github.warnotte.warkanoid.CollisionMode;
+import io.github.warnotte.warkanoid.GameInput;
+import io.github.warnotte.warkanoid.GameWorld;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Headless scaling benchmark: for every generated layout and brick count, prints one CSV
+ * line with level build time, heap retained by the level and simulation cost per tick.
+ * Every {@link CollisionMode} runs on the same level and seed; {@code overlaps} counts the
+ * ball-ticks that ended inside a live brick, a cheap proxy for collision correctness.
+ * Run it with a high ball count (e.g. {@code 100,10000,100000 1000}) to compare the
+ * Box2D engine with the Java loops where its native broadphase should pay off.
+ * <p>
+ * Render cost needs a GL context and is not measured here.
+ * <p>
+ * Usage: {@code ScalingBenchmark [counts=100,1000,10000,100000] [balls=8] [ticks=1200] [seed=1]}
+ */
+public final class ScalingBenchmark {
+    private static final int WARMUP_TICKS = 300;
+
+    private ScalingBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int[] counts = args.length > 0 ? parseCounts(args[0]) : new int[] {100, 1000, 10000, 100000};
+        int balls = args.length > 1 ? Integer.parseInt(args[1]) : 8;
+        int ticks = args.length > 2 ? Integer.parseInt(args[2]) : 1200;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+
+        System.out.println("layout,bricks,width,height,balls,mode,buildMs,levelHeapKB,"
+                + "meanTickUs,p99TickUs,maxTickUs,bricksLeft,overlaps");
+        for (LevelGenerator.Layout layout : LevelGenerator.Layout.values()) {
+            for (int count : counts) {
+                long heapBefore = BenchSupport.usedHeap();
+                long buildStart = System.nanoTime();
+                LevelData data = LevelGenerator.generate(layout, count, seed);
+                GameWorld world = BenchSupport.newWorld(data, seed);
+                long buildMillis = (System.nanoTime() - buildStart) / 1000000;
+                long levelHeap = Math.max(0L, BenchSupport.usedHeap() - heapBefore);
+
+                for (CollisionMode mode : CollisionMode.values()) {
+                    if (mode != CollisionMode.values()[0]) {
+                        world = BenchSupport.newWorld(data, seed);
+                    }
+                    String stats = run(world, data, mode, balls, ticks, seed);
+                    world.dispose();
+                    System.out.println(layout + "," + data.count + "," + (int) data.width + ","
+                            + (int) data.height + "," + balls + "," + mode + "," + buildMillis + ","
+                            + levelHeap / 1024 + "," + stats);
+                }
+            }
+        }
+    }
+
+    /** Simulates {@code ticks} ticks after a warm-up, returns the timing columns. */
+    private static String run(GameWorld world, LevelData data, CollisionMode mode, int balls, int ticks,
+                              long seed) {
+        world.setCollisionMode(mode);
+        GameInput input = new GameInput();
+        Random random = new RandomXS128(seed);
+        float spawnY = BenchSupport.frontLine(data);
+        long[] samples = new long[ticks];
+        IntArray candidates = new IntArray();
+        int overlaps = 0;
+        for (int tick = -WARMUP_TICKS; tick < ticks; tick++) {
+            BenchSupport.autopilot(world, input);
+            BenchSupport.topUpBalls(world, balls, spawnY, random);
+            long start = System.nanoTime();
+            world.update(BenchSupport.TICK, input);
+            long elapsed = System.nanoTime() - start;
+            if (tick >= 0) {
+                samples[tick] = elapsed;
+                overlaps += countOverlaps(world, candidates);
+            }
+            if (world.isGameWon()) {
+                // Cleared early (small levels): keep measuring on a fresh copy.
+                BenchSupport.reload(world, data, random);
+            }
+        }
+
+        long total = 0;
+        for (long sample : samples) {
+            total += sample;
+        }
+        Arrays.sort(samples);
+        return total / samples.length / 1000 + ","
+                + samples[(int) (samples.length * 0.99f)] / 1000 + ","
+                + samples[samples.length - 1] / 1000 + ","
+                + BenchSupport.remainingBricks(world) + ","
+                + overlaps;
+    }
+
+    /** Balls whose circle overlaps a live brick after the tick (should stay near zero). */
+    private static int countOverlaps(GameWorld world, IntArray candidates) {
+        int overlaps = 0;
+        List<Ball> balls = world.getBalls();
+        List<Brick> bricks = world.getBricks();
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            float radius = ball.getRadius();
+            world.getBrickGrid().query(ball.getX() - radius, ball.getY() - radius,
+                    ball.getX() + radius, ball.getY() + radius, candidates);
+            for (int c = 0; c < candidates.size; c++) {
+                Brick brick = bricks.get(candidates.get(c));
+                if (brick.isDestroyed()) {
+                    continue;
+                }
+                float dx = ball.getX() - MathUtils.clamp(ball.getX(), brick.getX(), brick.getX() + brick.getWidth());
+                float dy = ball.getY() - MathUtils.clamp(ball.getY(), brick.getY(), brick.getY() + brick.getHeight());
+                // Small tolerance: resting contact after a bounce is not a miss
+                if (dx * dx + dy * dy < (radius - 0.5f) * (radius - 0.5f)) {
+                    overlaps++;
+                    break;
+                }
+            }
+        }
+        return overlaps;
+    }
+
+    private static int[] parseCounts(String value) {
+        String[] parts = value.split(",");
+        int[] counts = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            counts[i] = Integer.parseInt(parts[i].trim());
+        }
+        return counts;
+    }
+}
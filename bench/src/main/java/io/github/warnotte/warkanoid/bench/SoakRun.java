@@ -0,0 +1,75 @@
+package io.github.warnotte.warkanoid.bench;
+
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.warnotte.warkanoid.GameInput;
+import io.github.warnotte.warkanoid.GameWorld;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import java.util.Random;
+
+/**
+ * Long headless session: plays generated levels back to back (a new layout and seed
+ * every simulated two minutes, or as soon as one is cleared) and logs the heap left
+ * after each reload, so leaks across level switches show up as a rising trend.
+ * <p>
+ * Usage: {@code SoakRun [minutes=10] [bricks=5000] [balls=8] [seed=1]} (wall-clock minutes)
+ */
+public final class SoakRun {
+    private static final int TICKS_PER_LEVEL = 120 * 60;
+
+    private SoakRun() {
+    }
+
+    public static void main(String[] args) {
+        float minutes = args.length > 0 ? Float.parseFloat(args[0]) : 10f;
+        int bricks = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int balls = args.length > 2 ? Integer.parseInt(args[2]) : 8;
+        long seed = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+
+        LevelGenerator.Layout[] layouts = LevelGenerator.Layout.values();
+        long deadline = System.nanoTime() + (long) (minutes * 60e9);
+        Random random = new RandomXS128(seed);
+        GameInput input = new GameInput();
+        GameWorld world = null;
+        long firstHeap = -1L;
+        long lastHeap = 0L;
+
+        System.out.println("reload,layout,bricks,seed,heapKB,meanTickUs,maxTickUs");
+        for (int reload = 0; System.nanoTime() < deadline; reload++) {
+            LevelGenerator.Layout layout = layouts[reload % layouts.length];
+            long levelSeed = seed + reload;
+            LevelData data = LevelGenerator.generate(layout, bricks, levelSeed);
+            if (world == null) {
+                world = BenchSupport.newWorld(data, levelSeed);
+            } else {
+                BenchSupport.reload(world, data, random);
+            }
+
+            float spawnY = BenchSupport.frontLine(data);
+            long heap = BenchSupport.usedHeap();
+            if (firstHeap < 0L) {
+                firstHeap = heap;
+            }
+            lastHeap = heap;
+
+            long total = 0L;
+            long max = 0L;
+            int ticks = 0;
+            while (ticks < TICKS_PER_LEVEL && !world.isGameWon() && System.nanoTime() < deadline) {
+                BenchSupport.autopilot(world, input);
+                BenchSupport.topUpBalls(world, balls, spawnY, random);
+                long start = System.nanoTime();
+                world.update(BenchSupport.TICK, input);
+                long elapsed = System.nanoTime() - start;
+                total += elapsed;
+                max = Math.max(max, elapsed);
+                ticks++;
+            }
+
+            System.out.println(reload + "," + layout + "," + data.count + "," + levelSeed + ","
+                    + heap / 1024 + "," + (ticks > 0 ? total / ticks / 1000 : 0) + "," + max / 1000);
+        }
+        System.out.println("Heap after first reload: " + firstHeap / 1024 + " KB, after last: "
+                + lastHeap / 1024 + " KB (" + (lastHeap - firstHeap) / 1024 + " KB drift)");
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.warnotte.warkanoid.bench;
+
+import io.github.warnotte.warkanoid.GameInput;
+import io.github.warnotte.warkanoid.GameWorld;
+import io.github.warnotte.warkanoid.JitWarmup;
+import io.github.warnotte.warkanoid.PowerUp;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import io.github.warnotte.warkanoid.level.LevelRepository;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Time to steady state of a fresh JVM, with or without the startup {@link JitWarmup}:
+ * plays level 1 with three balls from the very first tick and reports the last slow tick
+ * (well above the median: interpreted code, compilation), the update time spent up to
+ * it, the cost of the first second of play and the slowest tick. Only meaningful once
+ * per JVM, so run it once per configuration.
+ * <p>
+ * Usage: {@code SteadyStateRun [warmupTicks=0] [ticks=3600] [levelsDir=levels/]}
+ */
+public final class SteadyStateRun {
+    private static final int FIRST_SECOND = 60;
+    /** A tick is slow above {@code SLOW_FACTOR} times the median plus {@code SLOW_MARGIN_NANOS}. */
+    private static final long SLOW_FACTOR = 10L;
+    private static final long SLOW_MARGIN_NANOS = 50000L;
+
+    private SteadyStateRun() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int warmupTicks = args.length > 0 ? Integer.parseInt(args[0]) : 0;
+        int ticks = args.length > 1 ? Integer.parseInt(args[1]) : 3600;
+        String levelsDir = args.length > 2 ? args[2] : LevelRepository.LEVEL_DIR;
+
+        long warmupNanos = 0L;
+        if (warmupTicks > 0) {
+            long start = System.nanoTime();
+            JitWarmup.simulate(warmupTicks, 1L);
+            warmupNanos = System.nanoTime() - start;
+        }
+
+        List<LevelData> levels = BenchSupport.builtInLevels(Paths.get(levelsDir));
+        LevelData level = levels.isEmpty() ? LevelGenerator.generate(LevelGenerator.Layout.GRID, 60, 1L) : levels.get(0);
+        GameWorld world = BenchSupport.newWorld(level, 1L);
+        GameInput input = new GameInput();
+        long[] tickNanos = new long[ticks];
+        for (int tick = 0; tick < ticks; tick++) {
+            BenchSupport.autopilot(world, input);
+            if (tick == 1) {
+                input.powerUp = PowerUp.Type.MULTI_BALL;
+            }
+            long start = System.nanoTime();
+            world.update(BenchSupport.TICK, input);
+            tickNanos[tick] = System.nanoTime() - start;
+        }
+
+        // Steady cost: the median tick; a tick is slow (interpreted code, compilation) well above it
+        long[] sorted = tickNanos.clone();
+        Arrays.sort(sorted);
+        long steady = sorted[ticks / 2];
+        long slowNanos = steady * SLOW_FACTOR + SLOW_MARGIN_NANOS;
+        int settled = 0;
+        int slowTicks = 0;
+        for (int i = 0; i < ticks; i++) {
+            if (tickNanos[i] > slowNanos) {
+                settled = i + 1;
+                slowTicks++;
+            }
+        }
+        long beforeSettled = 0L;
+        for (int i = 0; i < settled; i++) {
+            beforeSettled += tickNanos[i];
+        }
+        long firstSecond = 0L;
+        for (int i = 0; i < Math.min(FIRST_SECOND, ticks); i++) {
+            firstSecond += tickNanos[i];
+        }
+
+        System.out.println("warmupTicks,warmupMs,settledAtTick,slowTicks,updateMsBeforeSettled,firstSecondMs,maxTickUs,medianTickUs");
+        System.out.println(warmupTicks + "," + String.format("%.1f", warmupNanos / 1e6) + "," + settled + "," + slowTicks + ","
+                + String.format("%.2f", beforeSettled / 1e6) + "," + String.format("%.2f", firstSecond / 1e6) + ","
+                + String.format("%.1f", sorted[ticks - 1] / 1e3) + "," + String.format("%.2f", steady / 1e3));
+    }
+}
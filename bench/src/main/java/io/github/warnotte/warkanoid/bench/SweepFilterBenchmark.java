@@ -0,0 +1,149 @@
+package io.github.warnotte.warkanoid.bench;
+
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.warnotte.warkanoid.Ball;
+import io.github.warnotte.warkanoid.Brick;
+import io.github.warnotte.warkanoid.BrickGrid;
+import io.github.warnotte.warkanoid.SweepFilter;
+import io.github.warnotte.warkanoid.SweepFilters;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH: brick narrow phase of one ball step (one radius long, starting clear of bricks)
+ * on a generated grid of game-sized bricks (68x20), for 256 random steps per operation.
+ * {@code exact} runs the ROBUST test on every grid candidate;
+ * {@code scalarFilter} / {@code vectorFilter} only time the batched {@link SweepFilter};
+ * {@code filteredExact} is the filter followed by the exact test on the survivors, what
+ * {@code GameWorld} does when a filter is set. Each step starts in a hole cleared in a
+ * dense field; the ball radius sets the candidate count, printed by the setup (about 6,
+ * 8, 13 and 27 per step for 8, 16, 32 and 64).
+ * <p>
+ * {@code vectorFilter} only differs from {@code scalarFilter} on JDK 17+ with
+ * {@code --add-modules jdk.incubator.vector} (the {@code jmh} task adds it).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SweepFilterBenchmark {
+    private static final int STEPS = 256;
+
+    /** Ball radius; bigger balls (and longer steps) get more grid candidates. */
+    @Param({"8", "16", "32", "64"})
+    public float radius;
+
+    private List<Brick> bricks;
+    private BrickGrid grid;
+    private final SweepFilter vector = SweepFilters.best();
+    private final float[] fromX = new float[STEPS];
+    private final float[] fromY = new float[STEPS];
+    private final float[] toX = new float[STEPS];
+    private final float[] toY = new float[STEPS];
+    private final IntArray[] candidates = new IntArray[STEPS];
+    private final IntArray kept = new IntArray();
+    private Ball ball;
+
+    @Setup
+    public void setUp() {
+        Random random = new RandomXS128(1L);
+        LevelGenerator.Params params = new LevelGenerator.Params(LevelGenerator.Layout.GRID, 20000, 1L);
+        LevelData data = LevelGenerator.generate(params);
+        bricks = data.createBricks(random);
+        grid = new BrickGrid(bricks);
+        ball = new Ball(0f, 0f, radius);
+        int total = 0;
+        for (int s = 0; s < STEPS; s++) {
+            // Like in play, a step starts clear of every live brick: in a hole of the field
+            fromX[s] = random.nextFloat() * data.width;
+            fromY[s] = random.nextFloat() * data.height;
+            clearHole(fromX[s], fromY[s]);
+            float angle = random.nextFloat() * MathUtils.PI2;
+            toX[s] = fromX[s] + MathUtils.cos(angle) * radius;
+            toY[s] = fromY[s] + MathUtils.sin(angle) * radius;
+            candidates[s] = new IntArray();
+            // Same box as GameWorld.queryStep
+            grid.query(Math.min(fromX[s], toX[s]) - radius - 1f, Math.min(fromY[s], toY[s]) - radius - 1f,
+                       Math.max(fromX[s], toX[s]) + radius + 1f, Math.max(fromY[s], toY[s]) + radius + 1f,
+                       candidates[s]);
+            total += candidates[s].size;
+        }
+        System.out.println("radius " + radius + ": " + (float) total / STEPS + " candidates per step");
+    }
+
+    @Benchmark
+    public void exact(Blackhole blackhole) {
+        for (int s = 0; s < STEPS; s++) {
+            blackhole.consume(firstHit(candidates[s], s));
+        }
+    }
+
+    @Benchmark
+    public void scalarFilter(Blackhole blackhole) {
+        for (int s = 0; s < STEPS; s++) {
+            SweepFilter.SCALAR.filter(grid, candidates[s], fromX[s], fromY[s], toX[s], toY[s], radius + 1f, kept);
+            blackhole.consume(kept.size);
+        }
+    }
+
+    @Benchmark
+    public void vectorFilter(Blackhole blackhole) {
+        for (int s = 0; s < STEPS; s++) {
+            vector.filter(grid, candidates[s], fromX[s], fromY[s], toX[s], toY[s], radius + 1f, kept);
+            blackhole.consume(kept.size);
+        }
+    }
+
+    @Benchmark
+    public void filteredExact(Blackhole blackhole) {
+        for (int s = 0; s < STEPS; s++) {
+            vector.filter(grid, candidates[s], fromX[s], fromY[s], toX[s], toY[s], radius + 1f, kept);
+            blackhole.consume(firstHit(kept, s));
+        }
+    }
+
+    /** Destroys the bricks under the ball; they stay in the grid like bricks broken in play. */
+    private void clearHole(float x, float y) {
+        for (int i = 0; i < bricks.size(); i++) {
+            Brick brick = bricks.get(i);
+            float dx = x - MathUtils.clamp(x, brick.getX(), brick.getX() + brick.getWidth());
+            float dy = y - MathUtils.clamp(y, brick.getY(), brick.getY() + brick.getHeight());
+            if (dx * dx + dy * dy < radius * radius) {
+                brick.destroy();
+            }
+        }
+    }
+
+    /** The serial ROBUST loop: first candidate that deflects the ball ends the step. */
+    private int firstHit(IntArray list, int s) {
+        for (int c = 0; c < list.size; c++) {
+            // Velocity is cleared while placing the ball so no trail point is recorded
+            ball.setVelocity(0f, 0f);
+            ball.setPosition(toX[s], toY[s]);
+            ball.setVelocity(toX[s] - fromX[s], toY[s] - fromY[s]);
+            if (ball.bounceOffBrickRobust(bricks.get(list.get(c)), fromX[s], fromY[s])) {
+                return list.get(c);
+            }
+        }
+        return -1;
+    }
+}
@@ -17,6 +17,20 @@ public class Ball {
     private final Color trailTint = new Color(Color.WHITE);
     private final Color ballColor = new Color(Color.WHITE);
     private static final float COLLISION_SEPARATION = 0.001f;
+    private final CollisionResult collisionResult = new CollisionResult();
+    // Position at the start of the current tick, for swept ball-ball tests
+    private float tickStartX;
+    private float tickStartY;
+    // CollisionMode.FIXED: 16.16 position and velocity (see FixedPhysics). They stay the
+    // reference while the floats still hold what was last exported from them.
+    private int fixedX;
+    private int fixedY;
+    private int fixedVX;
+    private int fixedVY;
+    private float exportedX = Float.NaN;
+    private float exportedY = Float.NaN;
+    private float exportedVX = Float.NaN;
+    private float exportedVY = Float.NaN;
 
     public Ball(float x, float y, float radius) {
         this.bounds = new Circle(x, y, radius);
@@ -115,6 +129,88 @@ public class Ball {
         bounds.setPosition(x, y);
     }
 
+    public void markTickStart() {
+        tickStartX = bounds.x;
+        tickStartY = bounds.y;
+    }
+
+    public float getTickStartX() {
+        return tickStartX;
+    }
+
+    public float getTickStartY() {
+        return tickStartY;
+    }
+
+    /**
+     * Picks up game-side changes (launch, power-ups, sticky release, ball-ball hits) made to
+     * the floats since the last {@link #exportFixed()}; untouched values keep their exact
+     * fixed-point state instead of a float round trip.
+     */
+    void importFixed() {
+        if (bounds.x != exportedX || bounds.y != exportedY) {
+            fixedX = FixedPoint.fromFloat(bounds.x);
+            fixedY = FixedPoint.fromFloat(bounds.y);
+        }
+        if (velocity.x != exportedVX || velocity.y != exportedVY) {
+            fixedVX = FixedPoint.fromFloat(velocity.x);
+            fixedVY = FixedPoint.fromFloat(velocity.y);
+        }
+    }
+
+    /** Writes the fixed-point state back to the floats used by rendering and the rest of the game. */
+    void exportFixed() {
+        setPosition(FixedPoint.toFloat(fixedX), FixedPoint.toFloat(fixedY));
+        velocity.set(FixedPoint.toFloat(fixedVX), FixedPoint.toFloat(fixedVY));
+        exportedX = bounds.x;
+        exportedY = bounds.y;
+        exportedVX = velocity.x;
+        exportedVY = velocity.y;
+    }
+
+    // 16.16 state for FixedPhysics, between importFixed() and exportFixed()
+    int getFixedX() {
+        return fixedX;
+    }
+
+    void setFixedX(int fixedX) {
+        this.fixedX = fixedX;
+    }
+
+    int getFixedY() {
+        return fixedY;
+    }
+
+    void setFixedY(int fixedY) {
+        this.fixedY = fixedY;
+    }
+
+    int getFixedVX() {
+        return fixedVX;
+    }
+
+    void setFixedVX(int fixedVX) {
+        this.fixedVX = fixedVX;
+    }
+
+    int getFixedVY() {
+        return fixedVY;
+    }
+
+    void setFixedVY(int fixedVY) {
+        this.fixedVY = fixedVY;
+    }
+
+    /** Velocity from a speed and a direction in degrees through the fixed-point sine table. */
+    public void setFixedVelocity(float speed, float degrees) {
+        importFixed();
+        int fixedSpeed = FixedPoint.fromFloat(speed);
+        int fixedDegrees = FixedPoint.fromFloat(degrees);
+        fixedVX = FixedPoint.mul(fixedSpeed, FixedPoint.cosDegrees(fixedDegrees));
+        fixedVY = FixedPoint.mul(fixedSpeed, FixedPoint.sinDegrees(fixedDegrees));
+        exportFixed();
+    }
+
     public void updateTrail(float deltaTime) {
         trail.update(deltaTime);
     }
@@ -125,32 +221,58 @@ public class Ball {
 
     public boolean checkCollisionWithPaddle(Paddle paddle, boolean stickyMode) {
         if (Intersector.overlaps(bounds, paddle.getBounds())) {
-            if (stickyMode && velocity.y < 0) { // Only stick if ball is going down
-                // Stop the ball and position it on paddle - keep X position where it hit
-                velocity.set(0, 0);
-                setPosition(bounds.x, paddle.getY() + paddle.getHeight() + bounds.radius);
-                // Don't change X position - keep it where the ball hit
-                return true; // Signal that ball is now stuck
-            } else {
-                // Normal collision response
-                // Calculate hit position on paddle (0.0 = left edge, 1.0 = right edge)
-                float hitPos = (bounds.x - paddle.getX()) / paddle.getWidth();
-                hitPos = Math.max(0, Math.min(1, hitPos)); // Clamp between 0 and 1
+            bounceOffPaddle(paddle, stickyMode);
+            return true;
+        }
+        return false;
+    }
 
-                // Calculate new velocity based on hit position
-                float angle = (hitPos - 0.5f) * 120f; // -60 to +60 degrees
-                float speedMagnitude = (float) Math.sqrt(velocity.x * velocity.x + velocity.y * velocity.y);
+    /**
+     * Paddle response without the overlap test (the Box2D engine already knows about the
+     * contact): sticks the ball or sends it up at an angle set by where it hit.
+     */
+    public void bounceOffPaddle(Paddle paddle, boolean stickyMode) {
+        if (stickyMode && velocity.y < 0) { // Only stick if ball is going down
+            // Stop the ball and position it on paddle - keep X position where it hit
+            velocity.set(0, 0);
+            setPosition(bounds.x, paddle.getY() + paddle.getHeight() + bounds.radius);
+            // Don't change X position - keep it where the ball hit
+        } else {
+            // Normal collision response
+            // Calculate hit position on paddle (0.0 = left edge, 1.0 = right edge)
+            float hitPos = (bounds.x - paddle.getX()) / paddle.getWidth();
+            hitPos = Math.max(0, Math.min(1, hitPos)); // Clamp between 0 and 1
 
-                velocity.x = (float) (speedMagnitude * Math.sin(Math.toRadians(angle)));
-                velocity.y = Math.abs(speedMagnitude * (float) Math.cos(Math.toRadians(angle))); // Always up
+            // Calculate new velocity based on hit position
+            float angle = (hitPos - 0.5f) * 120f; // -60 to +60 degrees
+            float speedMagnitude = (float) Math.sqrt(velocity.x * velocity.x + velocity.y * velocity.y);
 
-                // Move ball above paddle to prevent sticking
-                setPosition(bounds.x, paddle.getY() + paddle.getHeight() + bounds.radius);
-            }
+            velocity.x = (float) (speedMagnitude * Math.sin(Math.toRadians(angle)));
+            velocity.y = Math.abs(speedMagnitude * (float) Math.cos(Math.toRadians(angle))); // Always up
 
-            return true;
+            // Move ball above paddle to prevent sticking
+            setPosition(bounds.x, paddle.getY() + paddle.getHeight() + bounds.radius);
         }
-        return false;
+    }
+
+    /**
+     * Swept paddle test over a whole frame, done in the paddle's frame of reference: the
+     * ball moves by its velocity while the paddle goes from {@link Paddle#getPreviousX()}
+     * to its current X, so neither a fast ball nor a paddle snapped to the mouse can jump
+     * over the other. A hit goes through the usual {@link #bounceOffPaddle} response.
+     * A ball already overlapping the paddle is left to {@link #checkCollisionWithPaddle}.
+     */
+    public boolean sweepCollisionWithPaddle(Paddle paddle, boolean stickyMode, float deltaTime) {
+        float fromX = bounds.x - paddle.getPreviousX();
+        float toX = bounds.x + velocity.x * deltaTime - paddle.getX();
+        float toY = bounds.y + velocity.y * deltaTime;
+        if (!sweepCircleAgainstRect(0f, paddle.getY(), paddle.getWidth(), paddle.getHeight(),
+                fromX, bounds.y, toX, toY, collisionResult)) {
+            return false;
+        }
+        setPosition(paddle.getX() + collisionResult.posX, collisionResult.posY);
+        bounceOffPaddle(paddle, stickyMode);
+        return true;
     }
 
     // Backward compatibility
@@ -160,9 +282,20 @@ public class Ball {
 
     // OLD DISCRETE COLLISION - kept for comparison
     public int checkCollisionWithBrick(Brick brick) {
-        if (!brick.isDestroyed() && Intersector.overlaps(bounds, brick.getBounds())) {
+        if (bounceOffBrick(brick)) {
             boolean destroyed = brick.hit();
+            return destroyed ? brick.getScore() : 0;
+        }
+        return 0;
+    }
 
+    /**
+     * Collision response only: the bounceOffBrick* methods move and deflect the ball but
+     * leave the brick untouched, so balls can be stepped in parallel and their brick hits
+     * applied afterwards. The checkCollisionWithBrick* variants also hit the brick.
+     */
+    public boolean bounceOffBrick(Brick brick) {
+        if (!brick.isDestroyed() && Intersector.overlaps(bounds, brick.getBounds())) {
             // Better collision response - determine which side was hit
             float brickCenterX = brick.getX() + brick.getWidth() / 2f;
             float brickCenterY = brick.getY() + brick.getHeight() / 2f;
@@ -182,15 +315,24 @@ public class Ball {
                 reverseY();
             }
 
-            return destroyed ? brick.getScore() : 0;
+            return true;
         }
-        return 0;
+        return false;
     }
 
     // NEW CONTINUOUS COLLISION DETECTION (Swept Circle-AABB)
     public int checkCollisionWithBrickSwept(Brick brick, float prevX, float prevY) {
+        if (bounceOffBrickSwept(brick, prevX, prevY)) {
+            // Hit the brick
+            boolean destroyed = brick.hit();
+            return destroyed ? brick.getScore() : 0;
+        }
+        return 0;
+    }
+
+    public boolean bounceOffBrickSwept(Brick brick, float prevX, float prevY) {
         if (brick.isDestroyed()) {
-            return 0;
+            return false;
         }
 
         // Note: Indestructible bricks still need collision response, just don't take damage
@@ -213,7 +355,7 @@ public class Ball {
         if (Math.abs(dx) < 0.0001f) {
             // Ray parallel to X axis
             if (prevX < expandedLeft || prevX > expandedRight) {
-                return 0; // No collision possible
+                return false; // No collision possible
             }
         } else {
             float t1 = (expandedLeft - prevX) / dx;
@@ -221,14 +363,14 @@ public class Ball {
             if (t1 > t2) { float temp = t1; t1 = t2; t2 = temp; }
             tNear = Math.max(tNear, t1);
             tFar = Math.min(tFar, t2);
-            if (tNear > tFar) return 0;
+            if (tNear > tFar) return false;
         }
 
         // Y axis slab
         if (Math.abs(dy) < 0.0001f) {
             // Ray parallel to Y axis
             if (prevY < expandedBottom || prevY > expandedTop) {
-                return 0; // No collision possible
+                return false; // No collision possible
             }
         } else {
             float t1 = (expandedBottom - prevY) / dy;
@@ -236,18 +378,18 @@ public class Ball {
             if (t1 > t2) { float temp = t1; t1 = t2; t2 = temp; }
             tNear = Math.max(tNear, t1);
             tFar = Math.min(tFar, t2);
-            if (tNear > tFar) return 0;
+            if (tNear > tFar) return false;
         }
 
         // Check if collision happened during this frame (t in [0, 1])
         if (tNear > 1.0f || tFar < 0.0f) {
-            return 0; // No collision this frame
+            return false; // No collision this frame
         }
 
         // Ignore collisions that are too close to start (already overlapping/just separated)
         float minT = 0.001f; // Minimum t to consider a valid collision
         if (tNear < minT) {
-            return 0; // Too close, ignore to prevent multiple hits
+            return false; // Too close, ignore to prevent multiple hits
         }
 
         // Collision occurred!
@@ -299,26 +441,30 @@ public class Ball {
         float safeY = prevY + dy * backupT;
 
         setPosition(safeX, safeY);
-
-        // Hit the brick
-        boolean destroyed = brick.hit();
-        return destroyed ? brick.getScore() : 0;
+        return true;
     }
 
     public int checkCollisionWithBrickRobust(Brick brick, float prevX, float prevY) {
+        if (bounceOffBrickRobust(brick, prevX, prevY)) {
+            boolean destroyed = brick.hit();
+            return destroyed ? brick.getScore() : 0;
+        }
+        return 0;
+    }
+
+    public boolean bounceOffBrickRobust(Brick brick, float prevX, float prevY) {
         if (brick.isDestroyed()) {
-            return 0;
+            return false;
         }
 
-        CollisionResult result = sweepCircleAgainstBrick(brick, prevX, prevY);
-        if (!result.hit) {
+        CollisionResult result = collisionResult;
+        if (!sweepCircleAgainstBrick(brick, prevX, prevY, result)) {
+            // Only reached when the step started inside the brick (or ends inside it
+            // without moving), the sweep above is exact otherwise
             if (!circleIntersectsBrick(bounds.x, bounds.y, bounds.radius, brick)) {
-                return 0;
-            }
-            result = resolvePenetrationAgainstBrick(brick);
-            if (!result.hit) {
-                return 0;
+                return false;
             }
+            resolvePenetrationAgainstBrick(brick, result);
         }
 
         setPosition(result.posX, result.posY);
@@ -328,36 +474,47 @@ public class Ball {
             velocity.x -= 2f * dot * result.normalX;
             velocity.y -= 2f * dot * result.normalY;
         }
+        return true;
+    }
 
-        boolean destroyed = brick.hit();
-        return destroyed ? brick.getScore() : 0;
+    private boolean sweepCircleAgainstBrick(Brick brick, float prevX, float prevY, CollisionResult out) {
+        return sweepCircleAgainstRect(brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight(),
+                prevX, prevY, bounds.x, bounds.y, out);
     }
 
-    private CollisionResult sweepCircleAgainstBrick(Brick brick, float prevX, float prevY) {
-        float dx = bounds.x - prevX;
-        float dy = bounds.y - prevY;
+    /**
+     * Exact swept test of the ball center from (prevX, prevY) to (toX, toY) against the
+     * rectangle grown by the radius, i.e. a rectangle with rounded corners.
+     * A slab test against the grown box gives the entry time; if the entry point lies
+     * in a corner square, the real contact is on the corner circle and comes from a
+     * ray-circle test instead (a ray missing that circle misses the rectangle entirely).
+     * Writes the resting position and normal to {@code out} in the same pass.
+     */
+    private boolean sweepCircleAgainstRect(float left, float bottom, float rectWidth, float rectHeight,
+                                           float prevX, float prevY, float toX, float toY, CollisionResult out) {
+        float dx = toX - prevX;
+        float dy = toY - prevY;
 
         if (Math.abs(dx) < 0.000001f && Math.abs(dy) < 0.000001f) {
-            return CollisionResult.noHit();
+            return false;
         }
 
-        float expandedLeft = brick.getX() - bounds.radius;
-        float expandedRight = brick.getX() + brick.getWidth() + bounds.radius;
-        float expandedBottom = brick.getY() - bounds.radius;
-        float expandedTop = brick.getY() + brick.getHeight() + bounds.radius;
+        float radius = bounds.radius;
+        float right = left + rectWidth;
+        float top = bottom + rectHeight;
 
         float entryX;
         float exitX;
         if (Math.abs(dx) < 0.000001f) {
-            if (prevX < expandedLeft || prevX > expandedRight) {
-                return CollisionResult.noHit();
+            if (prevX < left - radius || prevX > right + radius) {
+                return false;
             }
             entryX = Float.NEGATIVE_INFINITY;
             exitX = Float.POSITIVE_INFINITY;
         } else {
             float invDx = 1f / dx;
-            float t1 = (expandedLeft - prevX) * invDx;
-            float t2 = (expandedRight - prevX) * invDx;
+            float t1 = (left - radius - prevX) * invDx;
+            float t2 = (right + radius - prevX) * invDx;
             entryX = Math.min(t1, t2);
             exitX = Math.max(t1, t2);
         }
@@ -365,149 +522,84 @@ public class Ball {
         float entryY;
         float exitY;
         if (Math.abs(dy) < 0.000001f) {
-            if (prevY < expandedBottom || prevY > expandedTop) {
-                return CollisionResult.noHit();
+            if (prevY < bottom - radius || prevY > top + radius) {
+                return false;
             }
             entryY = Float.NEGATIVE_INFINITY;
             exitY = Float.POSITIVE_INFINITY;
         } else {
             float invDy = 1f / dy;
-            float t1 = (expandedBottom - prevY) * invDy;
-            float t2 = (expandedTop - prevY) * invDy;
+            float t1 = (bottom - radius - prevY) * invDy;
+            float t2 = (top + radius - prevY) * invDy;
             entryY = Math.min(t1, t2);
             exitY = Math.max(t1, t2);
         }
 
         float entryTime = Math.max(entryX, entryY);
         float exitTime = Math.min(exitX, exitY);
-
         if (entryTime > exitTime || exitTime < 0f || entryTime > 1f) {
-            return CollisionResult.noHit();
+            return false;
         }
 
-        float collisionT = MathUtils.clamp(entryTime, 0f, 1f);
-        float contactX = prevX + dx * collisionT;
-        float contactY = prevY + dy * collisionT;
-
+        // A negative entry time means the step started inside the grown box: that is a
+        // penetration unless the start is in a corner square outside the corner circle
+        float t = Math.max(entryTime, 0f);
+        float contactX = prevX + dx * t;
+        float contactY = prevY + dy * t;
         float normalX;
         float normalY;
-        float axisEpsilon = 0.0001f;
-        if (Math.abs(entryX - entryY) <= axisEpsilon) {
-            float brickCenterX = brick.getX() + brick.getWidth() / 2f;
-            float brickCenterY = brick.getY() + brick.getHeight() / 2f;
-            float deltaX = contactX - brickCenterX;
-            float deltaY = contactY - brickCenterY;
-            float len = (float) Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-            if (len > 0.0001f) {
-                normalX = deltaX / len;
-                normalY = deltaY / len;
-            } else {
-                normalX = 0f;
-                normalY = 1f;
+
+        if (contactX >= left && contactX <= right) {
+            // Top or bottom edge
+            if (entryTime < 0f) {
+                return false;
             }
-        } else if (entryX > entryY) {
-            normalX = dx > 0f ? -1f : 1f;
-            normalY = 0f;
-        } else {
             normalX = 0f;
             normalY = dy > 0f ? -1f : 1f;
-        }
-
-        float length = (float) Math.sqrt(normalX * normalX + normalY * normalY);
-        if (length > 0f) {
-            normalX /= length;
-            normalY /= length;
+        } else if (contactY >= bottom && contactY <= top) {
+            // Left or right edge
+            if (entryTime < 0f) {
+                return false;
+            }
+            normalX = dx > 0f ? -1f : 1f;
+            normalY = 0f;
         } else {
-            normalX = 0f;
-            normalY = 1f;
+            // Corner square: intersect the ray with the circle around the brick corner
+            float cornerX = contactX < left ? left : right;
+            float cornerY = contactY < bottom ? bottom : top;
+            float mx = prevX - cornerX;
+            float my = prevY - cornerY;
+            float a = dx * dx + dy * dy;
+            float b = mx * dx + my * dy;
+            float c = mx * mx + my * my - radius * radius;
+            float discriminant = b * b - a * c;
+            if (c < 0f || discriminant < 0f) {
+                return false;
+            }
+            t = (-b - (float) Math.sqrt(discriminant)) / a;
+            if (t < 0f || t > 1f) {
+                return false;
+            }
+            contactX = prevX + dx * t;
+            contactY = prevY + dy * t;
+            normalX = (contactX - cornerX) / radius;
+            normalY = (contactY - cornerY) / radius;
         }
 
-        float resolvedX = contactX + normalX * COLLISION_SEPARATION;
-        float resolvedY = contactY + normalY * COLLISION_SEPARATION;
-        return new CollisionResult(true, resolvedX, resolvedY, normalX, normalY);
+        out.set(contactX + normalX * COLLISION_SEPARATION, contactY + normalY * COLLISION_SEPARATION,
+                normalX, normalY);
+        return true;
     }
 
-    private CollisionResult resolvePenetrationAgainstBrick(Brick brick) {
+    /** Pushes an overlapping ball out along the axis of least penetration (caller checked the overlap). */
+    private void resolvePenetrationAgainstBrick(Brick brick, CollisionResult out) {
         float cx = bounds.x;
         float cy = bounds.y;
-
-        if (!circleIntersectsBrick(cx, cy, bounds.radius, brick)) {
-            return CollisionResult.noHit();
-        }
-
-        OverlapInfo overlap = computeOverlapResolution(cx, cy, brick);
-        float nx = overlap.normalX;
-        float ny = overlap.normalY;
-        float depth = overlap.depth;
-
-        if (depth > 0f && (nx != 0f || ny != 0f)) {
-            float length = (float) Math.sqrt(nx * nx + ny * ny);
-            if (length > 0f) {
-                nx /= length;
-                ny /= length;
-            } else {
-                nx = 0f;
-                ny = 1f;
-            }
-            float resolvedX = cx + nx * (depth + COLLISION_SEPARATION);
-            float resolvedY = cy + ny * (depth + COLLISION_SEPARATION);
-            return new CollisionResult(true, resolvedX, resolvedY, nx, ny);
-        }
-
-        float brickCenterX = brick.getX() + brick.getWidth() / 2f;
-        float brickCenterY = brick.getY() + brick.getHeight() / 2f;
-        float deltaX = cx - brickCenterX;
-        float deltaY = cy - brickCenterY;
-        if (Math.abs(deltaX) > Math.abs(deltaY)) {
-            nx = Math.signum(deltaX);
-            ny = 0f;
-        } else {
-            nx = 0f;
-            ny = Math.signum(deltaY);
-        }
-        if (nx == 0f && ny == 0f) {
-            nx = 0f;
-            ny = 1f;
-        }
-        float resolvedXFallback = cx + nx * COLLISION_SEPARATION;
-        float resolvedYFallback = cy + ny * COLLISION_SEPARATION;
-        return new CollisionResult(true, resolvedXFallback, resolvedYFallback, nx, ny);
-    }
-
-    private static class CollisionResult {
-        final boolean hit;
-        final float posX;
-        final float posY;
-        final float normalX;
-        final float normalY;
-
-        CollisionResult(boolean hit, float posX, float posY, float normalX, float normalY) {
-            this.hit = hit;
-            this.posX = posX;
-            this.posY = posY;
-            this.normalX = normalX;
-            this.normalY = normalY;
-        }
-
-        static CollisionResult noHit() {
-            return new CollisionResult(false, 0f, 0f, 0f, 0f);
-        }
-    }
-
-    private boolean circleIntersectsBrick(float cx, float cy, float radius, Brick brick) {
-        float closestX = MathUtils.clamp(cx, brick.getX(), brick.getX() + brick.getWidth());
-        float closestY = MathUtils.clamp(cy, brick.getY(), brick.getY() + brick.getHeight());
-        float dx = cx - closestX;
-        float dy = cy - closestY;
-        return dx * dx + dy * dy <= radius * radius;
-    }
-
-    private OverlapInfo computeOverlapResolution(float cx, float cy, Brick brick) {
+        float radius = bounds.radius;
         float left = brick.getX();
         float right = left + brick.getWidth();
         float bottom = brick.getY();
         float top = bottom + brick.getHeight();
-        float radius = bounds.radius;
 
         float overlapLeft = (cx + radius) - left;
         float overlapRight = right - (cx - radius);
@@ -515,49 +607,72 @@ public class Ball {
         float overlapTop = top - (cy - radius);
 
         float depth = Float.POSITIVE_INFINITY;
-        float normalX = 0f;
-        float normalY = 0f;
-
+        float nx = 0f;
+        float ny = 0f;
         if (overlapLeft > 0f && overlapLeft < depth) {
             depth = overlapLeft;
-            normalX = -1f;
-            normalY = 0f;
+            nx = -1f;
+            ny = 0f;
         }
         if (overlapRight > 0f && overlapRight < depth) {
             depth = overlapRight;
-            normalX = 1f;
-            normalY = 0f;
+            nx = 1f;
+            ny = 0f;
         }
         if (overlapBottom > 0f && overlapBottom < depth) {
             depth = overlapBottom;
-            normalX = 0f;
-            normalY = -1f;
+            nx = 0f;
+            ny = -1f;
         }
         if (overlapTop > 0f && overlapTop < depth) {
             depth = overlapTop;
-            normalX = 0f;
-            normalY = 1f;
+            nx = 0f;
+            ny = 1f;
         }
 
-        if (!Float.isFinite(depth) || depth == Float.POSITIVE_INFINITY) {
-            return new OverlapInfo(0f, 0f, 0f);
+        if (depth != Float.POSITIVE_INFINITY) {
+            out.set(cx + nx * (depth + COLLISION_SEPARATION), cy + ny * (depth + COLLISION_SEPARATION), nx, ny);
+            return;
         }
 
-        return new OverlapInfo(normalX, normalY, depth);
+        float deltaX = cx - (left + brick.getWidth() / 2f);
+        float deltaY = cy - (bottom + brick.getHeight() / 2f);
+        if (Math.abs(deltaX) > Math.abs(deltaY)) {
+            nx = Math.signum(deltaX);
+            ny = 0f;
+        } else {
+            nx = 0f;
+            ny = Math.signum(deltaY);
+        }
+        if (nx == 0f && ny == 0f) {
+            ny = 1f;
+        }
+        out.set(cx + nx * COLLISION_SEPARATION, cy + ny * COLLISION_SEPARATION, nx, ny);
     }
 
-    private static class OverlapInfo {
-        final float normalX;
-        final float normalY;
-        final float depth;
+    /** Resting position and normal of a brick contact, reused by each ball (one thread per ball). */
+    private static class CollisionResult {
+        float posX;
+        float posY;
+        float normalX;
+        float normalY;
 
-        OverlapInfo(float normalX, float normalY, float depth) {
+        void set(float posX, float posY, float normalX, float normalY) {
+            this.posX = posX;
+            this.posY = posY;
             this.normalX = normalX;
             this.normalY = normalY;
-            this.depth = depth;
         }
     }
 
+    private boolean circleIntersectsBrick(float cx, float cy, float radius, Brick brick) {
+        float closestX = MathUtils.clamp(cx, brick.getX(), brick.getX() + brick.getWidth());
+        float closestY = MathUtils.clamp(cy, brick.getY(), brick.getY() + brick.getHeight());
+        float dx = cx - closestX;
+        float dy = cy - closestY;
+        return dx * dx + dy * dy <= radius * radius;
+    }
+
     public void launch() {
         velocity.set(200f, 200f);
     }
@@ -0,0 +1,182 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.utils.ObjectSet;
+import java.util.List;
+
+/**
+ * Optional elastic ball-ball collisions. Broadphase is sweep-and-prune on X over each
+ * ball's swept box for the tick (tick start to current position). The sorted order is
+ * kept from one tick to the next and repaired with an insertion sort, which is close to
+ * linear because balls barely change order between ticks.
+ * <p>
+ * Narrowphase treats each ball as moving in a straight line from its tick start (see
+ * {@link Ball#markTickStart()}) and finds the earliest time the circles touch. Both balls
+ * are placed at that contact and exchange the normal part of their velocities (equal
+ * masses). Sticky or stopped balls are ignored.
+ */
+public class BallCollider {
+    private Ball[] sorted = new Ball[16];
+    private float[] minX = new float[16];
+    private int size;
+    private final ObjectSet<Ball> members = new ObjectSet<>();
+    private final ObjectSet<Ball> current = new ObjectSet<>();
+    private int pairTests;
+
+    /** Resolves collisions between the balls of this tick, returns the number of contacts. */
+    public int resolve(List<Ball> balls) {
+        syncMembers(balls);
+
+        // Refresh the keys, then repair the order (insertion sort, stable)
+        for (int i = 0; i < size; i++) {
+            Ball ball = sorted[i];
+            minX[i] = Math.min(ball.getTickStartX(), ball.getX()) - ball.getRadius();
+        }
+        for (int i = 1; i < size; i++) {
+            Ball ball = sorted[i];
+            float key = minX[i];
+            int j = i - 1;
+            while (j >= 0 && minX[j] > key) {
+                sorted[j + 1] = sorted[j];
+                minX[j + 1] = minX[j];
+                j--;
+            }
+            sorted[j + 1] = ball;
+            minX[j + 1] = key;
+        }
+
+        pairTests = 0;
+        int contacts = 0;
+        for (int i = 0; i < size; i++) {
+            Ball a = sorted[i];
+            if (!a.isMoving()) {
+                continue;
+            }
+            float maxXa = Math.max(a.getTickStartX(), a.getX()) + a.getRadius();
+            float minYa = Math.min(a.getTickStartY(), a.getY()) - a.getRadius();
+            float maxYa = Math.max(a.getTickStartY(), a.getY()) + a.getRadius();
+            for (int j = i + 1; j < size && minX[j] <= maxXa; j++) {
+                Ball b = sorted[j];
+                if (!b.isMoving()) {
+                    continue;
+                }
+                float minYb = Math.min(b.getTickStartY(), b.getY()) - b.getRadius();
+                float maxYb = Math.max(b.getTickStartY(), b.getY()) + b.getRadius();
+                if (maxYb < minYa || minYb > maxYa) {
+                    continue;
+                }
+                pairTests++;
+                if (collide(a, b)) {
+                    contacts++;
+                }
+            }
+        }
+        return contacts;
+    }
+
+    private void syncMembers(List<Ball> balls) {
+        current.clear();
+        for (int i = 0; i < balls.size(); i++) {
+            current.add(balls.get(i));
+        }
+        // Drop balls that left, keeping the survivors in their sorted order
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (current.contains(sorted[i])) {
+                sorted[kept++] = sorted[i];
+            } else {
+                members.remove(sorted[i]);
+            }
+        }
+        for (int i = kept; i < size; i++) {
+            sorted[i] = null;
+        }
+        size = kept;
+        // Append newcomers, the insertion sort moves them into place
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            if (members.add(ball)) {
+                if (size == sorted.length) {
+                    Ball[] grown = new Ball[size * 2];
+                    System.arraycopy(sorted, 0, grown, 0, size);
+                    sorted = grown;
+                    minX = new float[size * 2];
+                }
+                sorted[size++] = ball;
+            }
+        }
+    }
+
+    /** Swept circle-circle test and elastic response, true if the balls touched. */
+    private boolean collide(Ball a, Ball b) {
+        float radius = a.getRadius() + b.getRadius();
+        // Relative start position and relative motion over the tick
+        float startX = a.getTickStartX() - b.getTickStartX();
+        float startY = a.getTickStartY() - b.getTickStartY();
+        float moveX = (a.getX() - a.getTickStartX()) - (b.getX() - b.getTickStartX());
+        float moveY = (a.getY() - a.getTickStartY()) - (b.getY() - b.getTickStartY());
+
+        // |start + move * t| = radius  ->  qa t^2 + 2 qb t + qc = 0
+        float qa = moveX * moveX + moveY * moveY;
+        float qb = startX * moveX + startY * moveY;
+        float qc = startX * startX + startY * startY - radius * radius;
+        float t;
+        if (qc <= 0f) {
+            t = 0f; // Already overlapping at tick start
+        } else {
+            if (qa < 1e-8f || qb >= 0f) {
+                return false; // Not moving towards each other
+            }
+            float discriminant = qb * qb - qa * qc;
+            if (discriminant < 0f) {
+                return false;
+            }
+            t = (-qb - (float) Math.sqrt(discriminant)) / qa;
+            if (t > 1f) {
+                return false;
+            }
+        }
+
+        // Contact positions
+        float ax = a.getTickStartX() + (a.getX() - a.getTickStartX()) * t;
+        float ay = a.getTickStartY() + (a.getY() - a.getTickStartY()) * t;
+        float bx = b.getTickStartX() + (b.getX() - b.getTickStartX()) * t;
+        float by = b.getTickStartY() + (b.getY() - b.getTickStartY()) * t;
+        float nx = ax - bx;
+        float ny = ay - by;
+        float length = (float) Math.sqrt(nx * nx + ny * ny);
+        if (length < 1e-4f) {
+            nx = 0f;
+            ny = 1f;
+            length = 0f;
+        } else {
+            nx /= length;
+            ny /= length;
+        }
+
+        float relative = (a.getVelocity().x - b.getVelocity().x) * nx + (a.getVelocity().y - b.getVelocity().y) * ny;
+        if (relative >= 0f) {
+            return false; // Separating
+        }
+
+        // Push apart to exactly touching, split evenly
+        float push = Math.max(0f, radius - length) * 0.5f;
+        a.setPosition(ax + nx * push, ay + ny * push);
+        b.setPosition(bx - nx * push, by - ny * push);
+        a.setVelocity(a.getVelocity().x - relative * nx, a.getVelocity().y - relative * ny);
+        b.setVelocity(b.getVelocity().x + relative * nx, b.getVelocity().y + relative * ny);
+        return true;
+    }
+
+    /** Narrowphase tests done by the last {@link #resolve}, to check broadphase pruning. */
+    public int getPairTests() {
+        return pairTests;
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            sorted[i] = null;
+        }
+        size = 0;
+        members.clear();
+    }
+}
@@ -0,0 +1,374 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.math.Vector2;
+import com.badlogic.gdx.physics.box2d.Body;
+import com.badlogic.gdx.physics.box2d.BodyDef;
+import com.badlogic.gdx.physics.box2d.Box2D;
+import com.badlogic.gdx.physics.box2d.ChainShape;
+import com.badlogic.gdx.physics.box2d.CircleShape;
+import com.badlogic.gdx.physics.box2d.Contact;
+import com.badlogic.gdx.physics.box2d.ContactImpulse;
+import com.badlogic.gdx.physics.box2d.ContactListener;
+import com.badlogic.gdx.physics.box2d.Fixture;
+import com.badlogic.gdx.physics.box2d.FixtureDef;
+import com.badlogic.gdx.physics.box2d.Manifold;
+import com.badlogic.gdx.physics.box2d.PolygonShape;
+import com.badlogic.gdx.physics.box2d.Shape;
+import com.badlogic.gdx.physics.box2d.World;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectSet;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Box2D engine for {@link CollisionMode#BOX2D}. Balls are bullet bodies (continuous
+ * collision), the bricks are fixtures of one static body, the walls a chain and the
+ * paddle a kinematic body. Box2D moves the balls and bounces them; the contacts it
+ * reports are handed back to {@link GameWorld}, which applies brick hits, score and
+ * paddle angles exactly like the hand-rolled modes.
+ * <p>
+ * Box2D works in meters, one meter being {@link #PIXELS_PER_METER} pixels. Balls do not
+ * collide with each other here; {@link GameWorld#setBallCollisions} still applies.
+ */
+public class Box2DPhysics implements Disposable {
+    public static final float PIXELS_PER_METER = 50f;
+    private static final float METERS = 1f / PIXELS_PER_METER;
+    private static final short CATEGORY_BALL = 0x1;
+    private static final short CATEGORY_SOLID = 0x2;
+    private static final Object WALL = "wall";
+    private static final Object PADDLE = "paddle";
+
+    private final World world;
+    private final Vector2 tmp = new Vector2();
+    private final ObjectMap<Ball, Body> ballBodies = new ObjectMap<>();
+    private final ObjectSet<Ball> inPlay = new ObjectSet<>();
+    private final Array<Ball> staleBalls = new Array<>();
+
+    private List<Brick> bricks;
+    private Body brickBody;
+    private Fixture[] brickFixtures = new Fixture[0];
+    private final IntArray deadBricks = new IntArray();
+    private Body wallBody;
+    private float wallWidth;
+    private float wallHeight;
+    private Body paddleBody;
+    private float paddleWidth;
+    private float paddleHeight;
+
+    // Contacts of the last step, read back by GameWorld
+    private final IntArray brickHits = new IntArray();
+    private final Array<Ball> brickHitBalls = new Array<>();
+    private final Array<Ball> paddleHits = new Array<>();
+    private int wallHits;
+
+    public Box2DPhysics() {
+        Box2D.init();
+        // Default threshold (1 m/s) makes grazing hits inelastic, balls must never lose speed
+        World.setVelocityThreshold(0.01f);
+        world = new World(new Vector2(0f, 0f), true);
+        world.setContactListener(new ContactListener() {
+            @Override
+            public void beginContact(Contact contact) {
+                recordContact(contact.getFixtureA(), contact.getFixtureB());
+                recordContact(contact.getFixtureB(), contact.getFixtureA());
+            }
+
+            @Override
+            public void endContact(Contact contact) {
+            }
+
+            @Override
+            public void preSolve(Contact contact, Manifold oldManifold) {
+                // Bricks destroyed by lasers or bombs are removed after the step
+                if (isDeadBrick(contact.getFixtureA()) || isDeadBrick(contact.getFixtureB())) {
+                    contact.setEnabled(false);
+                }
+            }
+
+            @Override
+            public void postSolve(Contact contact, ContactImpulse impulse) {
+            }
+        });
+    }
+
+    private void recordContact(Fixture ballFixture, Fixture other) {
+        if (!(ballFixture.getUserData() instanceof Ball)) {
+            return;
+        }
+        Ball ball = (Ball) ballFixture.getUserData();
+        Object data = other.getUserData();
+        if (data instanceof Integer) {
+            int index = (Integer) data;
+            if (!bricks.get(index).isDestroyed()) {
+                brickHits.add(index);
+                brickHitBalls.add(ball);
+            }
+        } else if (data == PADDLE) {
+            if (!paddleHits.contains(ball, true)) {
+                paddleHits.add(ball);
+            }
+        } else if (data == WALL) {
+            wallHits++;
+        }
+    }
+
+    private boolean isDeadBrick(Fixture fixture) {
+        Object data = fixture.getUserData();
+        if (data instanceof Integer && bricks.get((Integer) data).isDestroyed()) {
+            deadBricks.add((Integer) data);
+            return true;
+        }
+        return false;
+    }
+
+    /** Rebuilds the brick fixtures when the level changes. */
+    public void setBricks(List<Brick> bricks) {
+        if (this.bricks == bricks) {
+            return;
+        }
+        this.bricks = bricks;
+        if (brickBody != null) {
+            world.destroyBody(brickBody);
+        }
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.StaticBody;
+        brickBody = world.createBody(def);
+        brickFixtures = new Fixture[bricks.size()];
+        deadBricks.clear();
+        brickHits.clear();
+        brickHitBalls.clear();
+
+        PolygonShape shape = new PolygonShape();
+        FixtureDef fixture = solidFixture(shape);
+        for (int i = 0; i < bricks.size(); i++) {
+            addBrickFixture(i, shape, fixture);
+        }
+        shape.dispose();
+    }
+
+    /**
+     * Follows a {@link BrickChunks} update of the current list: only the fixtures of the
+     * changed slots are destroyed and created. Ignored when {@code bricks} is not the
+     * current list, {@link #setBricks} rebuilds everything then.
+     */
+    public void updateBricks(List<Brick> bricks, IntArray removed, IntArray added) {
+        if (this.bricks != bricks) {
+            return;
+        }
+        if (brickFixtures.length < bricks.size()) {
+            brickFixtures = Arrays.copyOf(brickFixtures, bricks.size());
+        }
+        for (int i = 0; i < removed.size; i++) {
+            destroyBrickFixture(removed.get(i));
+        }
+        PolygonShape shape = new PolygonShape();
+        FixtureDef fixture = solidFixture(shape);
+        for (int i = 0; i < added.size; i++) {
+            addBrickFixture(added.get(i), shape, fixture);
+        }
+        shape.dispose();
+    }
+
+    private void addBrickFixture(int index, PolygonShape shape, FixtureDef fixture) {
+        Brick brick = bricks.get(index);
+        if (brick.isDestroyed()) {
+            return;
+        }
+        float halfWidth = brick.getWidth() / 2f;
+        float halfHeight = brick.getHeight() / 2f;
+        shape.setAsBox(halfWidth * METERS, halfHeight * METERS,
+                tmp.set((brick.getX() + halfWidth) * METERS, (brick.getY() + halfHeight) * METERS), 0f);
+        brickFixtures[index] = brickBody.createFixture(fixture);
+        brickFixtures[index].setUserData(index);
+    }
+
+    private void destroyBrickFixture(int index) {
+        if (brickFixtures[index] != null) {
+            brickBody.destroyFixture(brickFixtures[index]);
+            brickFixtures[index] = null;
+        }
+    }
+
+    /** Left, top and right walls; the bottom stays open so balls can be lost. */
+    public void setBounds(float width, float height) {
+        if (wallBody != null && width == wallWidth && height == wallHeight) {
+            return;
+        }
+        if (wallBody != null) {
+            world.destroyBody(wallBody);
+        }
+        wallWidth = width;
+        wallHeight = height;
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.StaticBody;
+        wallBody = world.createBody(def);
+        ChainShape shape = new ChainShape();
+        // Extends below the field so balls leaving at the bottom corners are not caught
+        shape.createChain(new float[] {
+            0f, -height * METERS, 0f, height * METERS,
+            width * METERS, height * METERS, width * METERS, -height * METERS});
+        wallBody.createFixture(solidFixture(shape)).setUserData(WALL);
+        shape.dispose();
+    }
+
+    private static FixtureDef solidFixture(Shape shape) {
+        FixtureDef fixture = new FixtureDef();
+        fixture.shape = shape;
+        fixture.friction = 0f;
+        fixture.restitution = 1f;
+        fixture.filter.categoryBits = CATEGORY_SOLID;
+        fixture.filter.maskBits = CATEGORY_BALL;
+        return fixture;
+    }
+
+    /**
+     * Pushes the game objects into Box2D, steps it by {@code deltaTime} and writes ball
+     * positions and velocities back. Balls keep their speed: Box2D only changes direction.
+     * Contacts are then available through {@link #getBrickHits()} and friends.
+     */
+    public void step(List<Ball> balls, List<Ball> stickyBalls, Paddle paddle, float deltaTime) {
+        // Bricks broken by the last step's hits, plus those found dead by preSolve
+        for (int i = 0; i < brickHits.size; i++) {
+            if (bricks.get(brickHits.get(i)).isDestroyed()) {
+                deadBricks.add(brickHits.get(i));
+            }
+        }
+        for (int i = 0; i < deadBricks.size; i++) {
+            destroyBrickFixture(deadBricks.get(i));
+        }
+        deadBricks.clear();
+
+        brickHits.clear();
+        brickHitBalls.clear();
+        paddleHits.clear();
+        wallHits = 0;
+
+        syncPaddle(paddle, deltaTime);
+        syncBalls(balls, stickyBalls);
+        world.step(deltaTime, 8, 3);
+
+        for (ObjectMap.Entry<Ball, Body> entry : ballBodies) {
+            Ball ball = entry.key;
+            Body body = entry.value;
+            Vector2 position = body.getPosition();
+            ball.setPosition(position.x * PIXELS_PER_METER, position.y * PIXELS_PER_METER);
+            float speed = ball.getVelocity().len();
+            Vector2 velocity = body.getLinearVelocity();
+            if (!velocity.isZero()) {
+                tmp.set(velocity).nor().scl(speed);
+                ball.setVelocity(tmp.x, tmp.y);
+            }
+        }
+        paddleBody.setTransform(tmp.set(paddle.getX() + paddleWidth / 2f, paddle.getY() + paddleHeight / 2f)
+                .scl(METERS), 0f);
+        paddleBody.setLinearVelocity(0f, 0f);
+    }
+
+    /** The paddle is moved by velocity so Box2D sweeps it instead of teleporting into balls. */
+    private void syncPaddle(Paddle paddle, float deltaTime) {
+        if (paddleBody == null || paddle.getWidth() != paddleWidth || paddle.getHeight() != paddleHeight) {
+            if (paddleBody != null) {
+                world.destroyBody(paddleBody);
+            }
+            paddleWidth = paddle.getWidth();
+            paddleHeight = paddle.getHeight();
+            BodyDef def = new BodyDef();
+            def.type = BodyDef.BodyType.KinematicBody;
+            def.position.set(paddle.getX() + paddleWidth / 2f, paddle.getY() + paddleHeight / 2f).scl(METERS);
+            paddleBody = world.createBody(def);
+            PolygonShape shape = new PolygonShape();
+            shape.setAsBox(paddleWidth / 2f * METERS, paddleHeight / 2f * METERS);
+            paddleBody.createFixture(solidFixture(shape)).setUserData(PADDLE);
+            shape.dispose();
+        }
+        Vector2 current = paddleBody.getPosition();
+        float targetX = (paddle.getX() + paddleWidth / 2f) * METERS;
+        float targetY = (paddle.getY() + paddleHeight / 2f) * METERS;
+        paddleBody.setLinearVelocity((targetX - current.x) / deltaTime, (targetY - current.y) / deltaTime);
+    }
+
+    /** Creates bodies for new balls, drops those of lost or stuck balls, applies game-side changes. */
+    private void syncBalls(List<Ball> balls, List<Ball> stickyBalls) {
+        inPlay.clear();
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            if (stickyBalls.contains(ball)) {
+                continue;
+            }
+            inPlay.add(ball);
+            Body body = ballBodies.get(ball);
+            float x = ball.getX() * METERS;
+            float y = ball.getY() * METERS;
+            if (body == null) {
+                body = createBallBody(ball);
+                ballBodies.put(ball, body);
+            } else if (!body.getPosition().epsilonEquals(x, y, 0.01f * METERS)) {
+                // Moved by the game (paddle response, sticky release, power-ups)
+                body.setTransform(x, y, 0f);
+            }
+            body.setLinearVelocity(ball.getVelocity().x * METERS, ball.getVelocity().y * METERS);
+        }
+
+        staleBalls.clear();
+        for (ObjectMap.Entry<Ball, Body> entry : ballBodies) {
+            if (!inPlay.contains(entry.key)) {
+                staleBalls.add(entry.key);
+            }
+        }
+        for (int i = 0; i < staleBalls.size; i++) {
+            world.destroyBody(ballBodies.remove(staleBalls.get(i)));
+        }
+    }
+
+    private Body createBallBody(Ball ball) {
+        BodyDef def = new BodyDef();
+        def.type = BodyDef.BodyType.DynamicBody;
+        def.bullet = true;
+        def.fixedRotation = true;
+        def.position.set(ball.getX() * METERS, ball.getY() * METERS);
+        Body body = world.createBody(def);
+        CircleShape shape = new CircleShape();
+        shape.setRadius(ball.getRadius() * METERS);
+        FixtureDef fixture = new FixtureDef();
+        fixture.shape = shape;
+        fixture.density = 1f;
+        fixture.friction = 0f;
+        fixture.restitution = 1f;
+        fixture.filter.categoryBits = CATEGORY_BALL;
+        fixture.filter.maskBits = CATEGORY_SOLID;
+        body.createFixture(fixture).setUserData(ball);
+        shape.dispose();
+        return body;
+    }
+
+    /** Indices of the bricks touched during the last step, in contact order (see {@link #getBrickHitBalls()}). */
+    public IntArray getBrickHits() {
+        return brickHits;
+    }
+
+    /** Ball of each entry of {@link #getBrickHits()}. */
+    public Array<Ball> getBrickHitBalls() {
+        return brickHitBalls;
+    }
+
+    /** Balls that touched the paddle during the last step. */
+    public Array<Ball> getPaddleHits() {
+        return paddleHits;
+    }
+
+    public int getWallHits() {
+        return wallHits;
+    }
+
+    public int getBodyCount() {
+        return world.getBodyCount();
+    }
+
+    @Override
+    public void dispose() {
+        world.dispose();
+    }
+}
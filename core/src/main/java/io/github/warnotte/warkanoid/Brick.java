@@ -100,13 +100,25 @@ public class Brick {
             destroyed = true;
             return true; // Brick is destroyed
         } else {
-            // Change color to show damage (make darker)
-            float alpha = 1.0f - ((float)hits / maxHits) * 0.5f;
-            color.set(originalColor.r * alpha, originalColor.g * alpha, originalColor.b * alpha, 1f);
+            updateDamageColor();
             return false; // Brick still alive
         }
     }
 
+    /** Restores damage taken earlier (bricks streamed back in by {@link BrickChunks}). */
+    public void setHits(int hits) {
+        this.hits = hits;
+        if (hits > 0 && hits < maxHits) {
+            updateDamageColor();
+        }
+    }
+
+    private void updateDamageColor() {
+        // Change color to show damage (make darker)
+        float alpha = 1.0f - ((float)hits / maxHits) * 0.5f;
+        color.set(originalColor.r * alpha, originalColor.g * alpha, originalColor.b * alpha, 1f);
+    }
+
     public void destroy() {
         destroyed = true;
     }
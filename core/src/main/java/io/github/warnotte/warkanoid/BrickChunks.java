@@ -0,0 +1,236 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.utils.Bits;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import io.github.warnotte.warkanoid.level.LevelData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Brick streaming for tall levels. Bricks are bucketed into horizontal chunks of
+ * {@link #CHUNK_HEIGHT}; only chunks close to a focus point (balls, lasers, paddle)
+ * exist as {@link Brick} objects and are indexed by a small {@link BrickGrid}. The
+ * other chunks live in the compact {@link LevelData} arrays plus a few bytes of state
+ * per brick (rolled type, damage, destroyed bit).
+ * <p>
+ * A chunk is activated when a focus point gets within {@link #ACTIVATE_CHUNKS} chunks
+ * of it and written back once every focus point is more than {@link #KEEP_CHUNKS}
+ * away, so a ball bouncing on a chunk border does not stream it in and out each frame.
+ * <p>
+ * The active list and grid are the same objects for the whole level. A streamed-out
+ * brick leaves a destroyed placeholder in its slot and streamed-in bricks reuse free
+ * slots, so the other bricks keep their index and the physics worlds only add and remove
+ * the slots reported by {@link #getRemovedSlots()} and {@link #getAddedSlots()}.
+ */
+public class BrickChunks {
+    public static final float CHUNK_HEIGHT = 300f;
+    /** Fills the slots of streamed-out bricks; destroyed, so every brick loop skips it. */
+    private static final Brick RETIRED = retiredBrick();
+    private static final int ACTIVATE_CHUNKS = 1;
+    private static final int KEEP_CHUNKS = 2;
+
+    private final LevelData data;
+    private final int chunkCount;
+    /** Brick indices sorted by chunk: {@code order[chunkStart[c]..chunkStart[c + 1]]}. */
+    private final int[] chunkStart;
+    private final int[] order;
+    private final byte[] rolledType;
+    private final byte[] hitsTaken;
+    private final Bits destroyed = new Bits();
+
+    private final Chunk[] active;
+    private final IntArray activeIds = new IntArray();
+    private final IntArray toActivate = new IntArray();
+    private final int[] keepStamp;
+    private int frame;
+    private int inactiveRemaining;
+
+    private final List<Brick> activeBricks = new ArrayList<>();
+    private final BrickGrid activeGrid = new BrickGrid(activeBricks);
+    private final IntArray freeSlots = new IntArray();
+    private final IntArray removedSlots = new IntArray();
+    private final IntArray addedSlots = new IntArray();
+
+    public BrickChunks(LevelData data, Random random) {
+        this.data = data;
+        this.chunkCount = Math.max(1, (int) Math.ceil(data.height / CHUNK_HEIGHT));
+        this.active = new Chunk[chunkCount];
+        this.keepStamp = new int[chunkCount];
+        this.rolledType = new byte[data.count];
+        this.hitsTaken = new byte[data.count];
+
+        // Counting sort of the bricks by chunk
+        int[] counts = new int[chunkCount + 1];
+        for (int i = 0; i < data.count; i++) {
+            counts[chunkOf(data.y[i]) + 1]++;
+        }
+        for (int c = 1; c < counts.length; c++) {
+            counts[c] += counts[c - 1];
+        }
+        this.chunkStart = counts;
+        this.order = new int[data.count];
+        int[] fill = new int[chunkCount];
+        for (int i = 0; i < data.count; i++) {
+            int chunk = chunkOf(data.y[i]);
+            order[chunkStart[chunk] + fill[chunk]++] = i;
+        }
+
+        // Bombs are rolled once here so a chunk keeps its bombs when streamed back in
+        for (int i = 0; i < data.count; i++) {
+            Brick.Type type = data.rollType(i, random);
+            rolledType[i] = (byte) type.ordinal();
+            if (type != Brick.Type.INDESTRUCTIBLE) {
+                inactiveRemaining++;
+            }
+        }
+    }
+
+    private static Brick retiredBrick() {
+        Brick brick = new Brick(0f, 0f, 0f, 0f, Color.CLEAR);
+        brick.destroy();
+        return brick;
+    }
+
+    private int chunkOf(float y) {
+        int chunk = (int) Math.floor(y / CHUNK_HEIGHT);
+        return chunk < 0 ? 0 : (chunk >= chunkCount ? chunkCount - 1 : chunk);
+    }
+
+    /**
+     * Streams chunks in and out around the given focus Y positions.
+     *
+     * @return true when the active bricks changed; the list and grid were updated in
+     *         place and {@link #getRemovedSlots()} / {@link #getAddedSlots()} tell which
+     *         slots did
+     */
+    public boolean update(FloatArray focusY) {
+        frame++;
+        toActivate.clear();
+        removedSlots.clear();
+        addedSlots.clear();
+        for (int f = 0; f < focusY.size; f++) {
+            int center = chunkOf(focusY.get(f));
+            int keepFrom = Math.max(0, center - KEEP_CHUNKS);
+            int keepTo = Math.min(chunkCount - 1, center + KEEP_CHUNKS);
+            for (int c = keepFrom; c <= keepTo; c++) {
+                keepStamp[c] = frame;
+                if (active[c] == null && Math.abs(c - center) <= ACTIVATE_CHUNKS && !toActivate.contains(c)) {
+                    toActivate.add(c);
+                }
+            }
+        }
+
+        boolean changed = false;
+        for (int k = activeIds.size - 1; k >= 0; k--) {
+            int chunk = activeIds.get(k);
+            if (keepStamp[chunk] != frame) {
+                deactivate(chunk);
+                activeIds.removeIndex(k);
+                changed = true;
+            }
+        }
+        for (int k = 0; k < toActivate.size; k++) {
+            int chunk = toActivate.get(k);
+            activate(chunk);
+            activeIds.add(chunk);
+            changed = true;
+        }
+
+        if (changed) {
+            activeGrid.rebuild(activeBricks);
+        }
+        return changed;
+    }
+
+    private void activate(int chunk) {
+        Chunk result = new Chunk();
+        Color tmp = new Color();
+        Brick.Type[] types = Brick.Type.values();
+        for (int k = chunkStart[chunk], end = chunkStart[chunk + 1]; k < end; k++) {
+            int i = order[k];
+            if (destroyed.get(i)) {
+                continue;
+            }
+            Color.rgba8888ToColor(tmp, data.color[i]);
+            Brick brick = new Brick(data.x[i], data.y[i], data.w[i], data.h[i], tmp, data.hits[i], types[rolledType[i]]);
+            brick.setHits(hitsTaken[i]);
+            int slot;
+            if (freeSlots.size > 0) {
+                slot = freeSlots.pop();
+                activeBricks.set(slot, brick);
+            } else {
+                slot = activeBricks.size();
+                activeBricks.add(brick);
+            }
+            result.bricks.add(brick);
+            result.indices.add(i);
+            result.slots.add(slot);
+            addedSlots.add(slot);
+            if (!brick.isIndestructible()) {
+                inactiveRemaining--;
+            }
+        }
+        active[chunk] = result;
+    }
+
+    private void deactivate(int chunk) {
+        Chunk current = active[chunk];
+        for (int k = 0; k < current.bricks.size(); k++) {
+            Brick brick = current.bricks.get(k);
+            int i = current.indices.get(k);
+            if (brick.isDestroyed()) {
+                destroyed.set(i);
+            } else {
+                hitsTaken[i] = (byte) brick.getHits();
+                if (!brick.isIndestructible()) {
+                    inactiveRemaining++;
+                }
+            }
+            int slot = current.slots.get(k);
+            activeBricks.set(slot, RETIRED);
+            freeSlots.add(slot);
+            removedSlots.add(slot);
+        }
+        active[chunk] = null;
+    }
+
+    public List<Brick> getActiveBricks() {
+        return activeBricks;
+    }
+
+    public BrickGrid getActiveGrid() {
+        return activeGrid;
+    }
+
+    /** Slots emptied by the last {@link #update}; they hold a destroyed placeholder unless also added. */
+    public IntArray getRemovedSlots() {
+        return removedSlots;
+    }
+
+    /** Slots filled by the last {@link #update}, after the removed ones were emptied. */
+    public IntArray getAddedSlots() {
+        return addedSlots;
+    }
+
+    /** Destructible bricks still standing in chunks that are not streamed in. */
+    public int getInactiveRemaining() {
+        return inactiveRemaining;
+    }
+
+    public int getActiveChunkCount() {
+        return activeIds.size;
+    }
+
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    private static final class Chunk {
+        final List<Brick> bricks = new ArrayList<>();
+        final IntArray indices = new IntArray();
+        final IntArray slots = new IntArray();
+    }
+}
@@ -0,0 +1,185 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.utils.IntArray;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Static uniform-grid index over a level's bricks. Bricks never move, so the grid is
+ * built once (typically off the render thread, see {@code LevelPreparer}), or rebuilt in
+ * place when streamed chunks change, in a compact CSR layout:
+ * {@code cellStart[c]..cellStart[c + 1]} indexes into {@code cellItems}. Destroyed bricks
+ * stay indexed; callers skip them.
+ * <p>
+ * Queries only read the grid and write into the caller's buffer, so they are safe to
+ * run from several threads at once.
+ * <p>
+ * The brick bounds are also kept as flat arrays (structure of arrays, by brick index)
+ * for batched narrow phases such as {@link SweepFilter}.
+ */
+public class BrickGrid {
+    public static final float DEFAULT_CELL_SIZE = 64f;
+
+    private final float cellSize;
+    private final float invCellSize;
+    private float originX;
+    private float originY;
+    private int columns;
+    private int rows;
+    private int[] cellStart = new int[1];
+    private int[] cellItems = new int[0];
+    private int[] cellFill = new int[0];
+    private float[] minXs = new float[0];
+    private float[] minYs = new float[0];
+    private float[] maxXs = new float[0];
+    private float[] maxYs = new float[0];
+
+    public BrickGrid(List<Brick> bricks, float cellSize) {
+        this.cellSize = cellSize;
+        this.invCellSize = 1f / cellSize;
+        rebuild(bricks);
+    }
+
+    /**
+     * Re-indexes {@code bricks} into this grid, reusing its arrays when they are large
+     * enough. Used by {@link BrickChunks} when chunks stream in or out; must not run
+     * while another thread queries the grid.
+     */
+    public void rebuild(List<Brick> bricks) {
+        int count = bricks.size();
+        if (minXs.length < count) {
+            minXs = new float[count];
+            minYs = new float[count];
+            maxXs = new float[count];
+            maxYs = new float[count];
+        }
+        float minX = 0f;
+        float minY = 0f;
+        float maxX = cellSize;
+        float maxY = cellSize;
+        for (int i = 0; i < count; i++) {
+            Brick brick = bricks.get(i);
+            minXs[i] = brick.getX();
+            minYs[i] = brick.getY();
+            maxXs[i] = brick.getX() + brick.getWidth();
+            maxYs[i] = brick.getY() + brick.getHeight();
+            minX = Math.min(minX, brick.getX());
+            minY = Math.min(minY, brick.getY());
+            maxX = Math.max(maxX, brick.getX() + brick.getWidth());
+            maxY = Math.max(maxY, brick.getY() + brick.getHeight());
+        }
+        originX = minX;
+        originY = minY;
+        columns = Math.max(1, (int) Math.ceil((maxX - minX) * invCellSize));
+        rows = Math.max(1, (int) Math.ceil((maxY - minY) * invCellSize));
+        int cells = columns * rows;
+
+        // Pass 1: count entries per cell, pass 2: fill.
+        if (cellStart.length < cells + 1) {
+            cellStart = new int[cells + 1];
+            cellFill = new int[cells];
+        } else {
+            Arrays.fill(cellStart, 0, cells + 1, 0);
+            Arrays.fill(cellFill, 0, cells, 0);
+        }
+        for (int i = 0; i < count; i++) {
+            Brick brick = bricks.get(i);
+            int c0 = column(brick.getX());
+            int c1 = column(brick.getX() + brick.getWidth());
+            int r0 = row(brick.getY());
+            int r1 = row(brick.getY() + brick.getHeight());
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    cellStart[r * columns + c + 1]++;
+                }
+            }
+        }
+        for (int c = 1; c <= cells; c++) {
+            cellStart[c] += cellStart[c - 1];
+        }
+        if (cellItems.length < cellStart[cells]) {
+            cellItems = new int[cellStart[cells]];
+        }
+
+        for (int i = 0; i < count; i++) {
+            Brick brick = bricks.get(i);
+            int c0 = column(brick.getX());
+            int c1 = column(brick.getX() + brick.getWidth());
+            int r0 = row(brick.getY());
+            int r1 = row(brick.getY() + brick.getHeight());
+            for (int r = r0; r <= r1; r++) {
+                for (int c = c0; c <= c1; c++) {
+                    int cell = r * columns + c;
+                    cellItems[cellStart[cell] + cellFill[cell]++] = i;
+                }
+            }
+        }
+    }
+
+    public BrickGrid(List<Brick> bricks) {
+        this(bricks, DEFAULT_CELL_SIZE);
+    }
+
+    private int column(float x) {
+        int c = (int) Math.floor((x - originX) * invCellSize);
+        return c < 0 ? 0 : (c >= columns ? columns - 1 : c);
+    }
+
+    private int row(float y) {
+        int r = (int) Math.floor((y - originY) * invCellSize);
+        return r < 0 ? 0 : (r >= rows ? rows - 1 : r);
+    }
+
+    /**
+     * Collects the indices of bricks whose cells overlap the given box into {@code out}
+     * (cleared first), sorted ascending and without duplicates so callers visit bricks
+     * in the same order as a plain list scan.
+     */
+    public void query(float minX, float minY, float maxX, float maxY, IntArray out) {
+        out.clear();
+        int c0 = column(minX);
+        int c1 = column(maxX);
+        int r0 = row(minY);
+        int r1 = row(maxY);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * columns + c;
+                for (int k = cellStart[cell], end = cellStart[cell + 1]; k < end; k++) {
+                    out.add(cellItems[k]);
+                }
+            }
+        }
+        if (out.size > 1) {
+            out.sort();
+            int unique = 1;
+            int[] items = out.items;
+            for (int k = 1; k < out.size; k++) {
+                if (items[k] != items[unique - 1]) {
+                    items[unique++] = items[k];
+                }
+            }
+            out.size = unique;
+        }
+    }
+
+    public float getCellSize() {
+        return cellSize;
+    }
+
+    /** Left edge of every brick, by brick index (may be longer than the list). Shared, do not modify. */
+    public float[] getMinXs() {
+        return minXs;
+    }
+
+    public float[] getMinYs() {
+        return minYs;
+    }
+
+    public float[] getMaxXs() {
+        return maxXs;
+    }
+
+    public float[] getMaxYs() {
+        return maxYs;
+    }
+}
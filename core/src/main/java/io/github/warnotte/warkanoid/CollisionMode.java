@@ -0,0 +1,30 @@
+package io.github.warnotte.warkanoid;
+
+public enum CollisionMode {
+    DISCRETE("DISCRETE (OLD)"),
+    CONTINUOUS("CONTINUOUS (CCD)"),
+    ROBUST("ROBUST (HYBRID)"),
+    /** Per ball: one jump in open space, ROBUST steps near bricks and the paddle. */
+    ADAPTIVE("ADAPTIVE (CA)"),
+    /** jbump swept-box broad phase, refined by the ROBUST circle test. */
+    JBUMP("JBUMP (AABB)"),
+    /** Box2D moves the balls (bullet bodies), see {@link Box2DPhysics}. */
+    BOX2D("BOX2D (NATIVE)"),
+    /** 16.16 fixed point with table trig, bit-identical everywhere, see {@link FixedPhysics}. */
+    FIXED("FIXED (16.16)");
+
+    private final String label;
+
+    CollisionMode(String label) {
+        this.label = label;
+    }
+
+    public CollisionMode next() {
+        CollisionMode[] modes = values();
+        return modes[(ordinal() + 1) % modes.length];
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
@@ -0,0 +1,207 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.utils.IntArray;
+import java.util.List;
+
+/**
+ * {@link CollisionMode#FIXED}: ball movement and the wall, paddle and brick responses in
+ * 16.16 fixed point ({@link FixedPoint}), with the paddle angle taken from the sine table.
+ * The ball moves in steps of at most one radius like ROBUST and a brick contact is found
+ * by bisecting the step. Every value is an int, so a replay or a lockstep peer fed the
+ * same inputs and tick lengths ends in the same state bit for bit, whatever the JVM or
+ * JIT tier.
+ * <p>
+ * Only the narrow phase is fixed point: the brick grid is queried with the (deterministic)
+ * float conversions of the fixed positions.
+ */
+public class FixedPhysics {
+    public static final int NONE = 0;
+    public static final int WALL = 1;
+    public static final int PADDLE = 2;
+    public static final int BRICK = 3;
+
+    private static final int PADDLE_ANGLE = 120 * FixedPoint.ONE;
+    /** Contact search after a brick overlap: 8 halvings leave under 1/256 of a step. */
+    private static final int BISECTIONS = 8;
+
+    private final IntArray candidates = new IntArray();
+    private int hitBrick = -1;
+
+    /**
+     * Moves the ball for one tick and applies the first contact, which ends the movement.
+     *
+     * @return {@link #NONE}, {@link #WALL}, {@link #PADDLE} or {@link #BRICK} (see {@link #getHitBrick()});
+     *         the brick itself is left for the caller to hit
+     */
+    public int move(Ball ball, Paddle paddle, List<Brick> bricks, BrickGrid grid,
+                    float width, float height, float deltaTime) {
+        ball.importFixed();
+        hitBrick = -1;
+        int dt = FixedPoint.fromFloat(deltaTime);
+        int radius = FixedPoint.fromFloat(ball.getRadius());
+        int moveX = FixedPoint.mul(ball.getFixedVX(), dt);
+        int moveY = FixedPoint.mul(ball.getFixedVY(), dt);
+        int steps = Math.max(1, (FixedPoint.length(moveX, moveY) + radius - 1) / radius);
+        int startX = ball.getFixedX();
+        int startY = ball.getFixedY();
+
+        int contact = NONE;
+        for (int s = 1; s <= steps; s++) {
+            int prevX = ball.getFixedX();
+            int prevY = ball.getFixedY();
+            // From the start each time, so the steps add up exactly to the move
+            ball.setFixedX(startX + (int) ((long) moveX * s / steps));
+            ball.setFixedY(startY + (int) ((long) moveY * s / steps));
+
+            if (hitWalls(ball, radius, FixedPoint.fromFloat(width), FixedPoint.fromFloat(height))) {
+                contact = WALL;
+                break;
+            }
+            if (hitPaddle(ball, radius, paddle, FixedPoint.fromFloat(width))) {
+                contact = PADDLE;
+                break;
+            }
+            if (hitBricks(ball, radius, prevX, prevY, bricks, grid)) {
+                contact = BRICK;
+                break;
+            }
+        }
+        ball.exportFixed();
+        return contact;
+    }
+
+    /** Index of the brick hit by the last {@link #move} that returned {@link #BRICK}. */
+    public int getHitBrick() {
+        return hitBrick;
+    }
+
+    private static boolean hitWalls(Ball ball, int radius, int width, int height) {
+        boolean wall = false;
+        if (ball.getFixedX() - radius <= 0 || ball.getFixedX() + radius >= width) {
+            ball.setFixedVX(-ball.getFixedVX());
+            ball.setFixedX(Math.max(radius, Math.min(width - radius, ball.getFixedX())));
+            wall = true;
+        }
+        if (ball.getFixedY() + radius >= height) {
+            ball.setFixedVY(-ball.getFixedVY());
+            ball.setFixedY(height - radius);
+            wall = true;
+        }
+        return wall;
+    }
+
+    /** Same response as {@link Ball#bounceOffPaddle}: -60..60 degrees from where it hit. */
+    private static boolean hitPaddle(Ball ball, int radius, Paddle paddle, int width) {
+        int left = FixedPoint.fromFloat(paddle.getX());
+        int bottom = FixedPoint.fromFloat(paddle.getY());
+        int paddleWidth = FixedPoint.fromFloat(paddle.getWidth());
+        int top = bottom + FixedPoint.fromFloat(paddle.getHeight());
+        if (!overlaps(ball.getFixedX(), ball.getFixedY(), radius, left, bottom, left + paddleWidth, top)) {
+            return false;
+        }
+        if (paddle.isSticky() && ball.getFixedVY() < 0) {
+            ball.setFixedVX(0);
+            ball.setFixedVY(0);
+        } else {
+            int hitPos = Math.max(0, Math.min(FixedPoint.ONE, FixedPoint.div(ball.getFixedX() - left, paddleWidth)));
+            int angle = FixedPoint.mul(hitPos - FixedPoint.ONE / 2, PADDLE_ANGLE);
+            int speed = FixedPoint.length(ball.getFixedVX(), ball.getFixedVY());
+            ball.setFixedVX(FixedPoint.mul(speed, FixedPoint.sinDegrees(angle)));
+            ball.setFixedVY(Math.abs(FixedPoint.mul(speed, FixedPoint.cosDegrees(angle))));
+        }
+        ball.setFixedY(top + radius);
+        ball.setFixedX(Math.max(radius, Math.min(width - radius, ball.getFixedX())));
+        return true;
+    }
+
+    private boolean hitBricks(Ball ball, int radius, int prevX, int prevY, List<Brick> bricks, BrickGrid grid) {
+        int x = ball.getFixedX();
+        int y = ball.getFixedY();
+        float r = FixedPoint.toFloat(radius) + 1f;
+        grid.query(FixedPoint.toFloat(Math.min(prevX, x)) - r, FixedPoint.toFloat(Math.min(prevY, y)) - r,
+                   FixedPoint.toFloat(Math.max(prevX, x)) + r, FixedPoint.toFloat(Math.max(prevY, y)) + r,
+                   candidates);
+        int hit = firstOverlap(x, y, radius, bricks);
+        if (hit < 0) {
+            return false;
+        }
+
+        // Back off towards the previous position (clear of every brick) by bisection, so
+        // the ball stops at the contact instead of being pushed out into a neighbour
+        int clearX = prevX;
+        int clearY = prevY;
+        int hitX = x;
+        int hitY = y;
+        for (int i = 0; i < BISECTIONS; i++) {
+            int midX = (clearX + hitX) >> 1;
+            int midY = (clearY + hitY) >> 1;
+            int overlap = firstOverlap(midX, midY, radius, bricks);
+            if (overlap < 0) {
+                clearX = midX;
+                clearY = midY;
+            } else {
+                hitX = midX;
+                hitY = midY;
+                hit = overlap;
+            }
+        }
+        ball.setFixedX(clearX);
+        ball.setFixedY(clearY);
+        Brick brick = bricks.get(hit);
+        int left = FixedPoint.fromFloat(brick.getX());
+        int bottom = FixedPoint.fromFloat(brick.getY());
+        bounceOffRect(ball, left, bottom,
+                left + FixedPoint.fromFloat(brick.getWidth()), bottom + FixedPoint.fromFloat(brick.getHeight()));
+        hitBrick = hit;
+        return true;
+    }
+
+    /** First live candidate brick the ball overlaps at (x, y), or -1. */
+    private int firstOverlap(int x, int y, int radius, List<Brick> bricks) {
+        for (int c = 0; c < candidates.size; c++) {
+            Brick brick = bricks.get(candidates.get(c));
+            if (brick.isDestroyed()) {
+                continue;
+            }
+            int left = FixedPoint.fromFloat(brick.getX());
+            int bottom = FixedPoint.fromFloat(brick.getY());
+            if (overlaps(x, y, radius, left, bottom,
+                    left + FixedPoint.fromFloat(brick.getWidth()), bottom + FixedPoint.fromFloat(brick.getHeight()))) {
+                return candidates.get(c);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Reflects the velocity of a ball resting against the rectangle: off the face it
+     * faces, or about the normal from the nearest corner.
+     */
+    private static void bounceOffRect(Ball ball, int left, int bottom, int right, int top) {
+        int closestX = Math.max(left, Math.min(right, ball.getFixedX()));
+        int closestY = Math.max(bottom, Math.min(top, ball.getFixedY()));
+        int dx = ball.getFixedX() - closestX;
+        int dy = ball.getFixedY() - closestY;
+
+        if (dy == 0) {
+            ball.setFixedVX(dx > 0 ? Math.abs(ball.getFixedVX()) : -Math.abs(ball.getFixedVX()));
+        } else if (dx == 0) {
+            ball.setFixedVY(dy > 0 ? Math.abs(ball.getFixedVY()) : -Math.abs(ball.getFixedVY()));
+        } else {
+            int distance = FixedPoint.length(dx, dy);
+            int nx = FixedPoint.div(dx, distance);
+            int ny = FixedPoint.div(dy, distance);
+            int dot = FixedPoint.mul(ball.getFixedVX(), nx) + FixedPoint.mul(ball.getFixedVY(), ny);
+            if (dot < 0) {
+                ball.setFixedVX(ball.getFixedVX() - 2 * FixedPoint.mul(dot, nx));
+                ball.setFixedVY(ball.getFixedVY() - 2 * FixedPoint.mul(dot, ny));
+            }
+        }
+    }
+
+    private static boolean overlaps(int x, int y, int radius, int left, int bottom, int right, int top) {
+        long dx = x - Math.max(left, Math.min(right, x));
+        long dy = y - Math.max(bottom, Math.min(top, y));
+        return dx * dx + dy * dy < (long) radius * radius;
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.warnotte.warkanoid;
+
+/**
+ * 16.16 fixed-point helpers for {@link CollisionMode#FIXED}. Values are plain ints
+ * ({@link #ONE} is 1.0), products go through longs, and the trig tables are built with
+ * integer arithmetic only, so the same inputs give the same bits on every JVM, JIT tier
+ * and GWT. Range is +/-32768 px, enough for the tallest generated levels.
+ */
+public final class FixedPoint {
+    public static final int SHIFT = 16;
+    public static final int ONE = 1 << SHIFT;
+
+    /** Table entries per full turn. */
+    private static final int TURN_BITS = 12;
+    private static final int TURN = 1 << TURN_BITS;
+    private static final int[] SIN = new int[TURN];
+
+    static {
+        // Quarter wave by Taylor series in 2.30, mirrored to the full turn
+        final long piHalf = 1686629713L; // pi / 2 in 2.30
+        int quarter = TURN / 4;
+        for (int i = 0; i <= quarter; i++) {
+            long x = piHalf * i / quarter;
+            long term = x;
+            long sum = x;
+            for (int k = 1; k <= 10; k++) {
+                term = ((term * x) >> 30) * x >> 30;
+                term = -term / ((2L * k) * (2L * k + 1));
+                sum += term;
+            }
+            int value = (int) ((sum + (1L << 13)) >> 14);
+            SIN[i] = value;
+            SIN[TURN / 2 - i] = value;
+            SIN[(TURN / 2 + i) % TURN] = -value;
+            SIN[(TURN - i) % TURN] = -value;
+        }
+    }
+
+    private FixedPoint() {
+    }
+
+    /** Float to fixed, rounded; exact for the power-of-two scale, so deterministic. */
+    public static int fromFloat(float value) {
+        return Math.round(value * ONE);
+    }
+
+    public static float toFloat(int value) {
+        return value / (float) ONE;
+    }
+
+    public static int mul(int a, int b) {
+        return (int) (((long) a * b) >> SHIFT);
+    }
+
+    public static int div(int a, int b) {
+        return (int) (((long) a << SHIFT) / b);
+    }
+
+    /** Length of (x, y), both fixed. */
+    public static int length(int x, int y) {
+        return (int) sqrt((long) x * x + (long) y * y);
+    }
+
+    /** Integer square root (floor); the root of a 32.32 square is 16.16. */
+    public static long sqrt(long value) {
+        if (value <= 0) {
+            return 0;
+        }
+        long result = 0;
+        long bit = 1L << 62;
+        while (bit > value) {
+            bit >>= 2;
+        }
+        while (bit != 0) {
+            if (value >= result + bit) {
+                value -= result + bit;
+                result = (result >> 1) + bit;
+            } else {
+                result >>= 1;
+            }
+            bit >>= 2;
+        }
+        return result;
+    }
+
+    /** Sine of an angle in fixed degrees, from the table (0.09 degree steps). */
+    public static int sinDegrees(int degrees) {
+        return SIN[tableIndex(degrees)];
+    }
+
+    public static int cosDegrees(int degrees) {
+        return SIN[(tableIndex(degrees) + TURN / 4) & (TURN - 1)];
+    }
+
+    private static int tableIndex(int degrees) {
+        long turns = (long) degrees * TURN / (360L * ONE);
+        return (int) (turns & (TURN - 1));
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.warnotte.warkanoid;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * {@link ParallelFor} on a fork-join pool: the range is split in halves until slices are
+ * at most {@code grain} indices long.
+ * <p>
+ * Desktop only (java.util.concurrent), excluded from the GWT module.
+ */
+public class ForkJoinParallelFor implements ParallelFor {
+    public static final int DEFAULT_GRAIN = 256;
+
+    private final ForkJoinPool pool;
+    private final int grain;
+
+    public ForkJoinParallelFor(ForkJoinPool pool, int grain) {
+        this.pool = pool;
+        this.grain = Math.max(1, grain);
+    }
+
+    public ForkJoinParallelFor() {
+        this(ForkJoinPool.commonPool(), DEFAULT_GRAIN);
+    }
+
+    @Override
+    public void run(int count, Task task) {
+        if (count <= grain) {
+            if (count > 0) {
+                task.run(0, count);
+            }
+            return;
+        }
+        pool.invoke(new Slice(task, 0, count, grain));
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    private static final class Slice extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Task task;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        Slice(Task task, int from, int to, int grain) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain) {
+                task.run(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new Slice(task, from, mid, grain), new Slice(task, mid, to, grain));
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Per-phase frame timings: each phase of a frame (see {@link Main#render()}) is timed
+ * with {@link #begin}/{@link #end} (or {@link #record} for a duration measured
+ * elsewhere) into a {@link Histogram}. Three sets are kept per phase: since start (for
+ * {@link #dump}), the current one-second window, and the last complete window (what the
+ * overlay shows, so the numbers do not flicker every frame).
+ * <p>
+ * Recording takes no lock and allocates nothing: the histograms are plain counters
+ * written by the render thread only, and read on that thread too (overlay, dump). The
+ * per-phase times of the slowest frame are also kept, which is what attributes a spike
+ * to a phase. Phases timed with begin/end are also reported to the {@link Tracer}.
+ */
+public class FrameProfiler {
+    private static final long WINDOW_NANOS = 1000000000L;
+
+    private final Array<String> labels = new Array<>();
+    private final Array<Histogram> totals = new Array<>();
+    private final Array<Histogram> windows = new Array<>();
+    private final Array<Histogram> shown = new Array<>();
+    private long[] starts = new long[0];
+    private long[] frameNanos = new long[0];
+    private long[] worstFrameNanos = new long[0];
+    private final Histogram frames = new Histogram();
+    private final Histogram windowFrames = new Histogram();
+    private final Histogram shownFrames = new Histogram();
+    private long frameStart;
+    private long worstFrame;
+    private long lastFrame;
+    private long windowStart = -1L;
+    private Tracer tracer = Tracer.NONE;
+
+    /** Adds a phase, listed in the overlay and the dump in the order added; returns its id. */
+    public int addPhase(String label) {
+        labels.add(label);
+        totals.add(new Histogram());
+        windows.add(new Histogram());
+        shown.add(new Histogram());
+        int count = labels.size;
+        starts = new long[count];
+        frameNanos = new long[count];
+        worstFrameNanos = new long[count];
+        return count - 1;
+    }
+
+    public void beginFrame() {
+        frameStart = TimeUtils.nanoTime();
+        if (windowStart < 0L) {
+            windowStart = frameStart;
+        }
+        for (int i = 0; i < frameNanos.length; i++) {
+            frameNanos[i] = 0L;
+        }
+    }
+
+    public void begin(int phase) {
+        tracer.beginPhase();
+        starts[phase] = TimeUtils.nanoTime();
+    }
+
+    public void end(int phase) {
+        record(phase, TimeUtils.nanoTime() - starts[phase]);
+        tracer.endPhase(labels.get(phase));
+    }
+
+    public void setTracer(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /** Adds a duration to the phase; several records in one frame add up to one sample. */
+    public void record(int phase, long nanos) {
+        frameNanos[phase] += nanos;
+    }
+
+    /** Closes the frame: one sample per phase that ran, and the window rolls over every second. */
+    public void endFrame() {
+        long now = TimeUtils.nanoTime();
+        long frame = now - frameStart;
+        lastFrame = frame;
+        frames.record(frame);
+        windowFrames.record(frame);
+        for (int i = 0; i < frameNanos.length; i++) {
+            if (frameNanos[i] > 0L) {
+                totals.get(i).record(frameNanos[i]);
+                windows.get(i).record(frameNanos[i]);
+            }
+        }
+        if (frame > worstFrame) {
+            worstFrame = frame;
+            System.arraycopy(frameNanos, 0, worstFrameNanos, 0, frameNanos.length);
+        }
+        if (now - windowStart >= WINDOW_NANOS) {
+            for (int i = 0; i < windows.size; i++) {
+                shown.get(i).set(windows.get(i));
+                windows.get(i).clear();
+            }
+            shownFrames.set(windowFrames);
+            windowFrames.clear();
+            windowStart = now;
+        }
+    }
+
+    /** Work of the last frame, from {@link #beginFrame()} to {@link #endFrame()}. */
+    public long getLastFrameNanos() {
+        return lastFrame;
+    }
+
+    /** Time of the phase in the frame being drawn, or in the last one after {@link #endFrame()}. */
+    public long getFrameNanos(int phase) {
+        return frameNanos[phase];
+    }
+
+    public int getPhaseCount() {
+        return labels.size;
+    }
+
+    public String getLabel(int phase) {
+        return labels.get(phase);
+    }
+
+    /** Last complete one-second window of the phase. */
+    public Histogram getWindow(int phase) {
+        return shown.get(phase);
+    }
+
+    /** Last complete one-second window of whole frames. */
+    public Histogram getFrameWindow() {
+        return shownFrames;
+    }
+
+    public void reset() {
+        for (int i = 0; i < labels.size; i++) {
+            totals.get(i).clear();
+            windows.get(i).clear();
+            shown.get(i).clear();
+            worstFrameNanos[i] = 0L;
+        }
+        frames.clear();
+        windowFrames.clear();
+        shownFrames.clear();
+        worstFrame = 0L;
+    }
+
+    /**
+     * Writes the since-start histograms as CSV: a summary line per phase (with its share
+     * of the slowest frame), then the non-empty buckets of every phase.
+     */
+    public void dump(FileHandle file) {
+        StringBuilder out = new StringBuilder();
+        out.append("phase,count,mean_us,p50_us,p90_us,p99_us,max_us,worst_frame_us\n");
+        appendSummary(out, "frame", frames, worstFrame);
+        for (int i = 0; i < labels.size; i++) {
+            appendSummary(out, labels.get(i), totals.get(i), worstFrameNanos[i]);
+        }
+        out.append('\n');
+        out.append("phase,bucket_max_us,count\n");
+        appendBuckets(out, "frame", frames);
+        for (int i = 0; i < labels.size; i++) {
+            appendBuckets(out, labels.get(i), totals.get(i));
+        }
+        file.writeString(out.toString(), false, "UTF-8");
+    }
+
+    private static void appendSummary(StringBuilder out, String label, Histogram histogram, long worst) {
+        out.append(label).append(',').append(histogram.getCount()).append(',');
+        appendMicros(out, histogram.getMean()).append(',');
+        appendMicros(out, histogram.getPercentile(0.5f)).append(',');
+        appendMicros(out, histogram.getPercentile(0.9f)).append(',');
+        appendMicros(out, histogram.getPercentile(0.99f)).append(',');
+        appendMicros(out, histogram.getMax()).append(',');
+        appendMicros(out, worst).append('\n');
+    }
+
+    private static void appendBuckets(StringBuilder out, String label, Histogram histogram) {
+        for (int b = 0; b < Histogram.BUCKETS; b++) {
+            long count = histogram.getBucketCount(b);
+            if (count > 0L) {
+                out.append(label).append(',');
+                appendMicros(out, Histogram.bucketMax(b)).append(',').append(count).append('\n');
+            }
+        }
+    }
+
+    /** Nanoseconds as microseconds with one decimal, without String.format (GWT). */
+    public static StringBuilder appendMicros(StringBuilder out, long nanos) {
+        long tenths = (nanos + 50L) / 100L;
+        return out.append(tenths / 10L).append('.').append(tenths % 10L);
+    }
+
+    /**
+     * Log-linear histogram of nanosecond durations: exact below 16 ns, then 16 buckets
+     * per power of two (at most 1/16 relative error) up to about 18 minutes. The exact
+     * maximum and sum are kept besides the buckets.
+     */
+    public static class Histogram {
+        private static final int SUB_BITS = 4;
+        private static final int SUB_BUCKETS = 1 << SUB_BITS;
+        private static final int MAX_EXPONENT = 40;
+        static final int BUCKETS = (MAX_EXPONENT - SUB_BITS + 2) * SUB_BUCKETS;
+
+        private final long[] counts = new long[BUCKETS];
+        private long count;
+        private long sum;
+        private long max;
+
+        public void record(long nanos) {
+            long value = Math.max(0L, nanos);
+            counts[bucket(value)]++;
+            count++;
+            sum += value;
+            max = Math.max(max, value);
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getMax() {
+            return max;
+        }
+
+        public long getMean() {
+            return count == 0L ? 0L : sum / count;
+        }
+
+        /** Upper bound of the bucket holding the given quantile (0..1), capped by the max. */
+        public long getPercentile(float quantile) {
+            if (count == 0L) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(quantile * (double) count));
+            long seen = 0L;
+            for (int b = 0; b < BUCKETS; b++) {
+                seen += counts[b];
+                if (seen >= rank) {
+                    return Math.min(bucketMax(b), max);
+                }
+            }
+            return max;
+        }
+
+        long getBucketCount(int bucket) {
+            return counts[bucket];
+        }
+
+        void set(Histogram other) {
+            System.arraycopy(other.counts, 0, counts, 0, BUCKETS);
+            count = other.count;
+            sum = other.sum;
+            max = other.max;
+        }
+
+        void clear() {
+            for (int b = 0; b < BUCKETS; b++) {
+                counts[b] = 0L;
+            }
+            count = 0L;
+            sum = 0L;
+            max = 0L;
+        }
+
+        static int bucket(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+            if (exponent == MAX_EXPONENT) {
+                return BUCKETS - 1;
+            }
+            int sub = (int) (value >>> (exponent - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return (exponent - SUB_BITS + 1) * SUB_BUCKETS + sub;
+        }
+
+        /** Largest value that falls in the bucket. */
+        static long bucketMax(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int exponent = bucket / SUB_BUCKETS + SUB_BITS - 1;
+            int sub = bucket % SUB_BUCKETS;
+            long width = 1L << (exponent - SUB_BITS);
+            return ((SUB_BUCKETS + sub) * width) + width - 1L;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.warnotte.warkanoid;
+
+import java.util.Arrays;
+
+/**
+ * Per-tick event buffer of the {@link GameWorld}: the physics only append compact records
+ * (parallel primitive columns, no object per event) and the world consumes them in
+ * batches once the balls and lasers moved. Cleared at the start of every update, so after
+ * an update it holds everything that happened in that tick (analytics, harnesses).
+ * <p>
+ * Columns per record: type, source, brick index (or power-up ordinal), points, position.
+ */
+public class GameEvents {
+    /** A brick took a hit and survived. */
+    public static final int BRICK_HIT = 0;
+    /** A brick was destroyed; {@link #getPoints} is its score. */
+    public static final int BRICK_DESTROYED = 1;
+    public static final int WALL_BOUNCE = 2;
+    public static final int PADDLE_BOUNCE = 3;
+    /** The paddle caught a power-up; {@link #getIndex} is its {@code PowerUp.Type} ordinal. */
+    public static final int POWER_UP_PICKUP = 4;
+    public static final int BALL_LAUNCHED = 5;
+    /** A bomb went off at the record's position. */
+    public static final int EXPLOSION = 6;
+
+    public static final int SOURCE_BALL = 0;
+    public static final int SOURCE_LASER = 1;
+    public static final int SOURCE_EXPLOSION = 2;
+
+    private int[] types;
+    private int[] sources;
+    private int[] indices;
+    private int[] points;
+    private float[] xs;
+    private float[] ys;
+    private int size;
+
+    public GameEvents() {
+        this(64);
+    }
+
+    public GameEvents(int capacity) {
+        types = new int[capacity];
+        sources = new int[capacity];
+        indices = new int[capacity];
+        points = new int[capacity];
+        xs = new float[capacity];
+        ys = new float[capacity];
+    }
+
+    public void add(int type, int source, int index, int points, float x, float y) {
+        if (size == types.length) {
+            grow();
+        }
+        types[size] = type;
+        sources[size] = source;
+        indices[size] = index;
+        this.points[size] = points;
+        xs[size] = x;
+        ys[size] = y;
+        size++;
+    }
+
+    private void grow() {
+        int capacity = Math.max(16, types.length * 2);
+        types = Arrays.copyOf(types, capacity);
+        sources = Arrays.copyOf(sources, capacity);
+        indices = Arrays.copyOf(indices, capacity);
+        points = Arrays.copyOf(points, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getType(int i) {
+        return types[i];
+    }
+
+    public int getSource(int i) {
+        return sources[i];
+    }
+
+    /** Brick index in {@code GameWorld.getBricks()} for brick records, power-up ordinal for pickups, else -1. */
+    public int getIndex(int i) {
+        return indices[i];
+    }
+
+    public int getPoints(int i) {
+        return points[i];
+    }
+
+    public float getX(int i) {
+        return xs[i];
+    }
+
+    public float getY(int i) {
+        return ys[i];
+    }
+
+    /** Records of {@code type} in the buffer. */
+    public int count(int type) {
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (types[i] == type) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
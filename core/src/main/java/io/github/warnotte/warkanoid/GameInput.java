@@ -0,0 +1,25 @@
+package io.github.warnotte.warkanoid;
+
+/**
+ * Player input for one {@link GameWorld#update} tick. {@code Main} fills it from
+ * {@code Gdx.input}; headless harnesses script it directly.
+ */
+public class GameInput {
+    /** When true the paddle moves by {@link #paddleDirection}, otherwise it centers on {@link #pointerX}. */
+    public boolean keyboardPaddle;
+    /** -1 left, +1 right, 0 when both or neither arrow keys are held. */
+    public int paddleDirection;
+    /** Pointer X in world coordinates. */
+    public float pointerX;
+    /** Launch / fire / release sticky balls (SPACE or click, edge-triggered). */
+    public boolean action;
+    /** Power-up to apply right away (cheat keys), or null. */
+    public PowerUp.Type powerUp;
+
+    public void clear() {
+        keyboardPaddle = false;
+        paddleDirection = 0;
+        action = false;
+        powerUp = null;
+    }
+}
@@ -0,0 +1,1411 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectSet;
+import com.badlogic.gdx.utils.Pool;
+import com.badlogic.gdx.utils.TimeUtils;
+import io.github.warnotte.warkanoid.level.PreparedLevel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Game state and simulation (paddle, balls, bricks, power-ups, lasers, score) without
+ * any rendering, audio or {@code Gdx} dependency. {@code Main} drives it from the
+ * render loop; benchmark and soak harnesses drive it headless.
+ */
+public class GameWorld {
+    /**
+     * Audio/visual feedback hooks; the world itself never touches sounds or the camera.
+     * Called from the event consumer, at most once per kind per batch.
+     */
+    public interface Listener {
+        void onBallLaunched();
+
+        void onWallHit();
+
+        void onPaddleHit();
+
+        void onBrickHit();
+
+        void onScreenShake(float duration, float intensity);
+    }
+
+    public static final Listener NO_LISTENER = new Listener() {
+        @Override
+        public void onBallLaunched() {
+        }
+
+        @Override
+        public void onWallHit() {
+        }
+
+        @Override
+        public void onPaddleHit() {
+        }
+
+        @Override
+        public void onBrickHit() {
+        }
+
+        @Override
+        public void onScreenShake(float duration, float intensity) {
+        }
+    };
+
+    public static final float BALL_RADIUS = 8f;
+    private static final float PADDLE_WIDTH = 100f;
+    private static final float PADDLE_HEIGHT = 15f;
+    private static final float PADDLE_Y = 30f;
+
+    private final Random random;
+    private final Listener listener;
+    private float width;
+    private float height;
+
+    private final Paddle paddle;
+    private final List<Ball> balls = new ArrayList<>();
+    private final List<Ball> stickyBalls = new ArrayList<>();
+    private List<Brick> bricks = new ArrayList<>();
+    private BrickGrid brickGrid = new BrickGrid(bricks);
+    private BrickChunks brickChunks;
+    private JbumpBricks jbumpBricks;
+    private Box2DPhysics box2dPhysics;
+    private final FixedPhysics fixedPhysics = new FixedPhysics();
+    private final FloatArray focusY = new FloatArray();
+    private final IntArray brickCandidates = new IntArray();
+    private final IntArray sweptCandidates = new IntArray();
+    private SweepFilter sweepFilter;
+    private final IntArray explosionCandidates = new IntArray();
+    private final FloatArray pendingExplosions = new FloatArray();
+    private final List<PowerUp> powerUps = new ArrayList<>();
+    private final List<Particle> particles = new ArrayList<>();
+    private final List<Laser> lasers = new ArrayList<>();
+    private final Pool<Laser> laserPool = new Pool<Laser>() {
+        @Override
+        protected Laser newObject() {
+            return new Laser();
+        }
+    };
+    private float laserCooldown;
+
+    private CollisionMode collisionMode = CollisionMode.CONTINUOUS;
+    private final BallCollider ballCollider = new BallCollider();
+    private boolean ballCollisions;
+
+    // Massive multi-ball mode: balls are stepped in parallel against a frozen brick
+    // state, then their hits are merged in ball order (see updateBallsBatched).
+    private static final int EVENT_WALL = 1;
+    private static final int EVENT_PADDLE = 2;
+    private static final int EVENT_STUCK = 4;
+    private static final int EVENT_LOST = 8;
+    private ParallelFor parallelFor = ParallelFor.SERIAL;
+    private boolean massiveMultiBall;
+    private Ball[] ballSlots = new Ball[0];
+    private int[] slotBrickHit = new int[0];
+    private byte[] slotEvents = new byte[0];
+    private final ObjectSet<Ball> stickySet = new ObjectSet<>();
+    private float batchDeltaTime;
+    private float batchComboIntensity;
+    /**
+     * Candidate and swept scratch lists lent to the slices of a batched step; slices run on
+     * worker threads, hence the lock (no ThreadLocal under GWT). Grows to the slice count once.
+     */
+    private final Array<IntArray[]> sliceScratch = new Array<>();
+    private final ParallelFor.Task ballStepTask = new ParallelFor.Task() {
+        @Override
+        public void run(int from, int to) {
+            IntArray[] scratch;
+            synchronized (sliceScratch) {
+                scratch = sliceScratch.size > 0 ? sliceScratch.pop() : new IntArray[] {new IntArray(32), new IntArray(32)};
+            }
+            for (int i = from; i < to; i++) {
+                stepBallBatched(i, scratch[0], scratch[1]);
+            }
+            synchronized (sliceScratch) {
+                sliceScratch.add(scratch);
+            }
+        }
+    };
+    /** Ball movement and collisions of the last update, for the frame profiler. */
+    private long physicsNanos;
+    private Tracer tracer = Tracer.NONE;
+    /** Serial-path work of the current tick, reported to the tracer. */
+    private int tickSubsteps;
+    private int tickBrickTests;
+    /** Records of the current tick; consumed up to {@code eventsProcessed} so far. */
+    private final GameEvents events = new GameEvents();
+    private int eventsProcessed;
+    private static final PowerUp.Type[] POWER_UP_TYPES = PowerUp.Type.values();
+    private int score;
+    private int lives;
+    private int comboCount;
+    private int maxCombo;
+    private float comboTimer;
+    private boolean gameOver;
+    private boolean gameWon;
+    private boolean ballLaunched;
+
+    public GameWorld(float width, float height, Random random, Listener listener) {
+        this.width = width;
+        this.height = height;
+        this.random = random;
+        this.listener = listener;
+        this.paddle = new Paddle(width / 2f - PADDLE_WIDTH / 2f, PADDLE_Y, PADDLE_WIDTH, PADDLE_HEIGHT);
+        this.lives = 3;
+        spawnBallOnPaddle();
+    }
+
+    /** Installs a freshly prepared level, keeping score, lives and the objects in play. */
+    public void setLevel(PreparedLevel level) {
+        bricks = level.bricks;
+        brickGrid = level.grid;
+        brickChunks = level.chunks;
+        jbumpBricks = null;
+        width = level.data.width;
+        height = level.data.height;
+    }
+
+    /** Starts a level from scratch: clears balls and pickups and resets the paddle. */
+    public void switchLevel(PreparedLevel level) {
+        massiveMultiBall = false;
+        balls.clear();
+        powerUps.clear();
+        particles.clear();
+        clearLasers();
+        stickyBalls.clear();
+
+        setLevel(level);
+
+        paddle.setX(width / 2f - PADDLE_WIDTH / 2f);
+        paddle.setWidth(PADDLE_WIDTH);
+        paddle.setMode(Paddle.Mode.NORMAL);
+
+        spawnBallOnPaddle();
+        ballLaunched = false;
+        laserCooldown = 0f;
+    }
+
+    /** Restarts after game over / victory: resets score and lives, keeps the paddle size. */
+    public void restart(PreparedLevel level) {
+        score = 0;
+        comboCount = 0;
+        comboTimer = 0f;
+        maxCombo = 0;
+        lives = 3;
+        gameOver = false;
+        gameWon = false;
+        ballLaunched = false;
+
+        massiveMultiBall = false;
+        balls.clear();
+        spawnBallOnPaddle();
+
+        powerUps.clear();
+        particles.clear();
+        clearLasers();
+        laserCooldown = 0f;
+        stickyBalls.clear();
+
+        paddle.setMode(Paddle.Mode.NORMAL);
+
+        setLevel(level);
+    }
+
+    private void spawnBallOnPaddle() {
+        Ball newBall = new Ball(paddle.getX() + paddle.getWidth() / 2f,
+                                paddle.getY() + paddle.getHeight() + BALL_RADIUS, BALL_RADIUS);
+        newBall.setTrailColor(Color.CYAN);
+        balls.add(newBall);
+    }
+
+    public void update(float deltaTime, GameInput input) {
+        events.clear();
+        eventsProcessed = 0;
+        step(deltaTime, input);
+        processEvents();
+    }
+
+    private void step(float deltaTime, GameInput input) {
+        physicsNanos = 0L;
+        if (comboCount > 0) {
+            comboTimer -= deltaTime;
+            if (comboTimer <= 0f) {
+                comboCount = 0;
+                comboTimer = 0f;
+            }
+        }
+
+        if (gameOver || gameWon) {
+            return;
+        }
+
+        // Update paddle movement (keyboard has priority over the pointer)
+        if (input.keyboardPaddle) {
+            paddle.update(deltaTime, width, input.paddleDirection);
+        } else {
+            paddle.updateWithMouse(deltaTime, width, input.pointerX);
+        }
+
+        if (!paddle.isSticky() && !stickyBalls.isEmpty()) {
+            releaseStickyBalls();
+        }
+
+        if (input.powerUp != null) {
+            applyPowerUp(input.powerUp);
+        }
+
+        // Update laser cooldown
+        if (laserCooldown > 0) {
+            laserCooldown -= deltaTime;
+        }
+
+        float comboIntensity = comboCount > 0 ? MathUtils.clamp(comboCount / 6f, 0f, 2f) : 0f;
+
+        // Handle action based on paddle mode
+        if (input.action) {
+            if (paddle.isLaser() && laserCooldown <= 0) {
+                // Shoot twin lasers from paddle (like original Arkanoid)
+                float laserY = paddle.getY() + paddle.getHeight();
+                // Left laser
+                fireLaser(paddle.getX() + paddle.getWidth() * 0.25f, laserY);
+                // Right laser
+                fireLaser(paddle.getX() + paddle.getWidth() * 0.75f, laserY);
+                laserCooldown = 0.3f; // 300ms cooldown
+            } else if (paddle.isSticky() && !stickyBalls.isEmpty()) {
+                releaseStickyBalls();
+            }
+        }
+
+        streamBricks();
+
+        // Check for ball launch
+        if (!ballLaunched && !balls.isEmpty()) {
+            // Only follow paddle with the first ball if not launched
+            Ball firstBall = balls.get(0);
+            firstBall.followPaddle(paddle);
+            firstBall.updateTrail(deltaTime);
+            firstBall.updateTrailStyle(comboIntensity);
+            if (input.action) {
+                firstBall.launch();
+                events.add(GameEvents.BALL_LAUNCHED, GameEvents.SOURCE_BALL, -1, 0, firstBall.getX(), firstBall.getY());
+                ballLaunched = true;
+            }
+            return; // Don't update ball physics until launched
+        }
+
+        long physicsStart = TimeUtils.nanoTime();
+        tracer.beginBallPhysics();
+        tickSubsteps = 0;
+        tickBrickTests = 0;
+        int ballCount = balls.size();
+        if (ballCollisions) {
+            for (int i = 0; i < balls.size(); i++) {
+                balls.get(i).markTickStart();
+            }
+        }
+
+        // Update all balls movement with collision detection
+        if (collisionMode == CollisionMode.BOX2D) {
+            updateBallsBox2D(deltaTime, comboIntensity);
+        } else if (massiveMultiBall && collisionMode != CollisionMode.FIXED) {
+            // FIXED keeps the sequential loop: its results must not depend on the thread count
+            updateBallsBatched(deltaTime, comboIntensity);
+        } else {
+            for (int i = balls.size() - 1; i >= 0; i--) {
+                Ball ball = balls.get(i);
+
+                if (stickyBalls.contains(ball)) {
+                    ball.followPaddle(paddle);
+                    ball.updateTrail(deltaTime);
+                    ball.updateTrailStyle(comboIntensity);
+                } else {
+                    updateBallWithCollisions(ball, deltaTime);
+
+                    if (ball.isOutOfBounds(height)) {
+                        stickyBalls.remove(ball);
+                        balls.remove(i);
+                        continue;
+                    }
+
+                    ball.updateTrail(deltaTime);
+                    ball.updateTrailStyle(comboIntensity);
+                }
+            }
+        }
+
+        // Ball-ball collisions need every ball's motion for the tick, so they are
+        // resolved once all balls went through updateBallWithCollisions
+        if (ballCollisions) {
+            ballCollider.resolve(balls);
+        }
+        physicsNanos = TimeUtils.nanoTime() - physicsStart;
+        tracer.endBallPhysics(collisionMode.name(), ballCount, tickSubsteps, tickBrickTests);
+        processEvents();
+
+        // Check if all balls are lost (lost life)
+        if (balls.isEmpty()) {
+            massiveMultiBall = false;
+            comboCount = 0;
+            comboTimer = 0f;
+            lives--;
+            if (lives <= 0) {
+                gameOver = true;
+            } else {
+                // Reset with new ball on paddle
+                spawnBallOnPaddle();
+                ballLaunched = false;
+            }
+            return;
+        }
+
+        // Update power-ups
+        for (int i = powerUps.size() - 1; i >= 0; i--) {
+            PowerUp powerUp = powerUps.get(i);
+            powerUp.update(deltaTime);
+
+            // Check collision with paddle
+            if (powerUp.checkCollisionWithPaddle(paddle)) {
+                events.add(GameEvents.POWER_UP_PICKUP, GameEvents.SOURCE_BALL, powerUp.getType().ordinal(), 0,
+                           powerUp.getX(), powerUp.getY());
+                powerUps.remove(i);
+                continue;
+            }
+
+            // Remove power-ups that are out of bounds
+            if (powerUp.isOutOfBounds(height)) {
+                powerUps.remove(i);
+            }
+        }
+
+        // Update particles
+        for (int i = particles.size() - 1; i >= 0; i--) {
+            Particle particle = particles.get(i);
+            particle.update(deltaTime);
+            if (particle.isDead()) {
+                particles.remove(i);
+            }
+        }
+
+        // Update lasers: swept along their column and resolved through the brick grid
+        for (int i = lasers.size() - 1; i >= 0; i--) {
+            Laser laser = lasers.get(i);
+            laser.update(deltaTime);
+
+            // Swept even when the beam left the field: it may have crossed a brick on the way out
+            int brickIndex = firstBrickHitByLaser(laser);
+            if (brickIndex >= 0) {
+                Brick brick = bricks.get(brickIndex);
+                emitBrickHit(brickIndex, GameEvents.SOURCE_LASER, brick.hit() ? brick.getScore() : 0);
+            }
+
+            if (brickIndex >= 0 || laser.isOutOfBounds(height)) {
+                // Swap-remove: order does not matter and rapid fire keeps hundreds of beams
+                int last = lasers.size() - 1;
+                lasers.set(i, lasers.get(last));
+                lasers.remove(last);
+                laserPool.free(laser);
+            }
+        }
+
+        // Bomb chains are resolved here, before the bricks are counted
+        processEvents();
+
+        // Check win condition (all destructible bricks destroyed)
+        boolean allDestroyed = true;
+        for (Brick brick : bricks) {
+            // Only count destructible bricks for win condition
+            if (!brick.isIndestructible() && !brick.isDestroyed()) {
+                allDestroyed = false;
+                break;
+            }
+        }
+        if (allDestroyed && (brickChunks == null || brickChunks.getInactiveRemaining() == 0)) {
+            gameWon = true;
+        }
+    }
+
+    /** Index of the lowest brick crossed by the beam this frame (the one it reached first), or -1. */
+    private int firstBrickHitByLaser(Laser laser) {
+        Rectangle beam = laser.getBounds();
+        brickGrid.query(beam.x, laser.getPreviousY(), beam.x + beam.width, beam.y + beam.height, brickCandidates);
+        int first = -1;
+        for (int c = 0; c < brickCandidates.size; c++) {
+            Brick brick = bricks.get(brickCandidates.get(c));
+            if (laser.sweepHitsBrick(brick) && (first < 0 || brick.getY() < bricks.get(first).getY())) {
+                first = brickCandidates.get(c);
+            }
+        }
+        return first;
+    }
+
+    private void fireLaser(float x, float y) {
+        lasers.add(laserPool.obtain().init(x, y));
+    }
+
+    private void clearLasers() {
+        for (int i = 0; i < lasers.size(); i++) {
+            laserPool.free(lasers.get(i));
+        }
+        lasers.clear();
+    }
+
+    /** Tall levels: keeps the chunks around the balls, lasers and paddle streamed in. */
+    private void streamBricks() {
+        if (brickChunks == null) {
+            return;
+        }
+        focusY.clear();
+        focusY.add(paddle.getY());
+        for (int i = 0; i < balls.size(); i++) {
+            focusY.add(balls.get(i).getY());
+        }
+        for (int i = 0; i < lasers.size(); i++) {
+            focusY.add(lasers.get(i).getBounds().y);
+        }
+        if (brickChunks.update(focusY)) {
+            // The list and grid were updated in place; the physics worlds only follow the changed slots
+            IntArray removed = brickChunks.getRemovedSlots();
+            IntArray added = brickChunks.getAddedSlots();
+            if (jbumpBricks != null && jbumpBricks.isFor(bricks)) {
+                jbumpBricks.updateSlots(removed, added);
+            }
+            if (box2dPhysics != null) {
+                box2dPhysics.updateBricks(bricks, removed, added);
+            }
+        }
+    }
+
+    public void releaseStickyBalls() {
+        if (stickyBalls.isEmpty()) {
+            return;
+        }
+
+        float paddleCenter = paddle.getX() + paddle.getWidth() / 2f;
+        float maxAngle = 60f;
+        float speed = 300f;
+
+        for (Ball stickyBall : stickyBalls) {
+            float ballOffsetFromCenter = stickyBall.getX() - paddleCenter;
+            float angleInDegrees = (ballOffsetFromCenter / (paddle.getWidth() / 2f)) * maxAngle;
+            setVelocity(stickyBall, speed, 90f - angleInDegrees);
+        }
+
+        stickyBalls.clear();
+    }
+
+    private void updateBallWithCollisions(Ball ball, float deltaTime) {
+        if (collisionMode == CollisionMode.FIXED) {
+            updateBallFixed(ball, deltaTime);
+            return;
+        }
+
+        // Paddle first, swept over the whole frame against the moving paddle, so its
+        // safety does not depend on the substeps below
+        if (ball.sweepCollisionWithPaddle(paddle, paddle.isSticky(), deltaTime)) {
+            keepBetweenWalls(ball);
+            onPaddleHit(ball);
+            return;
+        }
+
+        if (collisionMode == CollisionMode.ADAPTIVE) {
+            updateBallAdaptive(ball, deltaTime);
+            return;
+        }
+
+        // Continuous collision detection - subdivide movement into small steps
+        float stepSize = ball.getRadius(); // Move at most one radius per step
+        float distance = ball.getVelocity().len() * deltaTime;
+        int steps = Math.max(1, (int) Math.ceil(distance / stepSize));
+
+        float stepX = (ball.getVelocity().x * deltaTime) / steps;
+        float stepY = (ball.getVelocity().y * deltaTime) / steps;
+
+        for (int i = 0; i < steps; i++) {
+            tickSubsteps++;
+            // Store previous position for swept collision
+            float prevX = ball.getX();
+            float prevY = ball.getY();
+
+            // Move ball one step
+            ball.setPosition(ball.getX() + stepX, ball.getY() + stepY);
+
+            if (hitWallOrPaddle(ball) || hitBrick(ball, prevX, prevY)) {
+                break; // Stop movement for this frame after collision
+            }
+        }
+    }
+
+    /** {@link CollisionMode#FIXED}: fixed-point move, then the usual game-side effects of the contact. */
+    private void updateBallFixed(Ball ball, float deltaTime) {
+        switch (fixedPhysics.move(ball, paddle, bricks, brickGrid, width, height, deltaTime)) {
+            case FixedPhysics.WALL:
+                emitBounce(GameEvents.WALL_BOUNCE, ball);
+                break;
+            case FixedPhysics.PADDLE:
+                onPaddleHit(ball);
+                break;
+            case FixedPhysics.BRICK:
+                Brick brick = bricks.get(fixedPhysics.getHitBrick());
+                emitBrickHit(fixedPhysics.getHitBrick(), GameEvents.SOURCE_BALL, brick.hit() ? brick.getScore() : 0);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * {@link CollisionMode#ADAPTIVE}: conservative advancement. Each jump is as long as
+     * the clearance to the nearest live brick or the paddle (from the brick grid), so a
+     * slow ball in open space moves in a single step without any narrow phase; only a
+     * ball close to something takes half-radius ROBUST steps. A jump never reaches an
+     * obstacle it did not test, so tunneling resistance is the same as ROBUST.
+     */
+    private void updateBallAdaptive(Ball ball, float deltaTime) {
+        float speed = ball.getVelocity().len();
+        if (speed == 0f) {
+            hitWallOrPaddle(ball);
+            return;
+        }
+        float radius = ball.getRadius();
+        float dirX = ball.getVelocity().x / speed;
+        float dirY = ball.getVelocity().y / speed;
+        float remaining = speed * deltaTime;
+        // Every pass advances at least a quarter radius, except the last one
+        int budget = 4 * (int) Math.ceil(remaining / radius) + 2;
+
+        while (remaining > 0f && budget-- > 0) {
+            tickSubsteps++;
+            float clearance = clearance(ball, radius + remaining);
+            float advance;
+            boolean nearContact;
+            if (clearance >= remaining) {
+                advance = remaining;
+                nearContact = false;
+            } else if (clearance > radius * 0.25f) {
+                advance = clearance;
+                nearContact = false;
+            } else {
+                advance = Math.min(remaining, radius * 0.5f);
+                nearContact = true;
+            }
+            remaining -= advance;
+
+            float prevX = ball.getX();
+            float prevY = ball.getY();
+            ball.setPosition(prevX + dirX * advance, prevY + dirY * advance);
+
+            if (hitWallOrPaddle(ball) || (nearContact && hitBrick(ball, prevX, prevY))) {
+                break; // Stop movement for this frame after collision
+            }
+        }
+    }
+
+    /**
+     * How far the ball can move in any direction before touching a live brick or the
+     * paddle, looking no further than {@code range} (walls are clamped, they cannot be
+     * tunneled through).
+     */
+    private float clearance(Ball ball, float range) {
+        float x = ball.getX();
+        float y = ball.getY();
+        float nearest = distanceToRect(x, y, paddle.getX(), paddle.getY(), paddle.getWidth(), paddle.getHeight());
+        brickGrid.query(x - range, y - range, x + range, y + range, brickCandidates);
+        for (int c = 0; c < brickCandidates.size; c++) {
+            Brick brick = bricks.get(brickCandidates.get(c));
+            if (!brick.isDestroyed()) {
+                nearest = Math.min(nearest,
+                        distanceToRect(x, y, brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight()));
+            }
+        }
+        return nearest - ball.getRadius();
+    }
+
+    private static float distanceToRect(float x, float y, float rectX, float rectY, float rectWidth, float rectHeight) {
+        float dx = Math.max(0f, Math.max(rectX - x, x - (rectX + rectWidth)));
+        float dy = Math.max(0f, Math.max(rectY - y, y - (rectY + rectHeight)));
+        return (float) Math.sqrt(dx * dx + dy * dy);
+    }
+
+    /** Wall and paddle response after a move; true when the ball bounced (ends its movement). */
+    private boolean hitWallOrPaddle(Ball ball) {
+        // Check collision with walls (both, so a ball driven into a top corner is kept in)
+        boolean wall = false;
+        if (ball.getX() - ball.getRadius() <= 0 || ball.getX() + ball.getRadius() >= width) {
+            ball.reverseX();
+            // Keep ball in bounds
+            if (ball.getX() - ball.getRadius() < 0) ball.setPosition(ball.getRadius(), ball.getY());
+            if (ball.getX() + ball.getRadius() > width) ball.setPosition(width - ball.getRadius(), ball.getY());
+            wall = true;
+        }
+
+        if (ball.getY() + ball.getRadius() >= height) {
+            ball.reverseY();
+            ball.setPosition(ball.getX(), height - ball.getRadius());
+            wall = true;
+        }
+        if (wall) {
+            emitBounce(GameEvents.WALL_BOUNCE, ball);
+            return true;
+        }
+
+        // Discrete paddle check: only catches a ball that starts the frame overlapping it
+        if (ball.checkCollisionWithPaddle(paddle, paddle.isSticky())) {
+            onPaddleHit(ball);
+            return true;
+        }
+        return false;
+    }
+
+    /** A paddle running into a wall would otherwise push a ball caught on its side through it. */
+    private void keepBetweenWalls(Ball ball) {
+        float radius = ball.getRadius();
+        ball.setPosition(MathUtils.clamp(ball.getX(), radius, width - radius), ball.getY());
+    }
+
+    /** Sets a launch direction; {@link CollisionMode#FIXED} takes it from the fixed-point sine table. */
+    private void setVelocity(Ball ball, float speed, float degrees) {
+        if (collisionMode == CollisionMode.FIXED) {
+            ball.setFixedVelocity(speed, degrees);
+        } else {
+            double radians = Math.toRadians(degrees);
+            ball.setVelocity((float) (speed * Math.cos(radians)), (float) (speed * Math.sin(radians)));
+        }
+    }
+
+    private void onPaddleHit(Ball ball) {
+        emitBounce(GameEvents.PADDLE_BOUNCE, ball);
+        if (paddle.isSticky() && ball.getVelocity().len() == 0) {
+            // Calculate and store offset from paddle center for following movement
+            float offsetX = ball.getX() - (paddle.getX() + paddle.getWidth() / 2f);
+            ball.setStickyOffset(offsetX);
+            stickyBalls.add(ball); // Ball is now stuck to paddle at its current position
+        }
+    }
+
+    /**
+     * Grid candidates around the step from (prevX, prevY) into {@code out}. When a
+     * {@link SweepFilter} is set and the ROBUST tests are used, only the bricks it keeps
+     * remain; {@code scratch} is a work buffer.
+     */
+    private void queryStep(Ball ball, float prevX, float prevY, IntArray out, IntArray scratch) {
+        float radius = ball.getRadius();
+        brickGrid.query(Math.min(prevX, ball.getX()) - radius - 1f, Math.min(prevY, ball.getY()) - radius - 1f,
+                        Math.max(prevX, ball.getX()) + radius + 1f, Math.max(prevY, ball.getY()) + radius + 1f,
+                        out);
+        boolean robust = collisionMode == CollisionMode.ROBUST || collisionMode == CollisionMode.ADAPTIVE
+                || collisionMode == CollisionMode.JBUMP;
+        if (sweepFilter != null && robust && out.size > 1) {
+            sweepFilter.filter(brickGrid, out, prevX, prevY, ball.getX(), ball.getY(), radius + 1f, scratch);
+            out.clear();
+            out.addAll(scratch);
+        }
+    }
+
+    /** Brick response for the move from (prevX, prevY); true when a brick was hit (ends the movement). */
+    private boolean hitBrick(Ball ball, float prevX, float prevY) {
+        // Check collision with bricks near the swept step
+        if (collisionMode == CollisionMode.JBUMP) {
+            jbumpBricks().sweep(ball, prevX, prevY, brickCandidates);
+        } else {
+            queryStep(ball, prevX, prevY, brickCandidates, sweptCandidates);
+        }
+        tickBrickTests += brickCandidates.size;
+        for (int c = 0; c < brickCandidates.size; c++) {
+            Brick brick = bricks.get(brickCandidates.get(c));
+            int hitsBefore = brick.getHits();
+            boolean wasDestroyed = brick.isDestroyed();
+
+            // Choose collision method based on selected collision mode
+            int points;
+            switch (collisionMode) {
+                case DISCRETE:
+                    points = ball.checkCollisionWithBrick(brick);
+                    break;
+                case CONTINUOUS:
+                    points = ball.checkCollisionWithBrickSwept(brick, prevX, prevY);
+                    break;
+                case ROBUST:
+                case JBUMP:
+                case ADAPTIVE:
+                    // JBUMP candidates only touch the ball's box; the circle test decides
+                    points = ball.checkCollisionWithBrickRobust(brick, prevX, prevY);
+                    break;
+                default:
+                    points = ball.checkCollisionWithBrick(brick);
+                    break;
+            }
+
+            int hitsAfter = brick.getHits();
+            boolean isDestroyed = brick.isDestroyed();
+            boolean collided = hitsAfter != hitsBefore || wasDestroyed != isDestroyed;
+
+            if (collided) {
+                emitBrickHit(brickCandidates.get(c), GameEvents.SOURCE_BALL, points);
+                return true; // Only one collision per step
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@link CollisionMode#BOX2D}: Box2D moves every ball (massive multi-ball included) and
+     * its contacts go through the same paddle, brick and score flow as the other modes.
+     */
+    private void updateBallsBox2D(float deltaTime, float comboIntensity) {
+        if (box2dPhysics == null) {
+            box2dPhysics = new Box2DPhysics();
+        }
+        box2dPhysics.setBricks(bricks);
+        box2dPhysics.setBounds(width, height);
+        box2dPhysics.step(balls, stickyBalls, paddle, deltaTime);
+
+        if (box2dPhysics.getWallHits() > 0) {
+            // Box2D only counts them; one record without a position
+            events.add(GameEvents.WALL_BOUNCE, GameEvents.SOURCE_BALL, -1, 0, 0f, 0f);
+        }
+        Array<Ball> paddleHits = box2dPhysics.getPaddleHits();
+        for (int i = 0; i < paddleHits.size; i++) {
+            Ball ball = paddleHits.get(i);
+            ball.bounceOffPaddle(paddle, paddle.isSticky());
+            emitBounce(GameEvents.PADDLE_BOUNCE, ball);
+            if (paddle.isSticky() && ball.getVelocity().len() == 0 && !stickyBalls.contains(ball)) {
+                ball.setStickyOffset(ball.getX() - (paddle.getX() + paddle.getWidth() / 2f));
+                stickyBalls.add(ball);
+            }
+        }
+        IntArray brickHits = box2dPhysics.getBrickHits();
+        for (int i = 0; i < brickHits.size; i++) {
+            Brick brick = bricks.get(brickHits.get(i));
+            if (brick.isDestroyed()) {
+                continue; // Broken by an earlier contact of the same step
+            }
+            int hitsBefore = brick.getHits();
+            int points = brick.hit() ? brick.getScore() : 0;
+            if (brick.getHits() != hitsBefore || brick.isDestroyed()) {
+                emitBrickHit(brickHits.get(i), GameEvents.SOURCE_BALL, points);
+            }
+        }
+
+        for (int i = balls.size() - 1; i >= 0; i--) {
+            Ball ball = balls.get(i);
+            if (stickyBalls.contains(ball)) {
+                ball.followPaddle(paddle);
+            } else if (ball.isOutOfBounds(height)) {
+                balls.remove(i);
+                continue;
+            }
+            ball.updateTrail(deltaTime);
+            ball.updateTrailStyle(comboIntensity);
+        }
+    }
+
+    /** The jbump world of the current bricks, rebuilt when the level or streamed chunks change. */
+    private JbumpBricks jbumpBricks() {
+        if (jbumpBricks == null || !jbumpBricks.isFor(bricks)) {
+            jbumpBricks = new JbumpBricks(bricks);
+        }
+        return jbumpBricks;
+    }
+
+    /** Records a ball or laser hit on brick {@code index} that gave {@code points} (0 when it survived). */
+    private void emitBrickHit(int index, int source, int points) {
+        Brick brick = bricks.get(index);
+        events.add(brick.isDestroyed() ? GameEvents.BRICK_DESTROYED : GameEvents.BRICK_HIT, source, index, points,
+                   brick.getX() + brick.getWidth() / 2f, brick.getY() + brick.getHeight() / 2f);
+    }
+
+    private void emitBounce(int type, Ball ball) {
+        events.add(type, GameEvents.SOURCE_BALL, -1, 0, ball.getX(), ball.getY());
+    }
+
+    /**
+     * Consumes the records added since the last call, one batch per consumer: gameplay
+     * (score, combo, power-ups, bomb chains, whose records join the same batch), effects
+     * (particles, power-up drops, the strongest screen shake) and audio (at most one
+     * listener call per kind). Runs after the ball physics and at the end of the tick; the
+     * bricks list does not change in between, so brick indices stay valid.
+     */
+    private void processEvents() {
+        int from = eventsProcessed;
+        if (from == events.size()) {
+            return;
+        }
+        applyEventGameplay(from);
+        applyEventEffects(from);
+        notifyEventListener(from);
+        eventsProcessed = events.size();
+    }
+
+    private void applyEventGameplay(int from) {
+        // The size is read on every pass: explosions append to the batch being consumed
+        for (int i = from; i < events.size(); i++) {
+            int type = events.getType(i);
+            if (type == GameEvents.BRICK_HIT || type == GameEvents.BRICK_DESTROYED) {
+                int points = events.getPoints(i);
+                score += points;
+                boolean direct = events.getSource(i) != GameEvents.SOURCE_EXPLOSION;
+                if (points > 0 && direct) {
+                    comboCount++;
+                    comboTimer = 1.5f;
+                    if (comboCount > maxCombo) {
+                        maxCombo = comboCount;
+                    }
+                }
+                // Chained bombs are already on the explosion work stack
+                if (type == GameEvents.BRICK_DESTROYED && direct && bricks.get(events.getIndex(i)).isBomb()) {
+                    explodeBrick(events.getX(i), events.getY(i));
+                }
+            } else if (type == GameEvents.POWER_UP_PICKUP) {
+                applyPowerUp(POWER_UP_TYPES[events.getIndex(i)]);
+            }
+        }
+    }
+
+    private void applyEventEffects(int from) {
+        float shakeDuration = 0f;
+        float shakeIntensity = 0f;
+        for (int i = from; i < events.size(); i++) {
+            int type = events.getType(i);
+            if (type == GameEvents.BRICK_DESTROYED) {
+                Brick brick = bricks.get(events.getIndex(i));
+                createDestructionParticles(events.getX(i), events.getY(i), brick.getOriginalColor());
+                int source = events.getSource(i);
+                if (source == GameEvents.SOURCE_EXPLOSION) {
+                    continue;
+                }
+                boolean laser = source == GameEvents.SOURCE_LASER;
+                if (brick.isBomb()) {
+                    shakeDuration = Math.max(shakeDuration, laser ? 0.45f : 0.5f);
+                    shakeIntensity = Math.max(shakeIntensity, laser ? 14f : 18f);
+                } else {
+                    shakeDuration = Math.max(shakeDuration, laser ? 0.15f : 0.2f);
+                    shakeIntensity = Math.max(shakeIntensity, laser ? 5f : 6f);
+                }
+                // Maybe drop power-up
+                if (random.nextFloat() < 0.3f) { // 30% chance
+                    dropPowerUp(events.getX(i), brick.getY());
+                }
+            } else if (type == GameEvents.EXPLOSION) {
+                for (int p = 0; p < 20; p++) {
+                    particles.add(new Particle(events.getX(i), events.getY(i), Color.ORANGE));
+                }
+                shakeDuration = Math.max(shakeDuration, 0.45f);
+                shakeIntensity = Math.max(shakeIntensity, 14f);
+            }
+        }
+        if (shakeDuration > 0f) {
+            listener.onScreenShake(shakeDuration, shakeIntensity);
+        }
+    }
+
+    private void notifyEventListener(int from) {
+        boolean launched = false;
+        boolean wall = false;
+        boolean paddleHit = false;
+        boolean brickHit = false;
+        for (int i = from; i < events.size(); i++) {
+            switch (events.getType(i)) {
+                case GameEvents.BALL_LAUNCHED:
+                    launched = true;
+                    break;
+                case GameEvents.WALL_BOUNCE:
+                    wall = true;
+                    break;
+                case GameEvents.PADDLE_BOUNCE:
+                    paddleHit = true;
+                    break;
+                case GameEvents.BRICK_HIT:
+                case GameEvents.BRICK_DESTROYED:
+                    brickHit |= events.getSource(i) != GameEvents.SOURCE_EXPLOSION;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (launched) {
+            listener.onBallLaunched();
+        }
+        if (wall) {
+            listener.onWallHit();
+        }
+        if (paddleHit) {
+            listener.onPaddleHit();
+        }
+        if (brickHit) {
+            listener.onBrickHit();
+        }
+    }
+
+    /**
+     * Massive multi-ball step. Phase 1 (parallel) moves every ball against walls, paddle
+     * and the bricks as they were at the start of the tick, recording events and the
+     * first brick touched instead of applying them. Phase 2 (serial, ascending ball index)
+     * applies brick hits and removals and records the events. Bricks and the world random
+     * are only touched in phase 2 and by the event consumer, so the result does not depend
+     * on the thread count.
+     * <p>
+     * Two balls reaching the same brick in one tick both bounce; only the first one in
+     * index order damages it.
+     */
+    private void updateBallsBatched(float deltaTime, float comboIntensity) {
+        int count = balls.size();
+        if (ballSlots.length < count) {
+            int capacity = Math.max(count, ballSlots.length * 2);
+            ballSlots = new Ball[capacity];
+            slotBrickHit = new int[capacity];
+            slotEvents = new byte[capacity];
+        }
+        for (int i = 0; i < count; i++) {
+            ballSlots[i] = balls.get(i);
+        }
+        stickySet.clear();
+        for (int i = 0; i < stickyBalls.size(); i++) {
+            stickySet.add(stickyBalls.get(i));
+        }
+        batchDeltaTime = deltaTime;
+        batchComboIntensity = comboIntensity;
+
+        parallelFor.run(count, ballStepTask);
+
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            Ball ball = ballSlots[i];
+            if ((slotEvents[i] & EVENT_WALL) != 0) {
+                emitBounce(GameEvents.WALL_BOUNCE, ball);
+            }
+            if ((slotEvents[i] & EVENT_PADDLE) != 0) {
+                emitBounce(GameEvents.PADDLE_BOUNCE, ball);
+            }
+            if ((slotEvents[i] & EVENT_STUCK) != 0) {
+                stickyBalls.add(ball);
+            }
+            int brickIndex = slotBrickHit[i];
+            if (brickIndex >= 0) {
+                Brick brick = bricks.get(brickIndex);
+                if (!brick.isDestroyed()) {
+                    emitBrickHit(brickIndex, GameEvents.SOURCE_BALL, brick.hit() ? brick.getScore() : 0);
+                }
+            }
+            if ((slotEvents[i] & EVENT_LOST) != 0) {
+                stickyBalls.remove(ball);
+            } else {
+                ballSlots[kept++] = ball;
+            }
+        }
+        if (kept != count) {
+            balls.clear();
+            for (int i = 0; i < kept; i++) {
+                balls.add(ballSlots[i]);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            ballSlots[i] = null;
+        }
+    }
+
+    /** Phase 1 of {@link #updateBallsBatched}: only writes to ball {@code i} and its slots. */
+    private void stepBallBatched(int i, IntArray candidates, IntArray swept) {
+        Ball ball = ballSlots[i];
+        slotBrickHit[i] = -1;
+        slotEvents[i] = 0;
+        float deltaTime = batchDeltaTime;
+
+        if (stickySet.contains(ball)) {
+            ball.followPaddle(paddle);
+            ball.updateTrail(deltaTime);
+            ball.updateTrailStyle(batchComboIntensity);
+            return;
+        }
+
+        if (ball.sweepCollisionWithPaddle(paddle, paddle.isSticky(), deltaTime)) {
+            keepBetweenWalls(ball);
+            slotEvents[i] |= EVENT_PADDLE;
+            if (paddle.isSticky() && ball.getVelocity().len() == 0) {
+                ball.setStickyOffset(ball.getX() - (paddle.getX() + paddle.getWidth() / 2f));
+                slotEvents[i] |= EVENT_STUCK;
+            }
+            ball.updateTrail(deltaTime);
+            ball.updateTrailStyle(batchComboIntensity);
+            return;
+        }
+
+        float radius = ball.getRadius();
+        float distance = ball.getVelocity().len() * deltaTime;
+        int steps = Math.max(1, (int) Math.ceil(distance / radius));
+        float stepX = (ball.getVelocity().x * deltaTime) / steps;
+        float stepY = (ball.getVelocity().y * deltaTime) / steps;
+
+        steps:
+        for (int s = 0; s < steps; s++) {
+            float prevX = ball.getX();
+            float prevY = ball.getY();
+            ball.setPosition(ball.getX() + stepX, ball.getY() + stepY);
+
+            if (ball.getX() - radius <= 0 || ball.getX() + radius >= width) {
+                ball.reverseX();
+                if (ball.getX() - radius < 0) ball.setPosition(radius, ball.getY());
+                if (ball.getX() + radius > width) ball.setPosition(width - radius, ball.getY());
+                slotEvents[i] |= EVENT_WALL;
+            }
+            if (ball.getY() + radius >= height) {
+                ball.reverseY();
+                ball.setPosition(ball.getX(), height - radius);
+                slotEvents[i] |= EVENT_WALL;
+            }
+            if ((slotEvents[i] & EVENT_WALL) != 0) {
+                break;
+            }
+            if (ball.checkCollisionWithPaddle(paddle, paddle.isSticky())) {
+                slotEvents[i] |= EVENT_PADDLE;
+                if (paddle.isSticky() && ball.getVelocity().len() == 0) {
+                    ball.setStickyOffset(ball.getX() - (paddle.getX() + paddle.getWidth() / 2f));
+                    slotEvents[i] |= EVENT_STUCK;
+                }
+                break;
+            }
+
+            queryStep(ball, prevX, prevY, candidates, swept);
+            for (int c = 0; c < candidates.size; c++) {
+                Brick brick = bricks.get(candidates.get(c));
+                boolean bounced;
+                switch (collisionMode) {
+                    case CONTINUOUS:
+                        bounced = ball.bounceOffBrickSwept(brick, prevX, prevY);
+                        break;
+                    case ROBUST:
+                    case ADAPTIVE:
+                    case JBUMP: // the jbump world is not thread-safe, batched balls use the grid
+                        bounced = ball.bounceOffBrickRobust(brick, prevX, prevY);
+                        break;
+                    case DISCRETE:
+                    default:
+                        bounced = ball.bounceOffBrick(brick);
+                        break;
+                }
+                // Like the serial path, indestructible bricks deflect without ending the step
+                if (bounced && !brick.isIndestructible()) {
+                    slotBrickHit[i] = candidates.get(c);
+                    break steps;
+                }
+            }
+        }
+
+        if (ball.isOutOfBounds(height)) {
+            slotEvents[i] |= EVENT_LOST;
+            return;
+        }
+        ball.updateTrail(deltaTime);
+        ball.updateTrailStyle(batchComboIntensity);
+    }
+
+    /**
+     * Adds {@code count} launched balls fanned out above the paddle and switches to the
+     * massive multi-ball step (stress mode, cheat key 9).
+     */
+    public void spawnBallBurst(int count) {
+        massiveMultiBall = true;
+        if (!ballLaunched && !balls.isEmpty()) {
+            balls.get(0).launch();
+        }
+        float x = paddle.getX() + paddle.getWidth() / 2f;
+        float y = paddle.getY() + paddle.getHeight() + BALL_RADIUS * 3f;
+        for (int i = 0; i < count; i++) {
+            float angle = MathUtils.PI * (0.15f + 0.7f * random.nextFloat());
+            float speed = 283f;
+            Ball ball = new Ball(x, y, BALL_RADIUS);
+            ball.setVelocity(MathUtils.cos(angle) * speed, MathUtils.sin(angle) * speed);
+            ball.setTrailColor(Color.CYAN);
+            balls.add(ball);
+        }
+        ballLaunched = true;
+    }
+
+    /** Executor used to step balls in massive multi-ball mode ({@link ParallelFor#SERIAL} by default). */
+    public void setParallelFor(ParallelFor parallelFor) {
+        this.parallelFor = parallelFor;
+    }
+
+    /**
+     * Batched brick filter for the ROBUST family, e.g. {@link SweepFilters#best()}; none by
+     * default. On game bricks (68x20, SweepFilterBenchmark) it only gains up to ~20% at
+     * 6 to 8 candidates per step and loses past ~13, where the exact loop stops at the
+     * first hit but the filter still scans every candidate.
+     */
+    public void setSweepFilter(SweepFilter sweepFilter) {
+        this.sweepFilter = sweepFilter;
+    }
+
+    public void setMassiveMultiBall(boolean massiveMultiBall) {
+        this.massiveMultiBall = massiveMultiBall;
+    }
+
+    public boolean isMassiveMultiBall() {
+        return massiveMultiBall;
+    }
+
+    public void setBallCollisions(boolean ballCollisions) {
+        this.ballCollisions = ballCollisions;
+        if (!ballCollisions) {
+            ballCollider.clear();
+        }
+    }
+
+    public boolean isBallCollisions() {
+        return ballCollisions;
+    }
+
+    private void dropPowerUp(float x, float y) {
+        // Random power-up type
+        PowerUp.Type randomType = POWER_UP_TYPES[random.nextInt(POWER_UP_TYPES.length)];
+        powerUps.add(new PowerUp(x - 10f, y, randomType)); // Center the power-up
+    }
+
+    public void applyPowerUp(PowerUp.Type type) {
+        switch (type) {
+            case MULTI_BALL:
+                // Create 2 additional balls from the first existing ball
+                if (!balls.isEmpty()) {
+                    Ball firstBall = balls.get(0);
+                    float speed = firstBall.getVelocity().len();
+                    if (speed == 0) speed = 300f; // Default speed if ball is stationary
+
+                    // Create balls with upward angles (45-135 degrees = upward directions)
+                    float[] angles = {60f, 120f}; // Left-up and right-up
+
+                    Color[] colors = {Color.YELLOW, Color.MAGENTA}; // Different colors for variety
+                    for (int i = 0; i < 2; i++) {
+                        Ball newBall = new Ball(firstBall.getX(), firstBall.getY(), firstBall.getRadius());
+                        newBall.setTrailColor(colors[i]);
+                        float angle = angles[i] + (random.nextFloat() * 20f - 10f); // Add some randomness ±10°
+
+                        setVelocity(newBall, speed, angle);
+                        balls.add(newBall);
+                    }
+                }
+                break;
+
+            case LARGE_PADDLE:
+                // Increase paddle width by 50%
+                float oldWidth = paddle.getWidth();
+                float newWidth = oldWidth * 1.5f;
+                float newX = paddle.getX() - (newWidth - oldWidth) / 2f;
+                // Keep paddle within bounds
+                if (newX < 0) newX = 0;
+                if (newX + newWidth > width) newX = width - newWidth;
+                paddle.setX(newX);
+                paddle.setWidth(newWidth);
+                break;
+
+            case SMALL_PADDLE:
+                // Decrease paddle width by 30%
+                float oldWidthSmall = paddle.getWidth();
+                float newWidthSmall = oldWidthSmall * 0.7f;
+                float newXSmall = paddle.getX() + (oldWidthSmall - newWidthSmall) / 2f;
+                // Ensure minimum width
+                if (newWidthSmall < 40f) newWidthSmall = 40f;
+                paddle.setX(newXSmall);
+                paddle.setWidth(newWidthSmall);
+                break;
+
+            case LASER:
+                paddle.setMode(Paddle.Mode.LASER, 30f); // 30 seconds duration
+                break;
+
+            case STICKY_PADDLE:
+                paddle.setMode(Paddle.Mode.STICKY, 30f); // 30 seconds duration
+                break;
+
+            case EXTRA_LIFE:
+                lives++;
+                break;
+
+            case SPEED_UP:
+                // Increase ball speed by 20%
+                for (Ball ball : balls) {
+                    ball.setVelocity(ball.getVelocity().x * 1.2f, ball.getVelocity().y * 1.2f);
+                }
+                break;
+
+            case SPEED_DOWN:
+                // Decrease ball speed by 20%
+                for (Ball ball : balls) {
+                    ball.setVelocity(ball.getVelocity().x * 0.8f, ball.getVelocity().y * 0.8f);
+                }
+                break;
+        }
+    }
+
+    private void createDestructionParticles(float x, float y, Color brickColor) {
+        // Create 8-12 particles with the brick's color
+        int particleCount = 8 + random.nextInt(5);
+        for (int i = 0; i < particleCount; i++) {
+            particles.add(new Particle(x, y, brickColor));
+        }
+    }
+
+    private void explodeBrick(float bombX, float bombY) {
+        float explosionRadius = 80f; // Explosion radius
+
+        // Chain reactions go through a work stack instead of recursion: a generated
+        // bomb field can chain thousands of explosions.
+        tracer.beginExplosionChain();
+        int explosions = 0;
+        int destroyed = 0;
+        pendingExplosions.add(bombX, bombY);
+        while (pendingExplosions.size > 0) {
+            float y = pendingExplosions.pop();
+            float x = pendingExplosions.pop();
+            explosions++;
+            events.add(GameEvents.EXPLOSION, GameEvents.SOURCE_EXPLOSION, -1, 0, x, y);
+
+            // Destroy nearby bricks (except indestructible ones)
+            brickGrid.query(x - explosionRadius, y - explosionRadius,
+                            x + explosionRadius, y + explosionRadius, explosionCandidates);
+            for (int c = 0; c < explosionCandidates.size; c++) {
+                Brick brick = bricks.get(explosionCandidates.get(c));
+                if (!brick.isDestroyed() && !brick.isIndestructible()) {
+                    float brickCenterX = brick.getX() + brick.getWidth() / 2f;
+                    float brickCenterY = brick.getY() + brick.getHeight() / 2f;
+
+                    // Calculate distance from explosion center
+                    float distance = (float) Math.sqrt(
+                        Math.pow(brickCenterX - x, 2) + Math.pow(brickCenterY - y, 2)
+                    );
+
+                    if (distance <= explosionRadius) {
+                        // Destroy the brick; score and particles come from its record
+                        brick.destroy();
+                        destroyed++;
+                        events.add(GameEvents.BRICK_DESTROYED, GameEvents.SOURCE_EXPLOSION, explosionCandidates.get(c),
+                                   brick.getScore(), brickCenterX, brickCenterY);
+
+                        // Chain reaction: if destroyed brick is also a bomb, explode it too
+                        if (brick.isBomb()) {
+                            pendingExplosions.add(brickCenterX, brickCenterY);
+                        }
+                    }
+                }
+            }
+        }
+        tracer.endExplosionChain(explosions, destroyed);
+    }
+
+    /** Adds a ball already in flight (harnesses use this to populate stress scenarios). */
+    public void addBall(Ball ball) {
+        balls.add(ball);
+    }
+
+    /** Records of the last {@link #update}, already applied; read-only for analytics and harnesses. */
+    public GameEvents getEvents() {
+        return events;
+    }
+
+    public void setTracer(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    /** Time spent moving and colliding the balls in the last {@link #update}, 0 when they did not move. */
+    public long getPhysicsNanos() {
+        return physicsNanos;
+    }
+
+    public float getWidth() {
+        return width;
+    }
+
+    public float getHeight() {
+        return height;
+    }
+
+    public Paddle getPaddle() {
+        return paddle;
+    }
+
+    public List<Ball> getBalls() {
+        return balls;
+    }
+
+    /** Streamed tall level, or null when the whole level is in {@link #getBricks()}. */
+    public BrickChunks getBrickChunks() {
+        return brickChunks;
+    }
+
+    public BrickGrid getBrickGrid() {
+        return brickGrid;
+    }
+
+    public List<Brick> getBricks() {
+        return bricks;
+    }
+
+    public List<PowerUp> getPowerUps() {
+        return powerUps;
+    }
+
+    public List<Particle> getParticles() {
+        return particles;
+    }
+
+    public List<Laser> getLasers() {
+        return lasers;
+    }
+
+    public CollisionMode getCollisionMode() {
+        return collisionMode;
+    }
+
+    public void setCollisionMode(CollisionMode collisionMode) {
+        this.collisionMode = collisionMode;
+        if (collisionMode != CollisionMode.BOX2D && box2dPhysics != null) {
+            // Native memory: only kept while the Box2D engine is selected
+            box2dPhysics.dispose();
+            box2dPhysics = null;
+        }
+    }
+
+    /** Releases the Box2D world, if {@link CollisionMode#BOX2D} was used. */
+    public void dispose() {
+        if (box2dPhysics != null) {
+            box2dPhysics.dispose();
+            box2dPhysics = null;
+        }
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLives() {
+        return lives;
+    }
+
+    public void setLives(int lives) {
+        this.lives = lives;
+    }
+
+    public int getComboCount() {
+        return comboCount;
+    }
+
+    public int getMaxCombo() {
+        return maxCombo;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public boolean isGameWon() {
+        return gameWon;
+    }
+
+    public boolean isBallLaunched() {
+        return ballLaunched;
+    }
+}
@@ -0,0 +1,26 @@
+package io.github.warnotte.warkanoid;
+
+/**
+ * Cumulative garbage collection counters, sampled once per frame by the
+ * {@link HitchRecorder}. Core code only sees this interface so it stays GWT-compatible;
+ * the desktop launcher plugs in {@link MXBeanGcStats}.
+ */
+public interface GcStats {
+    /** Collections since the JVM started. */
+    long getCollections();
+
+    /** Approximate time spent collecting since the JVM started, in milliseconds. */
+    long getCollectionMillis();
+
+    GcStats NONE = new GcStats() {
+        @Override
+        public long getCollections() {
+            return 0L;
+        }
+
+        @Override
+        public long getCollectionMillis() {
+            return 0L;
+        }
+    };
+}
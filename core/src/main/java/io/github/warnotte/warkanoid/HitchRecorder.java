@@ -0,0 +1,280 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Always-on black box: the last {@link #CAPACITY} frames (about ten seconds) of timings,
+ * per-phase work, entity counts, GC activity and game events, in arrays allocated once.
+ * When the time between two frames goes over the threshold, or an exception escapes
+ * {@code Main.render}, it writes the whole ring with a probable cause to
+ * {@code profiles/hitch-*.txt} (and logs a one-line summary).
+ * <p>
+ * A frame here runs from one {@link #beginFrame()} to the next, so a stall between
+ * frames (GC, driver, swap) is charged to the frame before it, like the player sees it.
+ * It wraps the game's {@link Tracer} to see level loads and bomb chains.
+ */
+public class HitchRecorder implements Tracer {
+    public static final int CAPACITY = 600;
+    public static final long DEFAULT_THRESHOLD_NANOS = 50000000L;
+    /** Hitches closer than this to the previous report are only counted. */
+    private static final long REPORT_COOLDOWN_NANOS = 10000000000L;
+    /** New particles in one frame that count as a burst. */
+    private static final int PARTICLE_BURST = 500;
+    private static final String REPORT_DIR = "profiles/";
+
+    private static final int EVENT_LEVEL_LOAD = 1;
+    private static final int EVENT_SHADER_COMPILE = 2;
+    private static final int EVENT_BOMB_CHAIN = 4;
+    private static final int EVENT_PARTICLE_BURST = 8;
+
+    private final Tracer delegate;
+    private final GcStats gcStats;
+    private final long thresholdNanos;
+    private FrameProfiler profiler;
+
+    private final long[] frameNumbers = new long[CAPACITY];
+    private final long[] intervals = new long[CAPACITY];
+    private final long[] work = new long[CAPACITY];
+    private long[] phases = new long[0];
+    private int phaseCount;
+    private final int[] balls = new int[CAPACITY];
+    private final int[] bricks = new int[CAPACITY];
+    private final int[] particles = new int[CAPACITY];
+    private final int[] gcCounts = new int[CAPACITY];
+    private final int[] gcMillis = new int[CAPACITY];
+    private final int[] explosions = new int[CAPACITY];
+    private final byte[] events = new byte[CAPACITY];
+
+    private long frame = -1L;
+    private int slot;
+    private int filled;
+    private long frameStart;
+    private long gcCountAtStart;
+    private long gcMillisAtStart;
+    private int lastParticles;
+    private boolean reported;
+    private long lastReport;
+    private int hitches;
+
+    public HitchRecorder(Tracer delegate, GcStats gcStats, long thresholdNanos) {
+        this.delegate = delegate;
+        this.gcStats = gcStats;
+        this.thresholdNanos = thresholdNanos;
+    }
+
+    /** Phase timings come from the profiler; call once all its phases are added. */
+    public void setProfiler(FrameProfiler profiler) {
+        this.profiler = profiler;
+        phaseCount = profiler.getPhaseCount();
+        phases = new long[CAPACITY * phaseCount];
+    }
+
+    /** Closes the previous frame (interval, GC) and checks it for a hitch, then opens a new one. */
+    public void beginFrame() {
+        long now = TimeUtils.nanoTime();
+        long gcCount = gcStats.getCollections();
+        long gcTime = gcStats.getCollectionMillis();
+        if (frame >= 0L) {
+            intervals[slot] = now - frameStart;
+            gcCounts[slot] = (int) (gcCount - gcCountAtStart);
+            gcMillis[slot] = (int) (gcTime - gcMillisAtStart);
+            if (intervals[slot] > thresholdNanos) {
+                hitches++;
+                if (!reported || now - lastReport >= REPORT_COOLDOWN_NANOS) {
+                    reported = true;
+                    lastReport = now;
+                    report("Hitch", null);
+                }
+            }
+            slot = (slot + 1) % CAPACITY;
+            // The first slot starts clean, and keeps what happened during create(). A reused
+            // slot is cleared whole: a crashing frame never reaches endFrame
+            intervals[slot] = 0L;
+            work[slot] = 0L;
+            for (int p = 0; p < phaseCount; p++) {
+                phases[slot * phaseCount + p] = 0L;
+            }
+            balls[slot] = 0;
+            bricks[slot] = 0;
+            particles[slot] = 0;
+            gcCounts[slot] = 0;
+            gcMillis[slot] = 0;
+            explosions[slot] = 0;
+            events[slot] = 0;
+        }
+        frame++;
+        filled = Math.min(filled + 1, CAPACITY);
+        frameStart = now;
+        gcCountAtStart = gcCount;
+        gcMillisAtStart = gcTime;
+        frameNumbers[slot] = frame;
+    }
+
+    /** Records the frame's work from the profiler (after its {@code endFrame}) and the entity counts. */
+    public void endFrame(GameWorld world) {
+        if (profiler != null) {
+            work[slot] = profiler.getLastFrameNanos();
+            for (int p = 0; p < phaseCount; p++) {
+                phases[slot * phaseCount + p] = profiler.getFrameNanos(p);
+            }
+        }
+        balls[slot] = world.getBalls().size();
+        bricks[slot] = world.getBricks().size();
+        particles[slot] = world.getParticles().size();
+        if (particles[slot] - lastParticles >= PARTICLE_BURST) {
+            events[slot] |= EVENT_PARTICLE_BURST;
+        }
+        lastParticles = particles[slot];
+    }
+
+    public void markShaderCompile() {
+        events[slot] |= EVENT_SHADER_COMPILE;
+    }
+
+    /** Writes the black box for an exception escaping the frame (the caller rethrows it). */
+    public void crashed(Throwable error) {
+        intervals[slot] = TimeUtils.nanoTime() - frameStart;
+        report("Crash", error);
+    }
+
+    public int getHitchCount() {
+        return hitches;
+    }
+
+    private void report(String kind, Throwable error) {
+        StringBuilder out = new StringBuilder();
+        out.append(kind).append(" in frame ").append(frameNumbers[slot]).append(": ");
+        FrameProfiler.appendMicros(out, intervals[slot]).append(" us (threshold ");
+        FrameProfiler.appendMicros(out, thresholdNanos).append(" us), probable cause: ");
+        appendCause(out, slot);
+        String summary = out.toString();
+        Gdx.app.error("Hitch", summary);
+
+        out.append('\n');
+        if (error != null) {
+            out.append(error).append('\n');
+            for (StackTraceElement element : error.getStackTrace()) {
+                out.append("    at ").append(element).append('\n');
+            }
+        }
+        out.append("hitches so far: ").append(hitches).append("\n\n");
+        out.append("frame,interval_us,work_us");
+        for (int p = 0; p < phaseCount; p++) {
+            out.append(',').append(profiler.getLabel(p).trim());
+        }
+        out.append(",balls,bricks,particles,gc_count,gc_ms,explosions,events\n");
+        for (int i = filled - 1; i >= 0; i--) {
+            appendFrame(out, (slot - i + CAPACITY) % CAPACITY);
+        }
+
+        if (!Gdx.files.isLocalStorageAvailable()) {
+            return;
+        }
+        try {
+            Gdx.files.local(REPORT_DIR + "hitch-" + TimeUtils.millis() + ".txt").writeString(out.toString(), false, "UTF-8");
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("Hitch", "Failed to write the hitch report", e);
+        }
+    }
+
+    /**
+     * GC when collections took at least a third of the frame, else the game events of the
+     * frame in order of usual cost; the slowest phase is given either way, once the frame
+     * reached {@link #endFrame} (a crash does not).
+     */
+    private void appendCause(StringBuilder out, int s) {
+        int flags = events[s];
+        if (gcCounts[s] > 0 && gcMillis[s] * 3000000L >= intervals[s]) {
+            out.append("GC (").append(gcCounts[s]).append(" collections, ").append(gcMillis[s]).append(" ms)");
+        } else if ((flags & EVENT_LEVEL_LOAD) != 0) {
+            out.append("level load");
+        } else if ((flags & EVENT_SHADER_COMPILE) != 0) {
+            out.append("shader compile");
+        } else if ((flags & EVENT_BOMB_CHAIN) != 0) {
+            out.append("bomb chain (").append(explosions[s]).append(" explosions)");
+        } else if ((flags & EVENT_PARTICLE_BURST) != 0) {
+            out.append("particle burst (").append(particles[s]).append(" particles)");
+        } else {
+            out.append("unknown");
+        }
+        if (work[s] == 0L) {
+            out.append(", no phase timings (frame did not finish)");
+            return;
+        }
+        int slowest = -1;
+        for (int p = 0; p < phaseCount; p++) {
+            if (slowest < 0 || phases[s * phaseCount + p] > phases[s * phaseCount + slowest]) {
+                slowest = p;
+            }
+        }
+        if (slowest >= 0) {
+            out.append(", slowest phase ").append(profiler.getLabel(slowest).trim()).append(' ');
+            FrameProfiler.appendMicros(out, phases[s * phaseCount + slowest]).append(" us");
+        }
+        out.append(", work ");
+        FrameProfiler.appendMicros(out, work[s]).append(" us");
+    }
+
+    private void appendFrame(StringBuilder out, int s) {
+        out.append(frameNumbers[s]).append(',');
+        FrameProfiler.appendMicros(out, intervals[s]).append(',');
+        FrameProfiler.appendMicros(out, work[s]);
+        for (int p = 0; p < phaseCount; p++) {
+            out.append(',');
+            FrameProfiler.appendMicros(out, phases[s * phaseCount + p]);
+        }
+        out.append(',').append(balls[s]).append(',').append(bricks[s]).append(',').append(particles[s])
+           .append(',').append(gcCounts[s]).append(',').append(gcMillis[s]).append(',').append(explosions[s]).append(',');
+        int flags = events[s];
+        if ((flags & EVENT_LEVEL_LOAD) != 0) out.append('L');
+        if ((flags & EVENT_SHADER_COMPILE) != 0) out.append('S');
+        if ((flags & EVENT_BOMB_CHAIN) != 0) out.append('B');
+        if ((flags & EVENT_PARTICLE_BURST) != 0) out.append('P');
+        out.append('\n');
+    }
+
+    @Override
+    public void beginPhase() {
+        delegate.beginPhase();
+    }
+
+    @Override
+    public void endPhase(String phase) {
+        delegate.endPhase(phase);
+    }
+
+    @Override
+    public void beginBallPhysics() {
+        delegate.beginBallPhysics();
+    }
+
+    @Override
+    public void endBallPhysics(String mode, int balls, int substeps, int brickTests) {
+        delegate.endBallPhysics(mode, balls, substeps, brickTests);
+    }
+
+    @Override
+    public void beginExplosionChain() {
+        delegate.beginExplosionChain();
+    }
+
+    @Override
+    public void endExplosionChain(int explosions, int bricksDestroyed) {
+        events[slot] |= EVENT_BOMB_CHAIN;
+        this.explosions[slot] += explosions;
+        delegate.endExplosionChain(explosions, bricksDestroyed);
+    }
+
+    @Override
+    public void beginLevelLoad() {
+        delegate.beginLevelLoad();
+    }
+
+    @Override
+    public void endLevelLoad(int level, int bricks) {
+        events[slot] |= EVENT_LEVEL_LOAD;
+        delegate.endLevelLoad(level, bricks);
+    }
+}
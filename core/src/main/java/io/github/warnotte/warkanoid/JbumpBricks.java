@@ -0,0 +1,107 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.utils.IntArray;
+import com.dongbat.jbump.CollisionFilter;
+import com.dongbat.jbump.Collisions;
+import com.dongbat.jbump.Item;
+import com.dongbat.jbump.Response;
+import com.dongbat.jbump.World;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Broad phase for {@link CollisionMode#JBUMP}: the bricks of a level registered in a
+ * jbump {@link World}. The ball is approximated by its bounding box and swept through
+ * the world; every brick it crosses comes back in time-of-impact order and the caller
+ * refines them with the circle test, so a box grazing a corner does not hide the brick
+ * behind it.
+ * <p>
+ * Destroyed bricks are skipped by the filter and dropped from the world the first time
+ * a sweep runs into them. Not thread-safe: a sweep adds and removes a probe item.
+ */
+public class JbumpBricks {
+    private final List<Brick> bricks;
+    private final World<Integer> world = new World<>(BrickGrid.DEFAULT_CELL_SIZE);
+    private Item<Integer>[] items;
+    private final Item<Integer> probe = new Item<>();
+    private final IntArray dead = new IntArray();
+
+    private final CollisionFilter filter = new CollisionFilter() {
+        // CollisionFilter itself is declared with raw Items, a parameterized override would not compile
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Response filter(Item item, Item other) {
+            Integer index = (Integer) other.userData;
+            if (index == null) {
+                return null;
+            }
+            if (bricks.get(index).isDestroyed()) {
+                dead.add(index);
+                return null;
+            }
+            // cross: touch would stop the check at the first brick, whose corner the circle may miss
+            return Response.cross;
+        }
+    };
+
+    @SuppressWarnings("unchecked")
+    public JbumpBricks(List<Brick> bricks) {
+        this.bricks = bricks;
+        this.items = (Item<Integer>[]) new Item<?>[bricks.size()];
+        for (int i = 0; i < bricks.size(); i++) {
+            addItem(i);
+        }
+    }
+
+    private void addItem(int index) {
+        Brick brick = bricks.get(index);
+        if (!brick.isDestroyed()) {
+            items[index] = world.add(new Item<>(index), brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight());
+        }
+    }
+
+    private void removeItem(int index) {
+        if (items[index] != null) {
+            world.remove(items[index]);
+            items[index] = null;
+        }
+    }
+
+    /** True when this world was built for {@code bricks} (the list is swapped on level change). */
+    public boolean isFor(List<Brick> bricks) {
+        return this.bricks == bricks;
+    }
+
+    /** Follows a {@link BrickChunks} update of the same list: only the changed slots are touched. */
+    public void updateSlots(IntArray removed, IntArray added) {
+        if (items.length < bricks.size()) {
+            items = Arrays.copyOf(items, bricks.size());
+        }
+        for (int i = 0; i < removed.size; i++) {
+            removeItem(removed.get(i));
+        }
+        for (int i = 0; i < added.size; i++) {
+            addItem(added.get(i));
+        }
+    }
+
+    /**
+     * Sweeps the ball's box from ({@code prevX}, {@code prevY}) to its current position and
+     * writes the indices of the live bricks it touches, earliest first, to {@code out}.
+     */
+    public void sweep(Ball ball, float prevX, float prevY, IntArray out) {
+        out.clear();
+        float radius = ball.getRadius();
+        world.add(probe, prevX - radius, prevY - radius, radius * 2f, radius * 2f);
+        Collisions collisions = world.check(probe, ball.getX() - radius, ball.getY() - radius, filter).projectedCollisions;
+        for (int i = 0; i < collisions.size(); i++) {
+            out.add((Integer) collisions.get(i).other.userData);
+        }
+        world.remove(probe);
+
+        for (int i = 0; i < dead.size; i++) {
+            removeItem(dead.get(i));
+        }
+        dead.clear();
+    }
+}
@@ -0,0 +1,169 @@
+package io.github.warnotte.warkanoid;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * {@link Tracer} emitting Java Flight Recorder events (category "Warkanoid"), to record
+ * in production with {@code -XX:StartFlightRecording} or {@code jcmd <pid> JFR.start}
+ * and read next to the GC and JIT events in JDK Mission Control or {@code jfr print}.
+ * <p>
+ * An event object is only created when its type is enabled in the running recording, so
+ * with recording off a hook costs one field read.
+ * <p>
+ * Desktop only (jdk.jfr), excluded from the GWT module.
+ */
+public class JfrTracer implements Tracer {
+    @Name("warkanoid.FramePhase")
+    @Label("Frame Phase")
+    @Description("One phase of Main.render: update, shadow mask, blur iteration, main pass, HUD, CRT")
+    @Category({"Warkanoid", "Frame"})
+    @StackTrace(false)
+    static class FramePhaseEvent extends Event {
+        @Label("Phase")
+        String phase;
+    }
+
+    @Name("warkanoid.BallPhysics")
+    @Label("Ball Physics")
+    @Description("Movement and collisions of every ball for one tick")
+    @Category({"Warkanoid", "Simulation"})
+    @StackTrace(false)
+    static class BallPhysicsEvent extends Event {
+        @Label("Collision Mode")
+        String mode;
+        @Label("Balls")
+        int balls;
+        @Label("Substeps")
+        int substeps;
+        @Label("Brick Tests")
+        int brickTests;
+    }
+
+    @Name("warkanoid.ExplosionChain")
+    @Label("Explosion Chain")
+    @Description("A bomb brick and the chain reaction it set off")
+    @Category({"Warkanoid", "Simulation"})
+    @StackTrace(false)
+    static class ExplosionChainEvent extends Event {
+        @Label("Explosions")
+        int explosions;
+        @Label("Bricks Destroyed")
+        int bricksDestroyed;
+    }
+
+    @Name("warkanoid.LevelLoad")
+    @Label("Level Load")
+    @Description("Taking a prepared level and building the world for it")
+    @Category({"Warkanoid", "Loading"})
+    @StackTrace(false)
+    static class LevelLoadEvent extends Event {
+        @Label("Level")
+        int level;
+        @Label("Bricks")
+        int bricks;
+    }
+
+    private final EventType phaseType = EventType.getEventType(FramePhaseEvent.class);
+    private final EventType ballPhysicsType = EventType.getEventType(BallPhysicsEvent.class);
+    private final EventType explosionType = EventType.getEventType(ExplosionChainEvent.class);
+    private final EventType levelLoadType = EventType.getEventType(LevelLoadEvent.class);
+    private FramePhaseEvent phase;
+    private BallPhysicsEvent ballPhysics;
+    private ExplosionChainEvent explosion;
+    private LevelLoadEvent levelLoad;
+
+    @Override
+    public void beginPhase() {
+        if (phaseType.isEnabled()) {
+            phase = new FramePhaseEvent();
+            phase.begin();
+        }
+    }
+
+    @Override
+    public void endPhase(String name) {
+        FramePhaseEvent event = phase;
+        if (event != null) {
+            phase = null;
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = name;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void beginBallPhysics() {
+        if (ballPhysicsType.isEnabled()) {
+            ballPhysics = new BallPhysicsEvent();
+            ballPhysics.begin();
+        }
+    }
+
+    @Override
+    public void endBallPhysics(String mode, int balls, int substeps, int brickTests) {
+        BallPhysicsEvent event = ballPhysics;
+        if (event != null) {
+            ballPhysics = null;
+            event.end();
+            if (event.shouldCommit()) {
+                event.mode = mode;
+                event.balls = balls;
+                event.substeps = substeps;
+                event.brickTests = brickTests;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void beginExplosionChain() {
+        if (explosionType.isEnabled()) {
+            explosion = new ExplosionChainEvent();
+            explosion.begin();
+        }
+    }
+
+    @Override
+    public void endExplosionChain(int explosions, int bricksDestroyed) {
+        ExplosionChainEvent event = explosion;
+        if (event != null) {
+            explosion = null;
+            event.end();
+            if (event.shouldCommit()) {
+                event.explosions = explosions;
+                event.bricksDestroyed = bricksDestroyed;
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void beginLevelLoad() {
+        if (levelLoadType.isEnabled()) {
+            levelLoad = new LevelLoadEvent();
+            levelLoad.begin();
+        }
+    }
+
+    @Override
+    public void endLevelLoad(int level, int bricks) {
+        LevelLoadEvent event = levelLoad;
+        if (event != null) {
+            levelLoad = null;
+            event.end();
+            if (event.shouldCommit()) {
+                event.level = level;
+                event.bricks = bricks;
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.TimeUtils;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import io.github.warnotte.warkanoid.level.PreparedLevel;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Startup JIT warm-up: plays a few thousand headless ticks on throwaway worlds (a
+ * multi-ball session, then a bomb field) on a background thread while {@code Main}
+ * loads its shaders, sounds and first level, so the ball collision code is compiled
+ * before the player launches the ball instead of during the first seconds of play.
+ * <p>
+ * The warm-up worlds share nothing with the game (own random, no listener, no tracer).
+ * Off by default: the desktop launcher turns it on; a native image has nothing to
+ * compile and GWT would run it synchronously.
+ */
+public class JitWarmup implements Disposable {
+    public static final int DEFAULT_TICKS = 3000;
+    private static final float TICK = 1f / 60f;
+    private static final int BRICKS = 300;
+
+    private final AsyncExecutor executor = new AsyncExecutor(1, "JitWarmup");
+    private AsyncResult<Void> result;
+    private int ticks;
+    private long startNanos;
+
+    /** Starts the warm-up in the background; 0 ticks does nothing. */
+    public void start(int ticks) {
+        if (ticks <= 0 || result != null) {
+            return;
+        }
+        this.ticks = ticks;
+        startNanos = TimeUtils.nanoTime();
+        result = executor.submit(() -> {
+            simulate(ticks, startNanos);
+            return null;
+        });
+    }
+
+    /** True once the warm-up finished (or failed, or never started); logs it the first time. */
+    public boolean isDone() {
+        if (result == null) {
+            return true;
+        }
+        if (!result.isDone()) {
+            return false;
+        }
+        try {
+            result.get();
+            System.out.println("JIT warm-up: " + ticks + " ticks in " + TimeUtils.nanosToMillis(TimeUtils.timeSinceNanos(startNanos)) + " ms");
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("Warmup", "JIT warm-up failed, playing cold", e);
+        }
+        result = null;
+        return true;
+    }
+
+    /**
+     * Plays {@code ticks} ticks, half multi-ball (with lasers) and half on a bomb field.
+     * Public so the bench can warm a JVM the same way the game does.
+     */
+    public static void simulate(int ticks, long seed) {
+        Random random = new RandomXS128(seed);
+        GameInput input = new GameInput();
+
+        LevelData grid = LevelGenerator.generate(LevelGenerator.Layout.GRID, BRICKS, seed);
+        GameWorld world = newWorld(grid, random);
+        for (int tick = 0; tick < ticks / 2; tick++) {
+            autopilot(world, input);
+            if (tick % 60 == 0) {
+                input.powerUp = tick % 600 == 0 ? PowerUp.Type.LASER : PowerUp.Type.MULTI_BALL;
+            }
+            world.update(TICK, input);
+        }
+        world.dispose();
+
+        LevelData bombs = LevelGenerator.generate(LevelGenerator.Layout.BOMB_FIELD, BRICKS, seed);
+        world = newWorld(bombs, random);
+        for (int tick = ticks / 2; tick < ticks; tick++) {
+            autopilot(world, input);
+            if (tick % 60 == 0) {
+                input.powerUp = PowerUp.Type.MULTI_BALL;
+            }
+            world.update(TICK, input);
+        }
+        world.dispose();
+    }
+
+    private static GameWorld newWorld(LevelData data, Random random) {
+        GameWorld world = new GameWorld(data.width, data.height, random, GameWorld.NO_LISTENER);
+        world.restart(PreparedLevel.of(0, data, random));
+        world.setLives(Integer.MAX_VALUE / 2);
+        return world;
+    }
+
+    /** Paddle under the lowest falling ball, action held to launch and fire. */
+    private static void autopilot(GameWorld world, GameInput input) {
+        input.clear();
+        input.action = true;
+        List<Ball> balls = world.getBalls();
+        float targetX = world.getPaddle().getX() + world.getPaddle().getWidth() / 2f;
+        float lowestY = Float.MAX_VALUE;
+        for (int i = 0; i < balls.size(); i++) {
+            Ball ball = balls.get(i);
+            if (ball.getVelocity().y <= 0f && ball.getY() < lowestY) {
+                lowestY = ball.getY();
+                targetX = ball.getX();
+            }
+        }
+        input.pointerX = targetX;
+    }
+
+    @Override
+    public void dispose() {
+        executor.dispose();
+    }
+}
@@ -3,19 +3,34 @@ package io.github.warnotte.warkanoid;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
 import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.utils.Pool;
 
-public class Laser {
-    private Rectangle bounds;
+/** Laser beam; pooled by {@link GameWorld}, see {@link #init}. */
+public class Laser implements Pool.Poolable {
+    private final Rectangle bounds = new Rectangle();
+    private float previousY;
     private float speed;
     private boolean active;
 
-    public Laser(float x, float y) {
-        this.bounds = new Rectangle(x - 1f, y, 2f, 10f); // Thin laser beam
+    public Laser() {
         this.speed = 400f; // Fast moving upward
-        this.active = true;
+    }
+
+    /** (Re)arms a beam fired from ({@code x}, {@code y}). */
+    public Laser init(float x, float y) {
+        bounds.set(x - 1f, y, 2f, 10f); // Thin laser beam
+        previousY = y;
+        active = true;
+        return this;
+    }
+
+    @Override
+    public void reset() {
+        active = false;
     }
 
     public void update(float deltaTime) {
+        previousY = bounds.y;
         if (active) {
             bounds.y += speed * deltaTime;
         }
@@ -42,12 +57,15 @@ public class Laser {
         return bounds.y > gameHeight;
     }
 
-    public boolean checkCollisionWithBrick(Brick brick) {
-        if (active && !brick.isDestroyed() && bounds.overlaps(brick.getBounds())) {
-            active = false; // Laser disappears on impact
-            return true;
-        }
-        return false;
+    /**
+     * Swept test over the last {@link #update}: true when the brick overlaps the column
+     * covered by the beam between its previous and current position, so a long frame
+     * cannot carry the beam over a thin brick. Does not deactivate the beam.
+     */
+    public boolean sweepHitsBrick(Brick brick) {
+        return active && !brick.isDestroyed()
+                && brick.getX() < bounds.x + bounds.width && brick.getX() + brick.getWidth() > bounds.x
+                && brick.getY() < bounds.y + bounds.height && brick.getY() + brick.getHeight() > previousY;
     }
 
     public Rectangle getBounds() {
@@ -69,4 +87,8 @@ public class Laser {
     public float getY() {
         return bounds.y;
     }
+
+    public float getPreviousY() {
+        return previousY;
+    }
 }
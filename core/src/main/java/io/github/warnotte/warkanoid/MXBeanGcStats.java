@@ -0,0 +1,39 @@
+package io.github.warnotte.warkanoid;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+/**
+ * {@link GcStats} summed over every {@link GarbageCollectorMXBean}. With G1 or ZGC this
+ * also counts concurrent cycles, which do not stop the game: a hitch is only blamed on
+ * GC when the collection time is a large part of the frame.
+ * <p>
+ * Desktop only (java.lang.management), excluded from the GWT module.
+ */
+public class MXBeanGcStats implements GcStats {
+    private final GarbageCollectorMXBean[] collectors;
+
+    public MXBeanGcStats() {
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        collectors = beans.toArray(new GarbageCollectorMXBean[0]);
+    }
+
+    @Override
+    public long getCollections() {
+        long total = 0L;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0L, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    @Override
+    public long getCollectionMillis() {
+        long total = 0L;
+        for (GarbageCollectorMXBean collector : collectors) {
+            total += Math.max(0L, collector.getCollectionTime());
+        }
+        return total;
+    }
+}
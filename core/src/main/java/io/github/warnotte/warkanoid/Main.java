@@ -2,9 +2,15 @@ package io.github.warnotte.warkanoid;
 
 import com.badlogic.gdx.ApplicationAdapter;
 import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.Input;
 import com.badlogic.gdx.InputMultiplexer;
+import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.SoundLoader;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.OrthographicCamera;
@@ -14,16 +20,24 @@ import com.badlogic.gdx.graphics.glutils.FrameBuffer;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.graphics.g2d.BitmapFont;
 import com.badlogic.gdx.graphics.g2d.GlyphLayout;
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.glutils.ShapeRenderer;
+import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ScreenUtils;
+import com.badlogic.gdx.utils.TimeUtils;
 import com.badlogic.gdx.utils.viewport.FitViewport;
 import com.badlogic.gdx.utils.viewport.Viewport;
+import io.github.warnotte.warkanoid.level.LevelData;
+import io.github.warnotte.warkanoid.level.LevelGenerator;
+import io.github.warnotte.warkanoid.level.LevelPreparer;
+import io.github.warnotte.warkanoid.level.LevelRepository;
+import io.github.warnotte.warkanoid.level.PreparedLevel;
 import io.github.warnotte.warkanoid.ui.CrtSettingsOverlay;
-import java.util.ArrayList;
-import java.util.List;
+import io.github.warnotte.warkanoid.ui.ProfilerOverlay;
+import java.util.Random;
 
 public class Main extends ApplicationAdapter {
     private static final String CRT_VERTEX_SHADER = "attribute vec4 a_position;\n" +
@@ -124,6 +138,25 @@ public class Main extends ApplicationAdapter {
     private static final float SHADOW_OFFSET_Y = -30f;
     private static final float SHADOW_BLUR_RADIUS = 1f;
     private static final int SHADOW_BLUR_ITERATIONS = 3;
+    /** Pseudo level number of the generated tall level (F8). */
+    private static final int TALL_LEVEL = 0;
+    private static final int TALL_LEVEL_SCREENS = 20;
+    private static final float CAMERA_FOLLOW_SPEED = 4f;
+    private static final int BALL_BURST_SIZE = 1000;
+    private static final String PROFILE_DIR = "profiles/";
+    /** Frames of GL counters measured after F12 before render-stats-*.csv is written. */
+    private static final int RENDER_STATS_CAPTURE_FRAMES = 120;
+    /** Under the 16 OpenAL sources the desktop backend opens by default. */
+    /** Under the per-channel caps' total (12), so a busy brick channel has to give voices to bounces. */
+    private static final int MAX_SOUND_VOICES = 8;
+    private static final String START_SOUND = "sounds/arkanoid_start.mp3";
+    private static final String PADDLE_HIT_SOUND = "sounds/Arkanoid_SFX_2.wav";
+    private static final String BRICK_HIT_SOUND = "sounds/Arkanoid_SFX_3.wav";
+    private static final String WALL_HIT_SOUND = "sounds/Arkanoid_SFX_4.wav";
+    /** Time per loading frame given to the asset manager's render-thread work. */
+    private static final int LOADING_BUDGET_MILLIS = 10;
+    /** Loading steps that need the GL context, one per frame (see {@link #runLoadingStep}). */
+    private static final String[] LOADING_STEPS = {"CRT shader", "shadow blur shader", "frame buffer", "post-process batch", "shadow buffers"};
 
     private ShapeRenderer shapeRenderer;
     private SpriteBatch spriteBatch;
@@ -141,55 +174,95 @@ public class Main extends ApplicationAdapter {
     private ShadowDebugMode shadowDebugMode = ShadowDebugMode.NORMAL;
     private final Color shadowDebugTint = new Color(Color.WHITE);
     private CrtSettingsOverlay crtOverlay;
+    private final FrameProfiler profiler = new FrameProfiler();
+    private final int updatePhase = profiler.addPhase("update");
+    private final int physicsPhase = profiler.addPhase("  ball physics");
+    private final int shadowMaskPhase = profiler.addPhase("shadow mask");
+    private final int[] blurPhases = addBlurPhases();
+    private final int mainPassPhase = profiler.addPhase("main pass");
+    private final int hudPhase = profiler.addPhase("HUD text");
+    private final int crtPhase = profiler.addPhase("CRT post-process");
+    private final int crtOverlayPhase = profiler.addPhase("CRT settings overlay");
+    private ProfilerOverlay profilerOverlay;
+    private RenderStats renderStats;
+    /** Pending render stats dump and the frames it still has to measure. */
+    private FileHandle renderStatsFile;
+    private int renderStatsCapture;
     private InputMultiplexer inputMultiplexer;
     private float screenShakeTime;
     private float screenShakeDuration;
     private float screenShakeIntensity;
-    private int comboCount;
-    private int maxCombo;
-    private float comboTimer;
-    private Sound startSound;
-    private Sound paddleHitSound;
-    private Sound brickHitSound;
-    private Sound wallHitSound;
+    // Launch and paddle first; bricks, the most frequent, give way to everything else.
+    // Voice lengths are those of the files above (start 3.27 s, SFX_2 1.18 s, SFX_4 1.50 s,
+    // SFX_3 1.30 s): update them with the sounds.
+    private final SoundManager sounds = new SoundManager(MAX_SOUND_VOICES);
+    private final int startChannel = sounds.addChannel(3, 1, 3.27f);
+    private final int paddleHitChannel = sounds.addChannel(2, 2, 1.18f);
+    private final int wallHitChannel = sounds.addChannel(1, 3, 1.5f);
+    private final int brickHitChannel = sounds.addChannel(0, 6, 1.3f);
     private BitmapFont font;
     private OrthographicCamera camera;
     private Viewport viewport;
-    private Paddle paddle;
-    private List<Ball> balls;
-    private List<Brick> bricks;
-    private List<PowerUp> powerUps;
-    private List<Particle> particles;
-    private List<Laser> lasers;
-    private float laserCooldown;
-    private List<Ball> stickyBalls;
-    private int score;
-    private int lives;
-    private boolean gameOver;
-    private boolean gameWon;
-    private boolean ballLaunched;
+    /** Bottom of the visible part of the playfield (scrolls on tall levels). */
+    private float scrollY;
+    private final Matrix4 hudMatrix = new Matrix4();
+    private GameWorld world;
+    private final GameInput input = new GameInput();
+    private final Vector3 pointer = new Vector3();
     private int currentLevel;
-    private enum CollisionMode {
-        DISCRETE("DISCRETE (OLD)"),
-        CONTINUOUS("CONTINUOUS (CCD)"),
-        ROBUST("ROBUST (HYBRID)");
+    private final LevelRepository levelRepository = new LevelRepository();
+    private final LevelPreparer levelPreparer = new LevelPreparer(levelRepository);
+    private final ParallelFor parallelFor;
+    private final HitchRecorder hitchRecorder;
+    private final JitWarmup jitWarmup = new JitWarmup();
+    private int jitWarmupTicks;
+    private final StartupTimeline startup = new StartupTimeline();
+    private AssetManager assetManager;
+    private FileHandleResolver assetResolver = new InternalFileHandleResolver();
+    /** Index of the next loading step, {@code LOADING_STEPS.length} once they all ran. */
+    private int loadingStep;
+    private int loadingFrames;
+    private boolean loading = true;
+    private boolean interactive;
+
+    public Main() {
+        this(ParallelFor.SERIAL);
+    }
 
-        private final String label;
+    /** @param parallelFor executor for the massive multi-ball mode, provided by the platform launcher */
+    public Main(ParallelFor parallelFor) {
+        this(parallelFor, Tracer.NONE);
+    }
 
-        CollisionMode(String label) {
-            this.label = label;
-        }
+    /** @param tracer phase events (JFR on desktop), provided by the platform launcher */
+    public Main(ParallelFor parallelFor, Tracer tracer) {
+        this(parallelFor, tracer, GcStats.NONE);
+    }
 
-        public CollisionMode next() {
-            CollisionMode[] modes = values();
-            return modes[(ordinal() + 1) % modes.length];
-        }
+    /** @param gcStats GC counters for the hitch reports, provided by the platform launcher */
+    public Main(ParallelFor parallelFor, Tracer tracer, GcStats gcStats) {
+        this.parallelFor = parallelFor;
+        this.hitchRecorder = new HitchRecorder(tracer, gcStats, HitchRecorder.DEFAULT_THRESHOLD_NANOS);
+    }
 
-        public String getLabel() {
-            return label;
-        }
+    /**
+     * Ticks of headless play run in the background during {@link #create()} to compile the
+     * hot paths before the first launch (see {@link JitWarmup}); 0, the default, skips it.
+     */
+    public void setJitWarmupTicks(int ticks) {
+        this.jitWarmupTicks = ticks;
     }
 
+    /** Where assets and levels are read from (the desktop asset pack); call before {@link #create()}. */
+    public void setAssetResolver(FileHandleResolver resolver) {
+        this.assetResolver = resolver;
+        levelRepository.setResolver(resolver);
+    }
+
+    /** Process start (wall clock ms) the startup timeline counts from; defaults to {@link #create()}. */
+    public void setProcessStartMillis(long millis) {
+        startup.setOrigin(millis);
+    }
     private enum ShadowDebugMode {
         NORMAL("NORMAL"),
         RAW_MASK("RAW MASK"),
@@ -212,27 +285,46 @@ public class Main extends ApplicationAdapter {
         }
     }
 
-    private static CollisionMode collisionMode = CollisionMode.CONTINUOUS; // Toggle with F7
+    /**
+     * Only creates what the loading screen and the world need. Sounds are decoded on the
+     * asset manager's thread and level 1 is built by the level preparer, while the
+     * shaders and frame buffers are created one per frame by {@link #renderLoading()}.
+     */
     @Override
     public void create() {
-        shapeRenderer = new ShapeRenderer();
+        startup.mark("create");
+        // Overlaps the loading below; the ball cannot be launched until it is done
+        jitWarmup.start(jitWarmupTicks);
+        currentLevel = 1;
+        levelPreparer.setGenerator(TALL_LEVEL, new LevelPreparer.Generator() {
+            @Override
+            public LevelData generate(Random random) {
+                return LevelGenerator.tall(LevelGenerator.Layout.WALLS, TALL_LEVEL_SCREENS, random.nextLong());
+            }
+        });
+        levelPreparer.prefetch(currentLevel);
+        // F8 debug level: generated in the background too, so the first switch is a swap
+        levelPreparer.prefetch(TALL_LEVEL);
+        assetManager = new AssetManager(assetResolver);
+        assetManager.load(START_SOUND, Sound.class, soundParameter());
+        assetManager.load(PADDLE_HIT_SOUND, Sound.class, soundParameter());
+        assetManager.load(BRICK_HIT_SOUND, Sound.class, soundParameter());
+        assetManager.load(WALL_HIT_SOUND, Sound.class, soundParameter());
+
+        renderStats = new RenderStats(Gdx.graphics);
+        // Also counts the flushes ShapeRenderer does on its own (buffer full, type change)
+        shapeRenderer = new ShapeRenderer() {
+            @Override
+            public void begin(ShapeType type) {
+                renderStats.shapesBegun();
+                super.begin(type);
+            }
+        };
         spriteBatch = new SpriteBatch();
-        postProcessBatch = new SpriteBatch();
-        frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, GAME_WIDTH, GAME_HEIGHT, false);
-        frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+        renderStats.watch(spriteBatch);
         screenMatrix = new Matrix4().setToOrtho2D(0f, 0f, GAME_WIDTH, GAME_HEIGHT);
         shaderTime = 0f;
         ShaderProgram.pedantic = false;
-        crtShader = new ShaderProgram(CRT_VERTEX_SHADER, CRT_FRAGMENT_SHADER);
-        if (!crtShader.isCompiled()) {
-            Gdx.app.error("CRT", "Failed to compile CRT shader: " + crtShader.getLog());
-            crtShader.dispose();
-            crtShader = null;
-        }
-        startSound = Gdx.audio.newSound(Gdx.files.internal("sounds/arkanoid_start.mp3"));
-        paddleHitSound = Gdx.audio.newSound(Gdx.files.internal("sounds/Arkanoid_SFX_2.wav"));
-        brickHitSound = Gdx.audio.newSound(Gdx.files.internal("sounds/Arkanoid_SFX_3.wav"));
-        wallHitSound = Gdx.audio.newSound(Gdx.files.internal("sounds/Arkanoid_SFX_4.wav"));
         font = new BitmapFont(); // Default font
         font.setColor(Color.WHITE);
         font.getData().setScale(1.5f); // Make text bigger
@@ -248,9 +340,6 @@ public class Main extends ApplicationAdapter {
         screenShakeTime = 0f;
         screenShakeDuration = 0f;
         screenShakeIntensity = 0f;
-        comboCount = 0;
-        maxCombo = 0;
-        comboTimer = 0f;
 
         // Setup camera and viewport
         camera = new OrthographicCamera();
@@ -258,44 +347,12 @@ public class Main extends ApplicationAdapter {
         viewport = new FitViewport(GAME_WIDTH, GAME_HEIGHT, camera);
         viewport.apply();
 
-        if (frameBuffer == null) {
-            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, GAME_WIDTH, GAME_HEIGHT, false);
-            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        }
-
-        if (postProcessBatch == null) {
-            postProcessBatch = new SpriteBatch();
-        }
-
-        // Create paddle at bottom center
-        paddle = new Paddle(GAME_WIDTH / 2f - 50f, 30f, 100f, 15f);
-
-        // Create initial ball on paddle
-        balls = new ArrayList<>();
-        Ball initialBall = new Ball(GAME_WIDTH / 2f, 30f + 15f + 8f, 8f); // paddle Y + paddle height + ball radius
-        initialBall.setTrailColor(Color.CYAN);
-        balls.add(initialBall);
-
-        // Initialize power-ups list
-        powerUps = new ArrayList<>();
-
-        // Initialize particles list
-        particles = new ArrayList<>();
-
-        // Initialize lasers list
-        lasers = new ArrayList<>();
-        laserCooldown = 0f;
-
-        // Initialize sticky balls
-        stickyBalls = new ArrayList<>();
-
-        // Initialize game state
-        score = 0;
-        lives = 3;
-        gameOver = false;
-        gameWon = false;
-        ballLaunched = false;
-        currentLevel = 1;
+        // Create paddle and initial ball, game state is owned by the world
+        world = new GameWorld(GAME_WIDTH, GAME_HEIGHT, MathUtils.random, worldListener);
+        world.setParallelFor(parallelFor);
+        world.setTracer(hitchRecorder);
+        profiler.setTracer(hitchRecorder);
+        hitchRecorder.setProfiler(profiler);
 
         // Create CRT overlay HUD
         crtOverlay = new CrtSettingsOverlay(getCrtSettings(), spriteBatch);
@@ -303,301 +360,159 @@ public class Main extends ApplicationAdapter {
         inputMultiplexer.addProcessor(crtOverlay.getStage());
         Gdx.input.setInputProcessor(inputMultiplexer);
         crtOverlay.resize(Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
+        profilerOverlay = new ProfilerOverlay(profiler, renderStats, sounds, spriteBatch);
+        startup.mark("create done");
+    }
 
-        // Create bricks for level 1
-        loadLevel(currentLevel);
+    /** Marks each asset on the timeline as it finishes loading. */
+    private SoundLoader.SoundParameter soundParameter() {
+        SoundLoader.SoundParameter parameter = new SoundLoader.SoundParameter();
+        parameter.loadedCallback = new AssetLoaderParameters.LoadedCallback() {
+            // LoadedCallback declares a raw Class, a parameterized override would not compile
+            @Override
+            @SuppressWarnings("rawtypes")
+            public void finishedLoading(AssetManager manager, String fileName, Class type) {
+                startup.mark(fileName);
+            }
+        };
+        return parameter;
     }
 
-    private void loadLevel(int level) {
-        switch (level) {
+    /**
+     * One loading frame: a time slice for the asset manager, at most one GL step, and the
+     * progress bar. Switches to the game once both are done (level 1 is taken then).
+     */
+    private void renderLoading() {
+        boolean assetsLoaded = assetManager.update(LOADING_BUDGET_MILLIS);
+        // The first frame only shows the screen, so it is up before the first compile
+        if (loadingFrames > 0 && loadingStep < LOADING_STEPS.length) {
+            runLoadingStep(loadingStep);
+            startup.mark(LOADING_STEPS[loadingStep]);
+            loadingStep++;
+        } else if (assetsLoaded && loadingStep == LOADING_STEPS.length) {
+            finishLoading();
+            return;
+        }
+
+        int assets = assetManager.getLoadedAssets() + assetManager.getQueuedAssets();
+        float progress = (assetManager.getProgress() * assets + loadingStep) / (assets + LOADING_STEPS.length);
+        ScreenUtils.clear(0.1f, 0.1f, 0.15f, 1f);
+        viewport.apply();
+        spriteBatch.setProjectionMatrix(camera.combined);
+        spriteBatch.begin();
+        float barWidth = GAME_WIDTH * 0.5f;
+        float barX = (GAME_WIDTH - barWidth) / 2f;
+        float barY = GAME_HEIGHT / 2f - 40f;
+        spriteBatch.setColor(0.25f, 0.25f, 0.3f, 1f);
+        spriteBatch.draw(pixelTexture, barX, barY, barWidth, 12f);
+        spriteBatch.setColor(0f, 0.8f, 1f, 1f);
+        spriteBatch.draw(pixelTexture, barX, barY, barWidth * progress, 12f);
+        spriteBatch.setColor(Color.WHITE);
+        drawTextCenteredWithShadow("Loading " + MathUtils.round(progress * 100f) + "%", GAME_WIDTH / 2f, GAME_HEIGHT / 2f);
+        spriteBatch.end();
+
+        if (loadingFrames++ == 0) {
+            startup.mark("first frame");
+        }
+    }
+
+    private void runLoadingStep(int step) {
+        switch (step) {
+            case 0:
+                crtShader = new ShaderProgram(CRT_VERTEX_SHADER, CRT_FRAGMENT_SHADER);
+                hitchRecorder.markShaderCompile();
+                if (!crtShader.isCompiled()) {
+                    Gdx.app.error("CRT", "Failed to compile CRT shader: " + crtShader.getLog());
+                    crtShader.dispose();
+                    crtShader = null;
+                }
+                break;
             case 1:
-                createLevel1();
+                ensureShadowBlurShader();
                 break;
             case 2:
-                createLevel2();
+                frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, GAME_WIDTH, GAME_HEIGHT, false);
+                frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
                 break;
             case 3:
-                createLevel3();
-                break;
-            case 4:
-                createLevel4();
-                break;
-            case 5:
-                createLevel5();
-                break;
-            case 6:
-                createLevel6CollisionTest();
+                // Its default shader is compiled here rather than in create()
+                postProcessBatch = new SpriteBatch();
+                renderStats.watch(postProcessBatch);
                 break;
             default:
-                createLevel1();
+                ensureShadowBuffers();
                 break;
         }
     }
 
-    private void createLevel1() {
-        bricks = new ArrayList<>();
-        int rows = 6;
-        int cols = 10;
-        float brickWidth = (GAME_WIDTH - 100f) / cols;
-        float brickHeight = 20f;
-        float startX = 50f;
-        float startY = GAME_HEIGHT - 100f;
-
-        Color[] colors = {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.BLUE, Color.PURPLE};
-        int[] hitCounts = {1, 1, 2, 2, 3, 3}; // Bottom rows = 1 hit (easy), top rows = 3 hits (hard)
-
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                float x = startX + col * brickWidth;
-                float y = startY - row * (brickHeight + 2f);
-
-                // Row 0 = top (hardest), Row 5 = bottom (easiest)
-                // So we need to invert: bottom rows should have low hit counts
-                int difficultyIndex = (rows - 1) - row; // row 0 -> index 5, row 5 -> index 0
-                Color brickColor = colors[difficultyIndex % colors.length];
-                int maxHits = hitCounts[difficultyIndex % hitCounts.length];
-
-                // 10% chance for bomb brick (but not on easiest rows)
-                boolean isBomb = difficultyIndex >= 2 && Math.random() < 0.1;
-                Brick.Type brickType = isBomb ? Brick.Type.BOMB : Brick.Type.NORMAL;
-
-                bricks.add(new Brick(x, y, brickWidth - 2f, brickHeight, brickColor, maxHits, brickType));
-            }
-        }
+    private void finishLoading() {
+        sounds.setSound(startChannel, assetManager.get(START_SOUND, Sound.class));
+        sounds.setSound(paddleHitChannel, assetManager.get(PADDLE_HIT_SOUND, Sound.class));
+        sounds.setSound(brickHitChannel, assetManager.get(BRICK_HIT_SOUND, Sound.class));
+        sounds.setSound(wallHitChannel, assetManager.get(WALL_HIT_SOUND, Sound.class));
+
+        // Create bricks for level 1 (prefetched since create)
+        hitchRecorder.beginLevelLoad();
+        world.setLevel(loadLevel(currentLevel));
+        hitchRecorder.endLevelLoad(currentLevel, world.getBricks().size());
+        startup.mark("level " + currentLevel);
+        loading = false;
     }
 
-    private void createLevel2() {
-        bricks = new ArrayList<>();
-        int rows = 8;
-        int cols = 10;
-        float brickWidth = (GAME_WIDTH - 100f) / cols;
-        float brickHeight = 20f;
-        float startX = 50f;
-        float startY = GAME_HEIGHT - 100f;
-
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                float x = startX + col * brickWidth;
-                float y = startY - row * (brickHeight + 2f);
-
-                Brick.Type brickType = Brick.Type.NORMAL;
-                Color brickColor;
-                int maxHits = 1;
-
-                // Create a pattern with indestructible bricks forming a cross
-                if ((row == 3 || row == 4) && col >= 3 && col <= 6) {
-                    // Horizontal bar of cross
-                    brickType = Brick.Type.INDESTRUCTIBLE;
-                    brickColor = Color.GRAY;
-                } else if ((col == 4 || col == 5) && row >= 1 && row <= 6) {
-                    // Vertical bar of cross
-                    brickType = Brick.Type.INDESTRUCTIBLE;
-                    brickColor = Color.GRAY;
-                } else {
-                    // Normal bricks in rainbow pattern
-                    Color[] colors = {Color.RED, Color.ORANGE, Color.YELLOW, Color.GREEN, Color.CYAN, Color.BLUE, Color.PURPLE, Color.MAGENTA};
-                    brickColor = colors[row % colors.length];
-                    maxHits = (row < 2) ? 2 : 1;
-
-                    // Add some bomb bricks
-                    if (row >= 5 && Math.random() < 0.15) {
-                        brickType = Brick.Type.BOMB;
-                    }
-                }
-
-                bricks.add(new Brick(x, y, brickWidth - 2f, brickHeight, brickColor, maxHits, brickType));
-            }
+    private PreparedLevel loadLevel(int level) {
+        if (!levelPreparer.exists(level)) {
+            level = 1;
         }
-    }
-
-    private void createLevel3() {
-        bricks = new ArrayList<>();
-        int rows = 8;
-        int cols = 10;
-        float brickWidth = (GAME_WIDTH - 100f) / cols;
-        float brickHeight = 20f;
-        float startX = 50f;
-        float startY = GAME_HEIGHT - 100f;
-
-        // Alternating rows pattern - easier than checkerboard
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                float x = startX + col * brickWidth;
-                float y = startY - row * (brickHeight + 2f);
-
-                // Every other row is indestructible
-                boolean isIndestructible = row % 2 == 0;
-                Color brickColor;
-                Brick.Type brickType;
-                int maxHits;
-
-                if (isIndestructible) {
-                    brickColor = Color.GRAY;
-                    brickType = Brick.Type.INDESTRUCTIBLE;
-                    maxHits = 1;
-                } else {
-                    Color[] colors = {Color.CYAN, Color.BLUE, Color.PURPLE, Color.MAGENTA};
-                    brickColor = colors[row / 2 % colors.length];
-                    maxHits = 1 + (row / 4);
-                    brickType = (Math.random() < 0.1) ? Brick.Type.BOMB : Brick.Type.NORMAL;
-                }
+        // Take the level prepared in the background, drop the prefetches other loads left
+        // behind, then start preparing the likely next loads (restart of this level, next
+        // level) while this one is played.
+        PreparedLevel prepared = levelPreparer.take(level);
 
-                bricks.add(new Brick(x, y, brickWidth - 2f, brickHeight, brickColor, maxHits, brickType));
-            }
-        }
+        int nextLevel = levelRepository.exists(level + 1) ? level + 1 : 1;
+        levelPreparer.retain(level, nextLevel);
+        levelPreparer.prefetch(level);
+        levelPreparer.prefetch(nextLevel);
+        return prepared;
     }
 
-    private void createLevel4() {
-        bricks = new ArrayList<>();
-        int rows = 8;
-        int cols = 10;
-        float brickWidth = (GAME_WIDTH - 100f) / cols;
-        float brickHeight = 20f;
-        float startX = 50f;
-        float startY = GAME_HEIGHT - 100f;
-
-        // Frame pattern - indestructible border with opening at bottom
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                float x = startX + col * brickWidth;
-                float y = startY - row * (brickHeight + 2f);
-
-                // Create opening at bottom center (columns 4 and 5)
-                boolean isOpening = (row == rows - 1) && (col == 4 || col == 5);
-                boolean isBorder = (row == 0 || row == rows - 1 || col == 0 || col == cols - 1) && !isOpening;
-
-                Color brickColor;
-                Brick.Type brickType;
-                int maxHits;
-
-                if (isBorder) {
-                    brickColor = Color.GRAY;
-                    brickType = Brick.Type.INDESTRUCTIBLE;
-                    maxHits = 1;
-                } else if (!isOpening) {
-                    // Inside bricks - harder as you go up
-                    Color[] colors = {Color.GREEN, Color.YELLOW, Color.ORANGE, Color.RED};
-                    int colorIndex = Math.min((rows - 1 - row) / 2, colors.length - 1);
-                    brickColor = colors[colorIndex];
-                    maxHits = row < 3 ? 3 : (row < 5 ? 2 : 1);
-                    brickType = (Math.random() < 0.08) ? Brick.Type.BOMB : Brick.Type.NORMAL;
-                } else {
-                    // Skip the opening - don't add a brick here
-                    continue;
-                }
-
-                bricks.add(new Brick(x, y, brickWidth - 2f, brickHeight, brickColor, maxHits, brickType));
-            }
+    @Override
+    public void render() {
+        if (loading) {
+            // Loading frames are long by design (shader compiles), they are not hitches
+            renderLoading();
+            return;
         }
-    }
-
-    private void createLevel5() {
-        bricks = new ArrayList<>();
-        int rows = 8;
-        int cols = 10;
-        float brickWidth = (GAME_WIDTH - 100f) / cols;
-        float brickHeight = 20f;
-        float startX = 50f;
-        float startY = GAME_HEIGHT - 100f;
-
-        // Columns pattern - vertical stripes
-        for (int row = 0; row < rows; row++) {
-            for (int col = 0; col < cols; col++) {
-                float x = startX + col * brickWidth;
-                float y = startY - row * (brickHeight + 2f);
-
-                // Every 3rd column is indestructible
-                boolean isWall = col % 3 == 0;
-
-                Color brickColor;
-                Brick.Type brickType;
-                int maxHits;
-
-                if (isWall) {
-                    brickColor = Color.GRAY;
-                    brickType = Brick.Type.INDESTRUCTIBLE;
-                    maxHits = 1;
-                } else {
-                    Color[] colors = {Color.PURPLE, Color.MAGENTA, Color.PINK, Color.ORANGE};
-                    brickColor = colors[(row + col) % colors.length];
-                    maxHits = 1 + (row / 3);
-                    brickType = (Math.random() < 0.12) ? Brick.Type.BOMB : Brick.Type.NORMAL;
-                }
-
-                bricks.add(new Brick(x, y, brickWidth - 2f, brickHeight, brickColor, maxHits, brickType));
-            }
+        hitchRecorder.beginFrame();
+        try {
+            renderFrame();
+        } catch (RuntimeException | Error e) {
+            hitchRecorder.crashed(e);
+            throw e;
+        }
+        hitchRecorder.endFrame(world);
+        if (!interactive) {
+            interactive = true;
+            startup.mark("first interactive frame");
+            System.out.println(startup);
         }
     }
 
-    private void createLevel6CollisionTest() {
-        bricks = new ArrayList<>();
-        float brickWidth = 70f;
-        float brickHeight = 20f;
-        float spacing = 2f;
-
-        // Test 1: Narrow vertical corridor (left side)
-        for (int i = 0; i < 15; i++) {
-            float y = GAME_HEIGHT - 100f - i * (brickHeight + spacing);
-            bricks.add(new Brick(50f, y, brickWidth, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-            bricks.add(new Brick(50f + brickWidth + 50f, y, brickWidth, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-        }
-
-        // Test 2: Spiral pattern (center-right)
-        float centerX = 400f;
-        float centerY = 400f;
-        int spiralBricks = 20;
-        for (int i = 0; i < spiralBricks; i++) {
-            float angle = i * 0.8f;
-            float radius = 30f + i * 8f;
-            float x = centerX + (float)(Math.cos(angle) * radius);
-            float y = centerY + (float)(Math.sin(angle) * radius);
-            bricks.add(new Brick(x, y, 30f, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-        }
-
-        // Test 3: Tight zigzag pattern (bottom)
-        float zigzagStartX = 100f;
-        float zigzagY = 200f;
-        for (int i = 0; i < 8; i++) {
-            float offsetY = (i % 2 == 0) ? 0f : 30f;
-            bricks.add(new Brick(zigzagStartX + i * 60f, zigzagY + offsetY, 50f, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-        }
-
-        // Test 4: Corners and tight angles (top-right)
-        float cornerX = 600f;
-        float cornerY = GAME_HEIGHT - 100f;
-        // L-shape
-        for (int i = 0; i < 5; i++) {
-            bricks.add(new Brick(cornerX, cornerY - i * (brickHeight + spacing), 60f, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-            bricks.add(new Brick(cornerX + i * 62f, cornerY - 4 * (brickHeight + spacing), 60f, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-        }
-
-        // Test 5: Very narrow gap (should be barely passable)
-        float gapY = 300f;
-        bricks.add(new Brick(250f, gapY, 80f, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-        bricks.add(new Brick(250f, gapY - (brickHeight + 20f), 80f, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-
-        // Test 6: Box trap (ball can get stuck)
-        float boxX = 500f;
-        float boxY = 250f;
-        float boxSize = 80f;
-        // Top, bottom, left, right
-        bricks.add(new Brick(boxX, boxY + boxSize, boxSize, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-        bricks.add(new Brick(boxX, boxY - brickHeight, boxSize, brickHeight, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-        bricks.add(new Brick(boxX - brickHeight, boxY, brickHeight, boxSize, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-        bricks.add(new Brick(boxX + boxSize, boxY, brickHeight, boxSize, Color.GRAY, 1, Brick.Type.INDESTRUCTIBLE));
-
-        // Add a few destructible bricks for testing scoring/winning
-        bricks.add(new Brick(350f, 150f, 50f, brickHeight, Color.RED, 1, Brick.Type.NORMAL));
-        bricks.add(new Brick(420f, 150f, 50f, brickHeight, Color.YELLOW, 1, Brick.Type.NORMAL));
-    }
-
-    @Override
-    public void render() {
+    private void renderFrame() {
         float deltaTime = Gdx.graphics.getDeltaTime();
+        profiler.beginFrame();
+        // The GL profiler wraps every call: only while its counters are shown or captured
+        renderStats.setEnabled(renderStatsCapture > 0 || (profilerOverlay != null && profilerOverlay.isVisible()));
+        renderStats.beginFrame();
 
+        profiler.begin(updatePhase);
         update(deltaTime);
+        updateScroll(deltaTime);
+        // Plays what the tick queued
+        sounds.update(deltaTime);
+        profiler.end(updatePhase);
+        profiler.record(physicsPhase, world.getPhysicsNanos());
 
-        camera.position.set(GAME_WIDTH / 2f, GAME_HEIGHT / 2f, 0f);
+        camera.position.set(GAME_WIDTH / 2f, scrollY + GAME_HEIGHT / 2f, 0f);
         if (screenShakeTime > 0f && screenShakeDuration > 0f) {
             float progress = screenShakeTime / screenShakeDuration;
             float currentIntensity = screenShakeIntensity * progress * progress;
@@ -605,22 +520,16 @@ public class Main extends ApplicationAdapter {
                                 MathUtils.random(-currentIntensity, currentIntensity), 0f);
         }
         camera.update();
+        // HUD keeps screen coordinates but still shakes with the camera
+        hudMatrix.set(camera.combined).translate(0f, scrollY, 0f);
 
         viewport.apply();
 
-        if (frameBuffer == null) {
-            frameBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, GAME_WIDTH, GAME_HEIGHT, false);
-            frameBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
-        }
-
-        if (postProcessBatch == null) {
-            postProcessBatch = new SpriteBatch();
-        }
-
         ensureShadowResources();
         renderShadowLayer();
 
-        frameBuffer.begin();
+        profiler.begin(mainPassPhase);
+        beginFrameBuffer(frameBuffer);
         ScreenUtils.clear(0.1f, 0.1f, 0.15f, 1f);
 
         if (shadowBuffer != null && shadowDebugMode != ShadowDebugMode.OFF) {
@@ -643,7 +552,7 @@ public class Main extends ApplicationAdapter {
             spriteBatch.setBlendFunction(GL20.GL_SRC_ALPHA, GL20.GL_ONE_MINUS_SRC_ALPHA);
             spriteBatch.begin();
             spriteBatch.draw(shadowTexture,
-                    0f, 0f,
+                    0f, scrollY,
                     0f, 0f,
                     GAME_WIDTH, GAME_HEIGHT,
                     1f, 1f,
@@ -658,36 +567,42 @@ public class Main extends ApplicationAdapter {
 
         shapeRenderer.setProjectionMatrix(camera.combined);
 
+        renderStats.beginPass(RenderPass.MAIN);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
 
         // Draw walls (white borders) without extra shadow
         shapeRenderer.setColor(Color.WHITE);
-        shapeRenderer.rect(0, 0, 5f, GAME_HEIGHT);
-        shapeRenderer.rect(GAME_WIDTH - 5f, 0, 5f, GAME_HEIGHT);
-        shapeRenderer.rect(0, GAME_HEIGHT - 5f, GAME_WIDTH, 5f);
+        shapeRenderer.rect(0, scrollY, 5f, GAME_HEIGHT);
+        shapeRenderer.rect(GAME_WIDTH - 5f, scrollY, 5f, GAME_HEIGHT);
+        shapeRenderer.rect(0, world.getHeight() - 5f, GAME_WIDTH, 5f);
 
         renderGameObjects(shapeRenderer, RenderPass.MAIN);
 
         shapeRenderer.setColor(Color.WHITE);
-        for (int i = 0; i < lives; i++) {
+        for (int i = 0; i < world.getLives(); i++) {
             float x = GAME_WIDTH - 30f - (i * 20f);
-            float y = 15f;
+            float y = scrollY + 15f;
             shapeRenderer.circle(x, y, 6f);
         }
 
         shapeRenderer.end();
+        renderStats.endPass(RenderPass.MAIN);
+        profiler.end(mainPassPhase);
 
         // Draw text (score and game state)
-        spriteBatch.setProjectionMatrix(camera.combined);
+        profiler.begin(hudPhase);
+        spriteBatch.setProjectionMatrix(hudMatrix);
         spriteBatch.begin();
 
         renderHud();
         renderGameStateMessages();
 
         spriteBatch.end();
-        frameBuffer.end();
+        endFrameBuffer(frameBuffer);
+        profiler.end(hudPhase);
 
         shaderTime += deltaTime;
+        profiler.begin(crtPhase);
 
         Gdx.gl.glViewport(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
         ScreenUtils.clear(0f, 0f, 0f, 1f);
@@ -714,13 +629,49 @@ public class Main extends ApplicationAdapter {
         if (crtShader != null) {
             postProcessBatch.setShader(null);
         }
+        profiler.end(crtPhase);
 
         if (crtOverlay != null) {
+            profiler.begin(crtOverlayPhase);
             crtOverlay.render(deltaTime);
+            profiler.end(crtOverlayPhase);
+        }
+        profiler.endFrame();
+        renderStats.endFrame();
+        if (renderStatsCapture > 0 && --renderStatsCapture == 0) {
+            dumpRenderStats();
+        }
+
+        if (profilerOverlay != null) {
+            profilerOverlay.render(world);
+        }
+    }
+
+    private void beginFrameBuffer(FrameBuffer buffer) {
+        renderStats.frameBufferBound();
+        buffer.begin();
+    }
+
+    /** Binds the default frame buffer back, so it counts as a bind too. */
+    private void endFrameBuffer(FrameBuffer buffer) {
+        renderStats.frameBufferBound();
+        buffer.end();
+    }
+
+    private int[] addBlurPhases() {
+        int[] phases = new int[SHADOW_BLUR_ITERATIONS];
+        for (int i = 0; i < SHADOW_BLUR_ITERATIONS; i++) {
+            phases[i] = profiler.addPhase("shadow blur " + (i + 1));
         }
+        return phases;
     }
 
     private void ensureShadowResources() {
+        ensureShadowBuffers();
+        ensureShadowBlurShader();
+    }
+
+    private void ensureShadowBuffers() {
         if (shadowBuffer == null) {
             shadowBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, GAME_WIDTH, GAME_HEIGHT, false);
             shadowBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
@@ -729,8 +680,12 @@ public class Main extends ApplicationAdapter {
             shadowPingBuffer = new FrameBuffer(Pixmap.Format.RGBA8888, GAME_WIDTH, GAME_HEIGHT, false);
             shadowPingBuffer.getColorBufferTexture().setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
         }
+    }
+
+    private void ensureShadowBlurShader() {
         if (shadowBlurShader == null) {
             shadowBlurShader = new ShaderProgram(SHADOW_BLUR_VERTEX_SHADER, SHADOW_BLUR_FRAGMENT_SHADER);
+            hitchRecorder.markShaderCompile();
             if (!shadowBlurShader.isCompiled()) {
                 Gdx.app.error("ShadowBlur", "Failed to compile shadow blur shader: " + shadowBlurShader.getLog());
                 shadowBlurShader.dispose();
@@ -744,17 +699,21 @@ public class Main extends ApplicationAdapter {
             return;
         }
 
-        shadowBuffer.begin();
+        profiler.begin(shadowMaskPhase);
+        beginFrameBuffer(shadowBuffer);
         ScreenUtils.clear(0f, 0f, 0f, 0f);
 
         Matrix4 shadowMatrix = new Matrix4(camera.combined).translate(SHADOW_OFFSET_X, SHADOW_OFFSET_Y, 0f);
         shapeRenderer.setProjectionMatrix(shadowMatrix);
+        renderStats.beginPass(RenderPass.SHADOW_MASK);
         shapeRenderer.begin(ShapeRenderer.ShapeType.Filled);
         renderGameObjects(shapeRenderer, RenderPass.SHADOW_MASK);
         shapeRenderer.end();
+        renderStats.endPass(RenderPass.SHADOW_MASK);
 
         shapeRenderer.setProjectionMatrix(camera.combined);
-        shadowBuffer.end();
+        endFrameBuffer(shadowBuffer);
+        profiler.end(shadowMaskPhase);
 
         if (shadowDebugMode != ShadowDebugMode.RAW_MASK && shadowDebugMode != ShadowDebugMode.OFF) {
             blurShadowBuffer();
@@ -775,8 +734,9 @@ public class Main extends ApplicationAdapter {
 
         for (int i = 0; i < SHADOW_BLUR_ITERATIONS; i++) {
             float scale = (i + 1f) / (float) SHADOW_BLUR_ITERATIONS;
+            profiler.begin(blurPhases[i]);
 
-            shadowPingBuffer.begin();
+            beginFrameBuffer(shadowPingBuffer);
             ScreenUtils.clear(0f, 0f, 0f, 0f);
             spriteBatch.setProjectionMatrix(screenMatrix);
             spriteBatch.setColor(1f, 1f, 1f, 1f);
@@ -793,12 +753,12 @@ public class Main extends ApplicationAdapter {
                     currentSource.getWidth(), currentSource.getHeight(),
                     false, true);
             spriteBatch.end();
-            shadowPingBuffer.end();
+            endFrameBuffer(shadowPingBuffer);
 
             Texture pingTexture = shadowPingBuffer.getColorBufferTexture();
             pingTexture.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
 
-            shadowBuffer.begin();
+            beginFrameBuffer(shadowBuffer);
             ScreenUtils.clear(0f, 0f, 0f, 0f);
             spriteBatch.setProjectionMatrix(screenMatrix);
             spriteBatch.setColor(1f, 1f, 1f, 1f);
@@ -815,10 +775,11 @@ public class Main extends ApplicationAdapter {
                     pingTexture.getWidth(), pingTexture.getHeight(),
                     false, true);
             spriteBatch.end();
-            shadowBuffer.end();
+            endFrameBuffer(shadowBuffer);
 
             currentSource = shadowBuffer.getColorBufferTexture();
             currentSource.setFilter(Texture.TextureFilter.Linear, Texture.TextureFilter.Linear);
+            profiler.end(blurPhases[i]);
         }
 
         spriteBatch.enableBlending();
@@ -827,20 +788,25 @@ public class Main extends ApplicationAdapter {
     }
 
     private void renderGameObjects(ShapeRenderer shapeRenderer, RenderPass pass) {
-        paddle.render(shapeRenderer, pass);
-        for (Ball ball : balls) {
+        world.getPaddle().render(shapeRenderer, pass);
+        for (Ball ball : world.getBalls()) {
             ball.render(shapeRenderer, pass);
         }
-        for (Brick brick : bricks) {
-            brick.render(shapeRenderer, pass);
+        // Tall levels: skip bricks outside the view (the shadow pass is offset downwards)
+        float minY = scrollY + SHADOW_OFFSET_Y;
+        float maxY = scrollY + GAME_HEIGHT;
+        for (Brick brick : world.getBricks()) {
+            if (brick.getY() + brick.getHeight() >= minY && brick.getY() <= maxY) {
+                brick.render(shapeRenderer, pass);
+            }
         }
-        for (PowerUp powerUp : powerUps) {
+        for (PowerUp powerUp : world.getPowerUps()) {
             powerUp.render(shapeRenderer, pass);
         }
-        for (Particle particle : particles) {
+        for (Particle particle : world.getParticles()) {
             particle.render(shapeRenderer, pass);
         }
-        for (Laser laser : lasers) {
+        for (Laser laser : world.getLasers()) {
             laser.render(shapeRenderer, pass);
         }
     }
@@ -879,29 +845,6 @@ public class Main extends ApplicationAdapter {
         public float noiseSpeed = 0.008f;
     }
 
-    private void releaseStickyBalls() {
-        if (stickyBalls.isEmpty()) {
-            return;
-        }
-
-        float paddleCenter = paddle.getX() + paddle.getWidth() / 2f;
-        float maxAngle = 60f;
-        float speed = 300f;
-
-        for (Ball stickyBall : stickyBalls) {
-            float ballOffsetFromCenter = stickyBall.getX() - paddleCenter;
-            float angleInDegrees = (ballOffsetFromCenter / (paddle.getWidth() / 2f)) * maxAngle;
-            float angleInRadians = (float) Math.toRadians(90f - angleInDegrees);
-
-            stickyBall.setVelocity(
-                (float) (speed * Math.cos(angleInRadians)),
-                (float) (speed * Math.sin(angleInRadians))
-            );
-        }
-
-        stickyBalls.clear();
-    }
-
     private void renderHud() {
         float panelX = 16f;
         float panelWidth = 240f;
@@ -916,37 +859,42 @@ public class Main extends ApplicationAdapter {
             spriteBatch.setColor(Color.WHITE);
         }
 
-        drawTextWithShadow("Score: " + score, panelX + 16f, panelY + panelHeight - 18f);
-        drawTextWithShadow("Lives: " + lives, panelX + 16f, panelY + panelHeight - 44f);
-        drawTextWithShadow("Level: " + currentLevel, panelX + 16f, panelY + panelHeight - 70f);
+        drawTextWithShadow("Score: " + world.getScore(), panelX + 16f, panelY + panelHeight - 18f);
+        drawTextWithShadow("Lives: " + world.getLives(), panelX + 16f, panelY + panelHeight - 44f);
+        drawTextWithShadow("Level: " + (currentLevel == TALL_LEVEL ? "Tall" : String.valueOf(currentLevel)),
+                panelX + 16f, panelY + panelHeight - 70f);
 
-        if (comboCount > 1) {
-            drawTextWithShadow("Combo x" + comboCount, panelX + 16f, panelY + 22f);
-        } else if (maxCombo > 1) {
-            drawTextWithShadow("Max Combo: " + maxCombo, panelX + 16f, panelY + 22f);
+        if (world.getComboCount() > 1) {
+            drawTextWithShadow("Combo x" + world.getComboCount(), panelX + 16f, panelY + 22f);
+        } else if (world.getMaxCombo() > 1) {
+            drawTextWithShadow("Max Combo: " + world.getMaxCombo(), panelX + 16f, panelY + 22f);
         }
 
-        drawTextWithShadow("Power-ups: 1-8 | Levels: F1-F6 | F7: Collision Mode | F9: Shadow Debug | F10: CRT HUD", 16f, 36f);
+        drawTextWithShadow("Power-ups: 1-8, 9: Balls x1000, 0: Ball-ball | Levels: F1-F6, F8: Tall | F7: Collision Mode | F9: Shadow Debug | F10: CRT HUD | F11: Profiler", 16f, 36f);
 
         if (shadowDebugMode != ShadowDebugMode.NORMAL) {
             drawTextWithShadow("Shadow Mode: " + shadowDebugMode.getLabel(), 16f, 18f);
         }
 
         // Show collision mode
-        drawTextWithShadow("Collision: " + collisionMode.getLabel(), GAME_WIDTH - 160f, 36f);
+        drawTextWithShadow("Collision: " + world.getCollisionMode().getLabel(), GAME_WIDTH - 160f, 36f);
+        if (world.isBallCollisions()) {
+            drawTextWithShadow("Ball-ball: ON", GAME_WIDTH - 160f, 58f);
+        }
     }
 
     private void renderGameStateMessages() {
-        if (gameOver) {
+        if (world.isGameOver()) {
             drawTextCenteredWithShadow("GAME OVER", GAME_WIDTH / 2f, GAME_HEIGHT / 2f + 28f);
-            drawTextCenteredWithShadow("Final Score: " + score, GAME_WIDTH / 2f, GAME_HEIGHT / 2f);
+            drawTextCenteredWithShadow("Final Score: " + world.getScore(), GAME_WIDTH / 2f, GAME_HEIGHT / 2f);
             drawTextCenteredWithShadow("Press SPACE to restart", GAME_WIDTH / 2f, GAME_HEIGHT / 2f - 32f);
-        } else if (gameWon) {
+        } else if (world.isGameWon()) {
             drawTextCenteredWithShadow("VICTORY!", GAME_WIDTH / 2f, GAME_HEIGHT / 2f + 28f);
-            drawTextCenteredWithShadow("Final Score: " + score, GAME_WIDTH / 2f, GAME_HEIGHT / 2f);
+            drawTextCenteredWithShadow("Final Score: " + world.getScore(), GAME_WIDTH / 2f, GAME_HEIGHT / 2f);
             drawTextCenteredWithShadow("Press SPACE to restart", GAME_WIDTH / 2f, GAME_HEIGHT / 2f - 32f);
-        } else if (!ballLaunched && !balls.isEmpty()) {
-            drawTextCenteredWithShadow("Press SPACE to launch ball", GAME_WIDTH / 2f, GAME_HEIGHT / 2f);
+        } else if (!world.isBallLaunched() && !world.getBalls().isEmpty()) {
+            drawTextCenteredWithShadow(jitWarmup.isDone() ? "Press SPACE to launch ball" : "Warming up...",
+                    GAME_WIDTH / 2f, GAME_HEIGHT / 2f);
         }
     }
 
@@ -973,6 +921,33 @@ public class Main extends ApplicationAdapter {
         screenShakeIntensity = Math.max(screenShakeIntensity, intensity);
     }
 
+    private final GameWorld.Listener worldListener = new GameWorld.Listener() {
+        @Override
+        public void onBallLaunched() {
+            sounds.request(startChannel);
+        }
+
+        @Override
+        public void onWallHit() {
+            sounds.request(wallHitChannel);
+        }
+
+        @Override
+        public void onPaddleHit() {
+            sounds.request(paddleHitChannel);
+        }
+
+        @Override
+        public void onBrickHit() {
+            sounds.request(brickHitChannel);
+        }
+
+        @Override
+        public void onScreenShake(float duration, float intensity) {
+            triggerScreenShake(duration, intensity);
+        }
+    };
+
     private void update(float deltaTime) {
         if (screenShakeTime > 0f) {
             screenShakeTime -= deltaTime;
@@ -983,15 +958,9 @@ public class Main extends ApplicationAdapter {
             }
         }
 
-        if (comboCount > 0) {
-            comboTimer -= deltaTime;
-            if (comboTimer <= 0f) {
-                comboCount = 0;
-                comboTimer = 0f;
-            }
-        }
-
-        if (gameOver || gameWon) {
+        if (world.isGameOver() || world.isGameWon()) {
+            input.clear();
+            world.update(deltaTime, input); // Only ticks the combo timer once the game is over
             // Check for restart
             if (Gdx.input.isKeyPressed(Input.Keys.SPACE) || Gdx.input.justTouched()) {
                 restartGame();
@@ -999,17 +968,6 @@ public class Main extends ApplicationAdapter {
             return;
         }
 
-
-        // Update paddle movement (mouse has priority over keyboard)
-        if (Gdx.input.isKeyPressed(Input.Keys.LEFT) || Gdx.input.isKeyPressed(Input.Keys.RIGHT)) {
-            paddle.update(deltaTime, GAME_WIDTH);
-        } else {
-            // Convert mouse coordinates to game world coordinates
-            com.badlogic.gdx.math.Vector3 mousePos = new com.badlogic.gdx.math.Vector3(Gdx.input.getX(), Gdx.input.getY(), 0);
-            camera.unproject(mousePos);
-            paddle.updateWithMouse(deltaTime, GAME_WIDTH, mousePos.x);
-        }
-
         // Check for level switch keys (F1-F6)
         if (Gdx.input.isKeyJustPressed(Input.Keys.F1)) {
             switchLevel(1);
@@ -1030,10 +988,14 @@ public class Main extends ApplicationAdapter {
             switchLevel(6);
         }
 
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F8)) {
+            switchLevel(TALL_LEVEL);
+        }
+
         // Toggle collision detection mode with F7
         if (Gdx.input.isKeyJustPressed(Input.Keys.F7)) {
-            collisionMode = collisionMode.next();
-            System.out.println("Collision mode: " + collisionMode.getLabel());
+            world.setCollisionMode(world.getCollisionMode().next());
+            System.out.println("Collision mode: " + world.getCollisionMode().getLabel());
         }
 
         if (Gdx.input.isKeyJustPressed(Input.Keys.F9)) {
@@ -1045,523 +1007,146 @@ public class Main extends ApplicationAdapter {
             crtOverlay.toggle();
         }
 
-        if (!paddle.isSticky() && !stickyBalls.isEmpty()) {
-            releaseStickyBalls();
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F11)) {
+            profilerOverlay.toggle();
+        }
+
+        if (Gdx.input.isKeyJustPressed(Input.Keys.F12)) {
+            dumpProfile();
+        }
+
+        input.clear();
+
+        // Paddle movement (keyboard has priority over the mouse)
+        boolean left = Gdx.input.isKeyPressed(Input.Keys.LEFT);
+        boolean right = Gdx.input.isKeyPressed(Input.Keys.RIGHT);
+        if (left || right) {
+            input.keyboardPaddle = true;
+            input.paddleDirection = (right ? 1 : 0) - (left ? 1 : 0);
+        } else {
+            // Convert mouse coordinates to game world coordinates
+            pointer.set(Gdx.input.getX(), Gdx.input.getY(), 0f);
+            camera.unproject(pointer);
+            input.pointerX = pointer.x;
         }
 
         // Check for cheat keys (testing power-ups)
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_1)) {
-            applyPowerUp(PowerUp.Type.MULTI_BALL);
+            input.powerUp = PowerUp.Type.MULTI_BALL;
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_2)) {
-            applyPowerUp(PowerUp.Type.LARGE_PADDLE);
+            input.powerUp = PowerUp.Type.LARGE_PADDLE;
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_3)) {
-            applyPowerUp(PowerUp.Type.SMALL_PADDLE);
+            input.powerUp = PowerUp.Type.SMALL_PADDLE;
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_4)) {
-            applyPowerUp(PowerUp.Type.EXTRA_LIFE);
+            input.powerUp = PowerUp.Type.EXTRA_LIFE;
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_5)) {
-            applyPowerUp(PowerUp.Type.SPEED_UP);
+            input.powerUp = PowerUp.Type.SPEED_UP;
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_6)) {
-            applyPowerUp(PowerUp.Type.SPEED_DOWN);
+            input.powerUp = PowerUp.Type.SPEED_DOWN;
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_7)) {
-            applyPowerUp(PowerUp.Type.LASER);
+            input.powerUp = PowerUp.Type.LASER;
         }
         if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_8)) {
-            applyPowerUp(PowerUp.Type.STICKY_PADDLE);
+            input.powerUp = PowerUp.Type.STICKY_PADDLE;
         }
-
-        // Update laser cooldown
-        if (laserCooldown > 0) {
-            laserCooldown -= deltaTime;
+        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_0)) {
+            world.setBallCollisions(!world.isBallCollisions());
+            System.out.println("Ball-ball collisions: " + (world.isBallCollisions() ? "ON" : "OFF"));
         }
-
-        float comboIntensity = comboCount > 0 ? MathUtils.clamp(comboCount / 6f, 0f, 2f) : 0f;
-
-        // Handle SPACE key or mouse click based on paddle mode
-        if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || Gdx.input.justTouched()) {
-            if (paddle.isLaser() && laserCooldown <= 0) {
-                // Shoot twin lasers from paddle (like original Arkanoid)
-                float laserY = paddle.getY() + paddle.getHeight();
-                // Left laser
-                lasers.add(new Laser(paddle.getX() + paddle.getWidth() * 0.25f, laserY));
-                // Right laser
-                lasers.add(new Laser(paddle.getX() + paddle.getWidth() * 0.75f, laserY));
-                laserCooldown = 0.3f; // 300ms cooldown
-            } else if (paddle.isSticky() && !stickyBalls.isEmpty()) {
-                releaseStickyBalls();
-            }
+        if (Gdx.input.isKeyJustPressed(Input.Keys.NUM_9)) {
+            // Stress test: massive multi-ball mode
+            world.spawnBallBurst(BALL_BURST_SIZE);
+            System.out.println("Ball burst: " + world.getBalls().size() + " balls");
         }
 
-        // Check for ball launch
-        if (!ballLaunched && !balls.isEmpty()) {
-            // Only follow paddle with the first ball if not launched
-            Ball firstBall = balls.get(0);
-            firstBall.followPaddle(paddle);
-            firstBall.updateTrail(deltaTime);
-            firstBall.updateTrailStyle(comboIntensity);
-            if (Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || Gdx.input.justTouched()) {
-                firstBall.launch();
-                if (startSound != null) {
-                    startSound.play();
-                }
-                ballLaunched = true;
-            }
-            return; // Don't update ball physics until launched
+        // SPACE or mouse click: launch, fire lasers or release sticky balls
+        input.action = Gdx.input.isKeyJustPressed(Input.Keys.SPACE) || Gdx.input.justTouched();
+        if (!jitWarmup.isDone()) {
+            input.action = false;
         }
 
-        // Update all balls movement with collision detection
-        for (int i = balls.size() - 1; i >= 0; i--) {
-            Ball ball = balls.get(i);
-
-            if (stickyBalls.contains(ball)) {
-                ball.followPaddle(paddle);
-                ball.updateTrail(deltaTime);
-                ball.updateTrailStyle(comboIntensity);
-            } else {
-                updateBallWithCollisions(ball, deltaTime);
-
-                if (ball.isOutOfBounds(GAME_HEIGHT)) {
-                    stickyBalls.remove(ball);
-                    balls.remove(i);
-                    continue;
-                }
-
-                ball.updateTrail(deltaTime);
-                ball.updateTrailStyle(comboIntensity);
-            }
-        }
+        world.update(deltaTime, input);
+    }
 
-        // Check if all balls are lost (lost life)
-        if (balls.isEmpty()) {
-            comboCount = 0;
-            comboTimer = 0f;
-            lives--;
-            if (lives <= 0) {
-                gameOver = true;
-            } else {
-                // Reset with new ball on paddle
-                Ball newBall = new Ball(paddle.getX() + paddle.getWidth() / 2f,
-                                      paddle.getY() + paddle.getHeight() + 8f, 8f);
-                newBall.setTrailColor(Color.CYAN);
-                balls.add(newBall);
-                ballLaunched = false;
-            }
+    /**
+     * Vertical camera follow for tall levels: keeps the lowest ball (the one the paddle
+     * has to catch) in the lower part of the screen. Normal levels never scroll.
+     */
+    private void updateScroll(float deltaTime) {
+        float maxScroll = Math.max(0f, world.getHeight() - GAME_HEIGHT);
+        if (maxScroll <= 0f) {
+            scrollY = 0f;
             return;
         }
-
-        // Update power-ups
-        for (int i = powerUps.size() - 1; i >= 0; i--) {
-            PowerUp powerUp = powerUps.get(i);
-            powerUp.update(deltaTime);
-
-            // Check collision with paddle
-            if (powerUp.checkCollisionWithPaddle(paddle)) {
-                applyPowerUp(powerUp.getType());
-                powerUps.remove(i);
-                continue;
-            }
-
-            // Remove power-ups that are out of bounds
-            if (powerUp.isOutOfBounds(GAME_HEIGHT)) {
-                powerUps.remove(i);
+        float lowestY = world.getPaddle().getY();
+        if (world.isBallLaunched() && !world.getBalls().isEmpty()) {
+            lowestY = Float.MAX_VALUE;
+            for (Ball ball : world.getBalls()) {
+                lowestY = Math.min(lowestY, ball.getY());
             }
         }
+        float target = MathUtils.clamp(lowestY - GAME_HEIGHT * 0.3f, 0f, maxScroll);
+        scrollY += (target - scrollY) * Math.min(1f, deltaTime * CAMERA_FOLLOW_SPEED);
+    }
 
-        // Update particles
-        for (int i = particles.size() - 1; i >= 0; i--) {
-            Particle particle = particles.get(i);
-            particle.update(deltaTime);
-            if (particle.isDead()) {
-                particles.remove(i);
-            }
-        }
-
-        // Update lasers
-        for (int i = lasers.size() - 1; i >= 0; i--) {
-            Laser laser = lasers.get(i);
-            laser.update(deltaTime);
-
-            // Remove lasers that are out of bounds
-            if (laser.isOutOfBounds(GAME_HEIGHT)) {
-                lasers.remove(i);
-                continue;
-            }
-
-            // Check collision with bricks
-            boolean hit = false;
-            for (Brick brick : bricks) {
-                if (laser.checkCollisionWithBrick(brick)) {
-                    if (brickHitSound != null) {
-                        brickHitSound.play();
-                    }
-
-                    boolean destroyed = brick.hit();
-                    if (destroyed) {
-                        score += brick.getScore();
-                        comboCount++;
-                        comboTimer = 1.5f;
-                        if (comboCount > maxCombo) {
-                            maxCombo = comboCount;
-                        }
-                        triggerScreenShake(brick.isBomb() ? 0.45f : 0.15f, brick.isBomb() ? 14f : 5f);
-
-                        createDestructionParticles(brick.getX() + brick.getWidth() / 2f,
-                                                      brick.getY() + brick.getHeight() / 2f,
-                                                      brick.getOriginalColor());
-
-                        if (brick.isBomb()) {
-                            explodeBrick(brick.getX() + brick.getWidth() / 2f,
-                                       brick.getY() + brick.getHeight() / 2f);
-                        }
-
-                        if (Math.random() < 0.3) {
-                            dropPowerUp(brick.getX() + brick.getWidth() / 2f, brick.getY());
-                        }
-                    }
-
-                    hit = true;
-                    break;
-                }
-            }
-            if (hit) {
-                lasers.remove(i);
-            }
+    /**
+     * Writes the since-start phase histograms next to the game (desktop) to attribute
+     * spikes, and starts measuring the render counters of the next frames for
+     * {@link #dumpRenderStats}.
+     */
+    private void dumpProfile() {
+        if (!Gdx.files.isLocalStorageAvailable()) {
+            Gdx.app.error("Profiler", "No local storage to dump the frame profile");
+            return;
         }
+        long time = TimeUtils.millis();
+        FileHandle file = Gdx.files.local(PROFILE_DIR + "frame-profile-" + time + ".csv");
+        try {
+            profiler.dump(file);
+            System.out.println("Frame profile: " + file.file().getAbsolutePath()
+                    + ", render stats over the next " + RENDER_STATS_CAPTURE_FRAMES + " frames");
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("Profiler", "Failed to dump the frame profile to " + file.path(), e);
+        }
+        renderStats.reset();
+        renderStatsFile = Gdx.files.local(PROFILE_DIR + "render-stats-" + time + ".csv");
+        renderStatsCapture = RENDER_STATS_CAPTURE_FRAMES;
+    }
 
-        // Check win condition (all destructible bricks destroyed)
-        boolean allDestroyed = true;
-        for (Brick brick : bricks) {
-            // Only count destructible bricks for win condition
-            if (!brick.isIndestructible() && !brick.isDestroyed()) {
-                allDestroyed = false;
-                break;
-            }
-        }
-        if (allDestroyed) {
-            gameWon = true;
+    private void dumpRenderStats() {
+        try {
+            renderStats.dump(renderStatsFile);
+            System.out.println("Render stats: " + renderStatsFile.file().getAbsolutePath());
+        } catch (GdxRuntimeException e) {
+            Gdx.app.error("Profiler", "Failed to dump the render stats to " + renderStatsFile.path(), e);
         }
+        renderStatsFile = null;
     }
 
     private void restartGame() {
-        // Reset game state
-        score = 0;
-        comboCount = 0;
-        comboTimer = 0f;
-        maxCombo = 0;
         screenShakeTime = 0f;
         screenShakeDuration = 0f;
         screenShakeIntensity = 0f;
-        lives = 3;
-        gameOver = false;
-        gameWon = false;
-        ballLaunched = false;
-
-        // Reset balls - start with one ball on paddle
-        balls.clear();
-        Ball newBall = new Ball(paddle.getX() + paddle.getWidth() / 2f,
-                               paddle.getY() + paddle.getHeight() + 8f, 8f);
-        newBall.setTrailColor(Color.CYAN);
-        balls.add(newBall);
-
-        // Clear power-ups, particles and lasers
-        powerUps.clear();
-        particles.clear();
-        lasers.clear();
-        laserCooldown = 0f;
-        stickyBalls = new ArrayList<>();
-
-        // Reset paddle to normal mode
-        paddle.setMode(Paddle.Mode.NORMAL);
 
         // Recreate bricks for current level
-        loadLevel(currentLevel);
+        hitchRecorder.beginLevelLoad();
+        world.restart(loadLevel(currentLevel));
+        hitchRecorder.endLevelLoad(currentLevel, world.getBricks().size());
+        scrollY = 0f;
     }
 
     private void switchLevel(int newLevel) {
         currentLevel = newLevel;
-
-        // Clear all game objects
-        balls.clear();
-        powerUps.clear();
-        particles.clear();
-        lasers.clear();
-        stickyBalls.clear();
-
-        // Reset paddle
-        paddle.setX(GAME_WIDTH / 2f - 50f);
-        paddle.setWidth(100f);
-        paddle.setMode(Paddle.Mode.NORMAL);
-
-        // Create new ball on paddle
-        Ball newBall = new Ball(paddle.getX() + paddle.getWidth() / 2f,
-                               paddle.getY() + paddle.getHeight() + 8f, 8f);
-        newBall.setTrailColor(Color.CYAN);
-        balls.add(newBall);
-
-        ballLaunched = false;
-        laserCooldown = 0f;
-
-        // Load new level
-        loadLevel(currentLevel);
-    }
-
-    private void updateBallWithCollisions(Ball ball, float deltaTime) {
-        // Continuous collision detection - subdivide movement into small steps
-        float stepSize = ball.getRadius(); // Move at most one radius per step
-        float distance = ball.getVelocity().len() * deltaTime;
-        int steps = Math.max(1, (int) Math.ceil(distance / stepSize));
-
-        float stepX = (ball.getVelocity().x * deltaTime) / steps;
-        float stepY = (ball.getVelocity().y * deltaTime) / steps;
-
-        for (int i = 0; i < steps; i++) {
-            // Store previous position for swept collision
-            float prevX = ball.getX();
-            float prevY = ball.getY();
-
-            // Move ball one step
-            ball.setPosition(ball.getX() + stepX, ball.getY() + stepY);
-
-            // Check collision with walls
-            if (ball.getX() - ball.getRadius() <= 0 || ball.getX() + ball.getRadius() >= GAME_WIDTH) {
-                ball.reverseX();
-                // Keep ball in bounds
-                if (ball.getX() - ball.getRadius() < 0) ball.setPosition(ball.getRadius(), ball.getY());
-                if (ball.getX() + ball.getRadius() > GAME_WIDTH) ball.setPosition(GAME_WIDTH - ball.getRadius(), ball.getY());
-                if (wallHitSound != null) {
-                    wallHitSound.play();
-                }
-                break; // Stop movement for this frame after collision
-            }
-
-            if (ball.getY() + ball.getRadius() >= GAME_HEIGHT) {
-                ball.reverseY();
-                ball.setPosition(ball.getX(), GAME_HEIGHT - ball.getRadius());
-                if (wallHitSound != null) {
-                    wallHitSound.play();
-                }
-                break; // Stop movement for this frame after collision
-            }
-
-            // Check collision with paddle
-            if (ball.checkCollisionWithPaddle(paddle, paddle.isSticky())) {
-                if (paddleHitSound != null) {
-                    paddleHitSound.play();
-                }
-                if (paddle.isSticky() && ball.getVelocity().len() == 0) {
-                    // Calculate and store offset from paddle center for following movement
-                    float offsetX = ball.getX() - (paddle.getX() + paddle.getWidth() / 2f);
-                    ball.setStickyOffset(offsetX);
-                    stickyBalls.add(ball); // Ball is now stuck to paddle at its current position
-                }
-                break; // Stop movement for this frame after collision
-            }
-
-            // Check collision with bricks
-            boolean brickHit = false;
-            for (Brick brick : bricks) {
-                int hitsBefore = brick.getHits();
-                boolean wasDestroyed = brick.isDestroyed();
-
-                // Choose collision method based on selected collision mode
-                int points;
-                switch (collisionMode) {
-                    case DISCRETE:
-                        points = ball.checkCollisionWithBrick(brick);
-                        break;
-                    case CONTINUOUS:
-                        points = ball.checkCollisionWithBrickSwept(brick, prevX, prevY);
-                        break;
-                    case ROBUST:
-                        points = ball.checkCollisionWithBrickRobust(brick, prevX, prevY);
-                        break;
-                    default:
-                        points = ball.checkCollisionWithBrick(brick);
-                        break;
-                }
-
-                int hitsAfter = brick.getHits();
-                boolean isDestroyed = brick.isDestroyed();
-                boolean collided = hitsAfter != hitsBefore || wasDestroyed != isDestroyed;
-
-                if (collided) {
-                    if (brickHitSound != null) {
-                        brickHitSound.play();
-                    }
-
-                    if (points > 0) {
-                    score += points;
-                    comboCount++;
-                    comboTimer = 1.5f;
-                    if (comboCount > maxCombo) {
-                        maxCombo = comboCount;
-                    }
-
-                        // Check if brick was destroyed
-                        if (brick.isDestroyed()) {
-                            triggerScreenShake(brick.isBomb() ? 0.5f : 0.2f, brick.isBomb() ? 18f : 6f);
-                            // Create destruction particles
-                            createDestructionParticles(brick.getX() + brick.getWidth() / 2f,
-                                                      brick.getY() + brick.getHeight() / 2f,
-                                                      brick.getOriginalColor());
-
-                            // Check if it was a bomb brick
-                            if (brick.isBomb()) {
-                                explodeBrick(brick.getX() + brick.getWidth() / 2f,
-                                           brick.getY() + brick.getHeight() / 2f);
-                            }
-
-                            // Maybe drop power-up
-                            if (Math.random() < 0.3) { // 30% chance
-                                dropPowerUp(brick.getX() + brick.getWidth() / 2f, brick.getY());
-                            }
-                        }
-                    }
-
-                    brickHit = true;
-                    break; // Only one collision per step
-                }
-            }
-            if (brickHit) {
-                break; // Stop movement for this frame after collision
-            }
-        }
-    }
-
-    private void dropPowerUp(float x, float y) {
-        // Random power-up type
-        PowerUp.Type[] types = PowerUp.Type.values();
-        PowerUp.Type randomType = types[(int) (Math.random() * types.length)];
-        powerUps.add(new PowerUp(x - 10f, y, randomType)); // Center the power-up
-    }
-
-    private void applyPowerUp(PowerUp.Type type) {
-        switch (type) {
-            case MULTI_BALL:
-                // Create 2 additional balls from the first existing ball
-                if (!balls.isEmpty()) {
-                    Ball firstBall = balls.get(0);
-                    float speed = firstBall.getVelocity().len();
-                    if (speed == 0) speed = 300f; // Default speed if ball is stationary
-
-                    // Create balls with upward angles (45-135 degrees = upward directions)
-                    float[] angles = {60f, 120f}; // Left-up and right-up
-
-                    Color[] colors = {Color.YELLOW, Color.MAGENTA}; // Different colors for variety
-                    for (int i = 0; i < 2; i++) {
-                        Ball newBall = new Ball(firstBall.getX(), firstBall.getY(), firstBall.getRadius());
-                        newBall.setTrailColor(colors[i]);
-                        float angle = angles[i] + (float)(Math.random() * 20 - 10); // Add some randomness ±10°
-
-                        newBall.setVelocity(
-                            (float) (speed * Math.cos(Math.toRadians(angle))),
-                            (float) (speed * Math.sin(Math.toRadians(angle)))
-                        );
-                        balls.add(newBall);
-                    }
-                }
-                break;
-
-            case LARGE_PADDLE:
-                // Increase paddle width by 50%
-                float oldWidth = paddle.getWidth();
-                float newWidth = oldWidth * 1.5f;
-                float newX = paddle.getX() - (newWidth - oldWidth) / 2f;
-                // Keep paddle within bounds
-                if (newX < 0) newX = 0;
-                if (newX + newWidth > GAME_WIDTH) newX = GAME_WIDTH - newWidth;
-                paddle.setX(newX);
-                paddle.setWidth(newWidth);
-                break;
-
-            case SMALL_PADDLE:
-                // Decrease paddle width by 30%
-                float oldWidthSmall = paddle.getWidth();
-                float newWidthSmall = oldWidthSmall * 0.7f;
-                float newXSmall = paddle.getX() + (oldWidthSmall - newWidthSmall) / 2f;
-                // Ensure minimum width
-                if (newWidthSmall < 40f) newWidthSmall = 40f;
-                paddle.setX(newXSmall);
-                paddle.setWidth(newWidthSmall);
-                break;
-
-            case LASER:
-                paddle.setMode(Paddle.Mode.LASER, 30f); // 30 seconds duration
-                break;
-
-            case STICKY_PADDLE:
-                paddle.setMode(Paddle.Mode.STICKY, 30f); // 30 seconds duration
-                break;
-
-            case EXTRA_LIFE:
-                lives++;
-                break;
-
-            case SPEED_UP:
-                // Increase ball speed by 20%
-                for (Ball ball : balls) {
-                    ball.setVelocity(ball.getVelocity().x * 1.2f, ball.getVelocity().y * 1.2f);
-                }
-                break;
-
-            case SPEED_DOWN:
-                // Decrease ball speed by 20%
-                for (Ball ball : balls) {
-                    ball.setVelocity(ball.getVelocity().x * 0.8f, ball.getVelocity().y * 0.8f);
-                }
-                break;
-        }
-    }
-
-    private void createDestructionParticles(float x, float y, Color brickColor) {
-        // Create 8-12 particles with the brick's color
-        int particleCount = 8 + (int)(Math.random() * 5);
-        for (int i = 0; i < particleCount; i++) {
-            particles.add(new Particle(x, y, brickColor));
-        }
-    }
-
-    private void explodeBrick(float bombX, float bombY) {
-        float explosionRadius = 80f; // Explosion radius
-
-        triggerScreenShake(0.45f, 14f);
-
-        // Create extra explosion particles
-        for (int i = 0; i < 20; i++) {
-            particles.add(new Particle(bombX, bombY, Color.ORANGE));
-        }
-
-        // Destroy nearby bricks (except indestructible ones)
-        for (Brick brick : bricks) {
-            if (!brick.isDestroyed() && !brick.isIndestructible()) {
-                float brickCenterX = brick.getX() + brick.getWidth() / 2f;
-                float brickCenterY = brick.getY() + brick.getHeight() / 2f;
-
-                // Calculate distance from explosion center
-                float distance = (float) Math.sqrt(
-                    Math.pow(brickCenterX - bombX, 2) + Math.pow(brickCenterY - bombY, 2)
-                );
-
-                if (distance <= explosionRadius) {
-                    // Destroy the brick and add score
-                    score += brick.getScore();
-                    brick.destroy();
-
-                    // Create particles for destroyed brick
-                    createDestructionParticles(brickCenterX, brickCenterY, brick.getOriginalColor());
-
-                    // Chain reaction: if destroyed brick is also a bomb, explode it too
-                    if (brick.isBomb()) {
-                        explodeBrick(brickCenterX, brickCenterY);
-                    }
-                }
-            }
-        }
+        hitchRecorder.beginLevelLoad();
+        world.switchLevel(loadLevel(currentLevel));
+        hitchRecorder.endLevelLoad(currentLevel, world.getBricks().size());
+        scrollY = 0f;
     }
 
     @Override
@@ -1598,20 +1183,17 @@ public class Main extends ApplicationAdapter {
         if (pixelTexture != null) {
             pixelTexture.dispose();
         }
-        if (startSound != null) {
-            startSound.dispose();
-        }
-        if (paddleHitSound != null) {
-            paddleHitSound.dispose();
-        }
-        if (brickHitSound != null) {
-            brickHitSound.dispose();
-        }
-        if (wallHitSound != null) {
-            wallHitSound.dispose();
-        }
+        // Disposes the sounds
+        assetManager.dispose();
         if (crtOverlay != null) {
             crtOverlay.dispose();
         }
+        if (profilerOverlay != null) {
+            profilerOverlay.dispose();
+        }
+        renderStats.dispose();
+        levelPreparer.dispose();
+        jitWarmup.dispose();
+        world.dispose();
     }
 }
@@ -18,6 +18,7 @@ public class Paddle {
     public static final Color COLOR_LASER = Color.RED;
 
     private Rectangle bounds;
+    private float previousX; // X at the start of the frame, for the swept ball test
     private float speed;
     private Mode mode;
     private float modeTimer; // Timer for automatic mode reset
@@ -25,13 +26,16 @@ public class Paddle {
 
     public Paddle(float x, float y, float width, float height) {
         this.bounds = new Rectangle(x, y, width, height);
+        this.previousX = x;
         this.speed = 300f; // pixels per second
         this.mode = Mode.NORMAL;
         this.modeTimer = 0f;
         this.initialModeTimer = 0f;
     }
 
-    public void update(float deltaTime, float gameWidth) {
+    public void update(float deltaTime, float gameWidth, int direction) {
+        previousX = bounds.x;
+
         // Update mode timer
         if (mode != Mode.NORMAL && modeTimer > 0) {
             modeTimer -= deltaTime;
@@ -40,13 +44,8 @@ public class Paddle {
             }
         }
 
-        // Movement with arrow keys
-        if (com.badlogic.gdx.Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.LEFT)) {
-            bounds.x -= speed * deltaTime;
-        }
-        if (com.badlogic.gdx.Gdx.input.isKeyPressed(com.badlogic.gdx.Input.Keys.RIGHT)) {
-            bounds.x += speed * deltaTime;
-        }
+        // Movement with arrow keys (-1 left, +1 right)
+        bounds.x += direction * speed * deltaTime;
 
         // Keep paddle within screen bounds
         if (bounds.x < 0) bounds.x = 0;
@@ -54,6 +53,8 @@ public class Paddle {
     }
 
     public void updateWithMouse(float deltaTime, float gameWidth, float mouseX) {
+        previousX = bounds.x;
+
         // Update mode timer
         if (mode != Mode.NORMAL && modeTimer > 0) {
             modeTimer -= deltaTime;
@@ -130,14 +131,21 @@ public class Paddle {
         return bounds;
     }
 
+    /** Moves the paddle without sweeping (resets, resizes): balls see it already there. */
     public void setX(float x) {
         bounds.x = x;
+        previousX = x;
     }
 
     public float getX() {
         return bounds.x;
     }
 
+    /** X before this frame's move; see {@link Ball#sweepCollisionWithPaddle}. */
+    public float getPreviousX() {
+        return previousX;
+    }
+
     public float getY() {
         return bounds.y;
     }
@@ -0,0 +1,25 @@
+package io.github.warnotte.warkanoid;
+
+/**
+ * Splits an index range across worker threads. Core code only sees this interface so it
+ * stays GWT-compatible; desktop launchers plug in {@link ForkJoinParallelFor}.
+ * <p>
+ * Tasks must only write to state owned by their own indices.
+ */
+public interface ParallelFor {
+    interface Task {
+        void run(int from, int to);
+    }
+
+    /** Runs {@code task} over {@code [0, count)} and returns once every index is done. */
+    void run(int count, Task task);
+
+    ParallelFor SERIAL = new ParallelFor() {
+        @Override
+        public void run(int count, Task task) {
+            if (count > 0) {
+                task.run(0, count);
+            }
+        }
+    };
+}
@@ -0,0 +1,197 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.graphics.profiling.GLProfiler;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Render-side counters per frame and per {@link RenderPass}: draw calls, vertices,
+ * texture binds and shader switches from libGDX's {@link GLProfiler}, plus what it does
+ * not see: frame buffer binds and {@code ShapeRenderer} begin/end cycles (reported by
+ * {@code Main}) and the flushes of the watched {@link SpriteBatch}es. A pass is measured
+ * as the difference of the counters around it.
+ * <p>
+ * The profiler wraps {@code Gdx.gl} while enabled, one extra call per GL call, so it is
+ * off until {@link #setEnabled}; frames drawn while off are not counted.
+ * Aggregates (mean and max per frame) run from {@link #reset()} to {@link #dump}.
+ */
+public class RenderStats {
+    public static final int DRAW_CALLS = 0;
+    public static final int VERTICES = 1;
+    public static final int TEXTURE_BINDS = 2;
+    public static final int SHADER_SWITCHES = 3;
+    public static final int FRAME_BUFFER_BINDS = 4;
+    public static final int SHAPE_CYCLES = 5;
+    public static final int BATCH_FLUSHES = 6;
+    public static final int COUNTERS = 7;
+    private static final String[] NAMES = {
+        "draw_calls", "vertices", "texture_binds", "shader_switches", "fbo_binds", "shape_cycles", "batch_flushes"
+    };
+
+    /** Scope of the whole frame; pass {@code p} is scope {@code 1 + p.ordinal()}. */
+    public static final int FRAME = 0;
+    private static final RenderPass[] PASSES = RenderPass.values();
+    public static final int SCOPES = 1 + PASSES.length;
+
+    private final GLProfiler gl;
+    private final Array<SpriteBatch> batches = new Array<>();
+    private int frameBufferBinds;
+    private int shapeCycles;
+    private final long[] current = new long[COUNTERS];
+    private final long[][] passStarts = new long[PASSES.length][COUNTERS];
+    /** Counters of the frame being drawn, then of the last complete one. */
+    private final long[][] frame = new long[SCOPES][COUNTERS];
+    private final long[][] last = new long[SCOPES][COUNTERS];
+    private final long[][] sums = new long[SCOPES][COUNTERS];
+    private final long[][] maxima = new long[SCOPES][COUNTERS];
+    private long frames;
+    private boolean enabled;
+
+    public RenderStats(Graphics graphics) {
+        gl = new GLProfiler(graphics);
+    }
+
+    /** Starts or stops counting; call between frames. */
+    public void setEnabled(boolean enabled) {
+        if (enabled == this.enabled) {
+            return;
+        }
+        this.enabled = enabled;
+        if (enabled) {
+            gl.enable();
+        } else {
+            gl.disable();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Counts the flushes of this batch (its {@code totalRenderCalls} is reset every frame). */
+    public void watch(SpriteBatch batch) {
+        batches.add(batch);
+    }
+
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        gl.reset();
+        frameBufferBinds = 0;
+        shapeCycles = 0;
+        for (int i = 0; i < batches.size; i++) {
+            batches.get(i).totalRenderCalls = 0;
+        }
+        for (int s = 0; s < SCOPES; s++) {
+            clear(frame[s]);
+        }
+    }
+
+    public void beginPass(RenderPass pass) {
+        if (!enabled) {
+            return;
+        }
+        read(passStarts[pass.ordinal()]);
+    }
+
+    public void endPass(RenderPass pass) {
+        if (!enabled) {
+            return;
+        }
+        read(current);
+        long[] start = passStarts[pass.ordinal()];
+        long[] scope = frame[1 + pass.ordinal()];
+        for (int c = 0; c < COUNTERS; c++) {
+            scope[c] += current[c] - start[c];
+        }
+    }
+
+    public void endFrame() {
+        if (!enabled) {
+            return;
+        }
+        read(frame[FRAME]);
+        frames++;
+        for (int s = 0; s < SCOPES; s++) {
+            System.arraycopy(frame[s], 0, last[s], 0, COUNTERS);
+            for (int c = 0; c < COUNTERS; c++) {
+                sums[s][c] += frame[s][c];
+                maxima[s][c] = Math.max(maxima[s][c], frame[s][c]);
+            }
+        }
+    }
+
+    public void frameBufferBound() {
+        frameBufferBinds++;
+    }
+
+    public void shapesBegun() {
+        shapeCycles++;
+    }
+
+    /** Counter of the last complete frame for {@link #FRAME} or a pass scope. */
+    public long getLast(int scope, int counter) {
+        return last[scope][counter];
+    }
+
+    public static int scopeOf(RenderPass pass) {
+        return 1 + pass.ordinal();
+    }
+
+    public static String getScopeName(int scope) {
+        return scope == FRAME ? "frame" : PASSES[scope - 1].name();
+    }
+
+    public void reset() {
+        frames = 0L;
+        for (int s = 0; s < SCOPES; s++) {
+            clear(sums[s]);
+            clear(maxima[s]);
+        }
+    }
+
+    /** Writes one CSV line per scope: frames, then the mean and max per frame of every counter. */
+    public void dump(FileHandle file) {
+        StringBuilder out = new StringBuilder();
+        out.append("scope,frames");
+        for (int c = 0; c < COUNTERS; c++) {
+            out.append(',').append(NAMES[c]).append("_mean,").append(NAMES[c]).append("_max");
+        }
+        out.append('\n');
+        for (int s = 0; s < SCOPES; s++) {
+            out.append(getScopeName(s)).append(',').append(frames);
+            for (int c = 0; c < COUNTERS; c++) {
+                out.append(',').append(frames == 0L ? 0L : sums[s][c] / frames).append(',').append(maxima[s][c]);
+            }
+            out.append('\n');
+        }
+        file.writeString(out.toString(), false, "UTF-8");
+    }
+
+    public void dispose() {
+        setEnabled(false);
+    }
+
+    private void read(long[] into) {
+        into[DRAW_CALLS] = gl.getDrawCalls();
+        into[VERTICES] = (long) gl.getVertexCount().total;
+        into[TEXTURE_BINDS] = gl.getTextureBindings();
+        into[SHADER_SWITCHES] = gl.getShaderSwitches();
+        into[FRAME_BUFFER_BINDS] = frameBufferBinds;
+        into[SHAPE_CYCLES] = shapeCycles;
+        long flushes = 0L;
+        for (int i = 0; i < batches.size; i++) {
+            flushes += batches.get(i).totalRenderCalls;
+        }
+        into[BATCH_FLUSHES] = flushes;
+    }
+
+    private static void clear(long[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 0L;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.utils.Array;
+
+/**
+ * Voice-limited sound playback. Game events only {@link #request} a channel (a counter,
+ * callable from the tick); {@link #update} then plays the queued requests once per frame,
+ * after the tick, so a bomb chain or a multi-ball storm costs a handful of
+ * {@code Sound.play} calls instead of dozens:
+ * <ul>
+ * <li>requests of one channel within {@link #COALESCE_SECONDS} of its last playback
+ * are merged into it;</li>
+ * <li>each channel has its own voice cap, past which its oldest voice is cut;</li>
+ * <li>the total is capped under the backend's source count; when full, a request takes
+ * the oldest voice of the least important channel below its own priority, or is dropped.</li>
+ * </ul>
+ * {@code Sound} has no end-of-playback callback, so a voice counts as playing for the
+ * duration given to its channel. Render thread only.
+ */
+public class SoundManager {
+    /** Requests of a channel closer than this to its last playback are merged into it. */
+    public static final float COALESCE_SECONDS = 0.05f;
+
+    private static final class Channel {
+        Sound sound;
+        final int priority;
+        final int maxVoices;
+        final float voiceSeconds;
+        int pending;
+        float lastPlay = -Float.MAX_VALUE;
+
+        Channel(int priority, int maxVoices, float voiceSeconds) {
+            this.priority = priority;
+            this.maxVoices = maxVoices;
+            this.voiceSeconds = voiceSeconds;
+        }
+    }
+
+    private final Array<Channel> channels = new Array<>();
+    // One slot per voice: owning channel (-1 when free), backend sound id, start and end time
+    private final int[] voiceChannels;
+    private final long[] voiceIds;
+    private final float[] voiceStarts;
+    private final float[] voiceEnds;
+    private float time;
+    private int played;
+    private int coalesced;
+    private int dropped;
+    private int stolen;
+
+    /** @param maxVoices voices playing at once over all channels (keep it under the backend's sources) */
+    public SoundManager(int maxVoices) {
+        voiceChannels = new int[maxVoices];
+        voiceIds = new long[maxVoices];
+        voiceStarts = new float[maxVoices];
+        voiceEnds = new float[maxVoices];
+        for (int v = 0; v < maxVoices; v++) {
+            voiceChannels[v] = -1;
+        }
+    }
+
+    /**
+     * Adds a channel (its sound can be set later, once loaded); returns its id.
+     *
+     * @param priority higher channels take voices from lower ones when all are busy
+     * @param maxVoices voices of this channel playing at once
+     * @param voiceSeconds how long a voice is considered playing (about the sound's length)
+     */
+    public int addChannel(int priority, int maxVoices, float voiceSeconds) {
+        channels.add(new Channel(priority, maxVoices, voiceSeconds));
+        return channels.size - 1;
+    }
+
+    public void setSound(int channel, Sound sound) {
+        channels.get(channel).sound = sound;
+    }
+
+    /** Queues one playback of the channel for the next {@link #update}; no-op until its sound is set. */
+    public void request(int channel) {
+        channels.get(channel).pending++;
+    }
+
+    /** Frees the voices that ended and plays the queued requests, most important channel first. */
+    public void update(float deltaTime) {
+        time += deltaTime;
+        for (int v = 0; v < voiceChannels.length; v++) {
+            if (voiceChannels[v] >= 0 && time >= voiceEnds[v]) {
+                voiceChannels[v] = -1;
+            }
+        }
+        while (true) {
+            int next = -1;
+            for (int c = 0; c < channels.size; c++) {
+                if (channels.get(c).pending > 0 && (next < 0 || channels.get(c).priority > channels.get(next).priority)) {
+                    next = c;
+                }
+            }
+            if (next < 0) {
+                return;
+            }
+            play(next);
+        }
+    }
+
+    private void play(int c) {
+        Channel channel = channels.get(c);
+        int requests = channel.pending;
+        channel.pending = 0;
+        if (channel.sound == null) {
+            return;
+        }
+        if (time - channel.lastPlay < COALESCE_SECONDS) {
+            coalesced += requests;
+            return;
+        }
+        coalesced += requests - 1;
+
+        int voice = findVoice(c);
+        if (voice < 0) {
+            dropped++;
+            return;
+        }
+        // Start first: if the backend has no source left the victim keeps playing
+        long id = channel.sound.play();
+        if (id == -1L) {
+            // The backend ran out of sources anyway (other sounds, music)
+            dropped++;
+            return;
+        }
+        if (voiceChannels[voice] >= 0) {
+            channels.get(voiceChannels[voice]).sound.stop(voiceIds[voice]);
+            stolen++;
+        }
+        voiceChannels[voice] = c;
+        voiceIds[voice] = id;
+        voiceStarts[voice] = time;
+        voiceEnds[voice] = time + channel.voiceSeconds;
+        channel.lastPlay = time;
+        played++;
+    }
+
+    /**
+     * Slot for a new voice of channel {@code c}: its own oldest voice once at its cap, else a
+     * free slot, else the oldest voice of the lowest channel below it; -1 to drop the request.
+     */
+    private int findVoice(int c) {
+        int own = 0;
+        int ownOldest = -1;
+        int free = -1;
+        int victim = -1;
+        for (int v = 0; v < voiceChannels.length; v++) {
+            int owner = voiceChannels[v];
+            if (owner < 0) {
+                free = free < 0 ? v : free;
+            } else if (owner == c) {
+                own++;
+                if (ownOldest < 0 || voiceStarts[v] < voiceStarts[ownOldest]) {
+                    ownOldest = v;
+                }
+            } else if (channels.get(owner).priority < channels.get(c).priority && (victim < 0
+                    || channels.get(owner).priority < channels.get(voiceChannels[victim]).priority
+                    || (channels.get(owner).priority == channels.get(voiceChannels[victim]).priority
+                        && voiceStarts[v] < voiceStarts[victim]))) {
+                victim = v;
+            }
+        }
+        if (own >= channels.get(c).maxVoices) {
+            return ownOldest;
+        }
+        return free >= 0 ? free : victim;
+    }
+
+    public int getActiveVoices() {
+        int active = 0;
+        for (int v = 0; v < voiceChannels.length; v++) {
+            if (voiceChannels[v] >= 0) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /** Playbacks started since the start. */
+    public int getPlayed() {
+        return played;
+    }
+
+    /** Requests merged into a playback of the same channel. */
+    public int getCoalesced() {
+        return coalesced;
+    }
+
+    /** Requests that found no voice. */
+    public int getDropped() {
+        return dropped;
+    }
+
+    /** Voices cut to make room for a newer or more important one. */
+    public int getStolen() {
+        return stolen;
+    }
+}
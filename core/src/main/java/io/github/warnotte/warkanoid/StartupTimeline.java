@@ -0,0 +1,45 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.LongArray;
+import com.badlogic.gdx.utils.TimeUtils;
+
+/**
+ * Milestones of the startup (create, each asset, shader and frame buffer, first frame,
+ * first interactive frame) in milliseconds since the process started, logged once the
+ * game is playable. The launcher gives the process start time (JVM start on desktop);
+ * without it the timeline starts at the first mark.
+ */
+public class StartupTimeline {
+    private final Array<String> labels = new Array<>();
+    private final LongArray times = new LongArray();
+    private long originMillis = -1L;
+
+    /** Wall-clock time the timeline counts from, e.g. {@code RuntimeMXBean.getStartTime()}. */
+    public void setOrigin(long originMillis) {
+        this.originMillis = originMillis;
+    }
+
+    public void mark(String label) {
+        long now = TimeUtils.millis();
+        if (originMillis < 0L) {
+            originMillis = now;
+        }
+        labels.add(label);
+        times.add(now - originMillis);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder("Startup timeline (ms since process start):");
+        for (int i = 0; i < labels.size; i++) {
+            out.append('\n');
+            String time = String.valueOf(times.get(i));
+            for (int pad = time.length(); pad < 8; pad++) {
+                out.append(' ');
+            }
+            out.append(time).append("  ").append(labels.get(i));
+        }
+        return out.toString();
+    }
+}
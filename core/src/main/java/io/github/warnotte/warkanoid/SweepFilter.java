@@ -0,0 +1,58 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.utils.IntArray;
+
+/**
+ * Batched first pass of the brick narrow phase: one ball step (a segment) against many
+ * brick rectangles at once, read from the {@link BrickGrid} bounds arrays. A brick is
+ * kept when the segment touches its rectangle grown by the radius, the slab test of
+ * {@link Ball#sweepCircleAgainstRect} without the rounded corners. That box contains
+ * every swept hit and every end-of-step overlap, so only the kept bricks need the exact
+ * per-brick test.
+ * <p>
+ * {@link #SCALAR} runs everywhere (GWT included); {@link SweepFilters#best()} returns a
+ * Vector API version on JDK 17+ when {@code jdk.incubator.vector} is available.
+ */
+public interface SweepFilter {
+    /**
+     * Copies to {@code out} (cleared first), in order, the {@code candidates} whose
+     * bounds grown by {@code radius} the segment from (x0, y0) to (x1, y1) touches.
+     */
+    void filter(BrickGrid grid, IntArray candidates, float x0, float y0, float x1, float y1, float radius,
+                IntArray out);
+
+    SweepFilter SCALAR = new SweepFilter() {
+        @Override
+        public void filter(BrickGrid grid, IntArray candidates, float x0, float y0, float x1, float y1,
+                           float radius, IntArray out) {
+            out.clear();
+            float[] minXs = grid.getMinXs();
+            float[] minYs = grid.getMinYs();
+            float[] maxXs = grid.getMaxXs();
+            float[] maxYs = grid.getMaxYs();
+            float invX = inverse(x1 - x0);
+            float invY = inverse(y1 - y0);
+            int[] items = candidates.items;
+            for (int c = 0; c < candidates.size; c++) {
+                int i = items[c];
+                float tx1 = (minXs[i] - radius - x0) * invX;
+                float tx2 = (maxXs[i] + radius - x0) * invX;
+                float ty1 = (minYs[i] - radius - y0) * invY;
+                float ty2 = (maxYs[i] + radius - y0) * invY;
+                float entry = Math.max(Math.min(tx1, tx2), Math.min(ty1, ty2));
+                float exit = Math.min(Math.max(tx1, tx2), Math.max(ty1, ty2));
+                if (entry <= exit && exit >= 0f && entry <= 1f) {
+                    out.add(i);
+                }
+            }
+        }
+    };
+
+    /** 1 / d, with a huge finite value for a segment parallel to the axis (no NaN from 0 * inf). */
+    static float inverse(float d) {
+        if (Math.abs(d) < 1e-12f) {
+            return d < 0f ? -1e30f : 1e30f;
+        }
+        return 1f / d;
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.warnotte.warkanoid;
+
+/**
+ * Picks the {@link SweepFilter} for the running JVM. This is the Java 11 (and GWT)
+ * version; the core JAR is multi-release and JDK 17+ loads the one from
+ * {@code src/main/java17}, which can return the Vector API filter.
+ */
+public final class SweepFilters {
+    private SweepFilters() {
+    }
+
+    public static SweepFilter best() {
+        return SweepFilter.SCALAR;
+    }
+}
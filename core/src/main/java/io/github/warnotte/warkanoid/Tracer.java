@@ -0,0 +1,62 @@
+package io.github.warnotte.warkanoid;
+
+/**
+ * Begin/end hooks around the game phases worth correlating with GC and JIT activity:
+ * frame phases (see {@link FrameProfiler}), the ball physics of a tick, bomb chains and
+ * level loads. Core code only sees this interface so it stays GWT-compatible; the desktop
+ * launcher plugs in {@link JfrTracer}, which turns them into Java Flight Recorder events.
+ * <p>
+ * Called on the render thread only, and pairs never nest within one kind.
+ */
+public interface Tracer {
+    void beginPhase();
+
+    void endPhase(String phase);
+
+    void beginBallPhysics();
+
+    /** Substeps and brick tests are counted on the serial path; the batched multi-ball step reports 0. */
+    void endBallPhysics(String mode, int balls, int substeps, int brickTests);
+
+    void beginExplosionChain();
+
+    void endExplosionChain(int explosions, int bricksDestroyed);
+
+    void beginLevelLoad();
+
+    void endLevelLoad(int level, int bricks);
+
+    Tracer NONE = new Tracer() {
+        @Override
+        public void beginPhase() {
+        }
+
+        @Override
+        public void endPhase(String phase) {
+        }
+
+        @Override
+        public void beginBallPhysics() {
+        }
+
+        @Override
+        public void endBallPhysics(String mode, int balls, int substeps, int brickTests) {
+        }
+
+        @Override
+        public void beginExplosionChain() {
+        }
+
+        @Override
+        public void endExplosionChain(int explosions, int bricksDestroyed) {
+        }
+
+        @Override
+        public void beginLevelLoad() {
+        }
+
+        @Override
+        public void endLevelLoad(int level, int bricks) {
+        }
+    };
+}
@@ -0,0 +1,214 @@
+package io.github.warnotte.warkanoid.assets;
+
+import com.badlogic.gdx.Files.FileType;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectMap;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read side of the packed asset archive built by {@link AssetPackTool}: the whole file
+ * is memory-mapped once and every entry is served from a slice of the mapping, so
+ * opening an asset costs no syscall and the assets sit next to each other on disk.
+ * Inside a jar the pack cannot be mapped; {@link #read} loads it with one sequential
+ * read instead of one zip lookup per asset. Files missing from the pack fall back to
+ * {@code Gdx.files.internal}.
+ * <p>
+ * Format (big-endian): magic, version, entry count, data start, then per entry its path
+ * (short length + UTF-8, '/' separators), offset from the data start, length and FNV-1a
+ * 64 hash (as {@code LevelCompiler.hash}), then the data. An entry's hash is checked the
+ * first time it is opened; a mismatch is a corrupt install and throws.
+ * <p>
+ * Desktop only (java.nio mapping), excluded from the GWT module.
+ */
+public class AssetPack implements FileHandleResolver {
+    static final int MAGIC = 0x5750414b; // "WPAK"
+    static final int VERSION = 1;
+
+    private final String name;
+    private final ByteBuffer buffer;
+    private final ObjectMap<String, Entry> entries = new ObjectMap<>();
+
+    private static final class Entry {
+        final int offset;
+        final int length;
+        final long hash;
+        volatile boolean verified;
+
+        Entry(int offset, int length, long hash) {
+            this.offset = offset;
+            this.length = length;
+            this.hash = hash;
+        }
+    }
+
+    private AssetPack(String name, ByteBuffer buffer) {
+        this.name = name;
+        this.buffer = buffer;
+    }
+
+    /** Maps the pack and reads its index; the file can be closed right away, the mapping stays. */
+    public static AssetPack open(File file) throws IOException {
+        MappedByteBuffer buffer;
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+        }
+        AssetPack pack = new AssetPack(file.getName(), buffer);
+        pack.readIndex();
+        return pack;
+    }
+
+    /** Reads a whole pack from a stream (a classpath resource of the distributed jar). */
+    public static AssetPack read(InputStream in, String name) throws IOException {
+        AssetPack pack = new AssetPack(name, ByteBuffer.wrap(in.readAllBytes()));
+        pack.readIndex();
+        return pack;
+    }
+
+    private void readIndex() throws IOException {
+        ByteBuffer in = buffer.duplicate();
+        if (in.remaining() < 16 || in.getInt() != MAGIC) {
+            throw new IOException(name + " is not an asset pack");
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new IOException(name + " has pack version " + version + ", expected " + VERSION);
+        }
+        int count = in.getInt();
+        int dataStart = in.getInt();
+        for (int i = 0; i < count; i++) {
+            byte[] path = new byte[in.getShort() & 0xffff];
+            in.get(path);
+            int offset = dataStart + (int) in.getLong();
+            int length = in.getInt();
+            long hash = in.getLong();
+            if (offset < dataStart || offset + length > buffer.capacity()) {
+                throw new IOException(name + " is truncated");
+            }
+            entries.put(new String(path, StandardCharsets.UTF_8), new Entry(offset, length, hash));
+        }
+    }
+
+    public int size() {
+        return entries.size;
+    }
+
+    @Override
+    public FileHandle resolve(String fileName) {
+        Entry entry = entries.get(fileName);
+        return entry != null ? new PackedFileHandle(fileName, entry) : Gdx.files.internal(fileName);
+    }
+
+    /** The entry's bytes as a read-only view of the mapping, hash-checked on first use. */
+    private ByteBuffer slice(String fileName, Entry entry) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(entry.offset).limit(entry.offset + entry.length);
+        slice = slice.slice();
+        if (!entry.verified) {
+            if (hash(slice) != entry.hash) {
+                throw new GdxRuntimeException("Corrupt entry in " + name + ": " + fileName);
+            }
+            entry.verified = true;
+        }
+        return slice;
+    }
+
+    /** FNV-1a 64, byte for byte the same as {@code LevelCompiler.hash}. */
+    static long hash(ByteBuffer bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = bytes.position(); i < bytes.limit(); i++) {
+            hash ^= (bytes.get(i) & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /** Internal file handle backed by a pack entry; only the read side is supported. */
+    private final class PackedFileHandle extends FileHandle {
+        private final Entry entry;
+
+        PackedFileHandle(String fileName, Entry entry) {
+            super(new File(fileName), FileType.Internal);
+            this.entry = entry;
+        }
+
+        @Override
+        public InputStream read() {
+            return new ByteBufferInputStream(slice(path(), entry));
+        }
+
+        @Override
+        public byte[] readBytes() {
+            byte[] bytes = new byte[entry.length];
+            slice(path(), entry).get(bytes);
+            return bytes;
+        }
+
+        @Override
+        public boolean exists() {
+            return true;
+        }
+
+        @Override
+        public boolean isDirectory() {
+            return false;
+        }
+
+        @Override
+        public long length() {
+            return entry.length;
+        }
+
+        @Override
+        public long lastModified() {
+            return 0L;
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer bytes;
+
+        ByteBufferInputStream(ByteBuffer bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public int read() {
+            return bytes.hasRemaining() ? bytes.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!bytes.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, bytes.remaining());
+            bytes.get(target, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0L, Math.min(n, bytes.remaining()));
+            bytes.position(bytes.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return bytes.remaining();
+        }
+    }
+}
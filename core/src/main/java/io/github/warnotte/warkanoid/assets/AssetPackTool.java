@@ -0,0 +1,79 @@
+package io.github.warnotte.warkanoid.assets;
+
+import io.github.warnotte.warkanoid.level.LevelCompiler;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Build-time entry point used by the {@code packAssets} Gradle task: packs the source
+ * assets named in a list file (one path per line, relative to the assets folder) into one
+ * {@link AssetPack} archive (index first, then the data in path order). Only listed files
+ * are packed, so what the game writes under the folder at runtime (level cache,
+ * profiles) never ends up in a build.
+ * <p>
+ * Desktop only (java.nio.file), excluded from the GWT module.
+ */
+public final class AssetPackTool {
+    private AssetPackTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3) {
+            System.err.println("Usage: AssetPackTool <assetsDir> <listFile> <target.pak>");
+            System.exit(2);
+        }
+        Path dir = Paths.get(args[0]);
+        Path target = Paths.get(args[2]);
+
+        List<String> paths = new ArrayList<>();
+        for (String line : Files.readAllLines(Paths.get(args[1]), StandardCharsets.UTF_8)) {
+            String path = line.trim().replace('\\', '/');
+            if (!path.isEmpty()) {
+                paths.add(path);
+            }
+        }
+        Collections.sort(paths);
+
+        List<byte[]> contents = new ArrayList<>();
+        ByteArrayOutputStream indexBytes = new ByteArrayOutputStream();
+        DataOutputStream index = new DataOutputStream(indexBytes);
+        long offset = 0L;
+        for (String path : paths) {
+            byte[] content = Files.readAllBytes(dir.resolve(path));
+            contents.add(content);
+            byte[] name = path.getBytes(StandardCharsets.UTF_8);
+            index.writeShort(name.length);
+            index.write(name);
+            index.writeLong(offset);
+            index.writeInt(content.length);
+            index.writeLong(LevelCompiler.hash(content));
+            offset += content.length;
+        }
+        index.flush();
+
+        Path parent = target.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (OutputStream file = Files.newOutputStream(target); DataOutputStream out = new DataOutputStream(file)) {
+            out.writeInt(AssetPack.MAGIC);
+            out.writeInt(AssetPack.VERSION);
+            out.writeInt(paths.size());
+            out.writeInt(16 + indexBytes.size());
+            indexBytes.writeTo(out);
+            for (byte[] content : contents) {
+                out.write(content);
+            }
+        }
+        System.out.println("Packed " + paths.size() + " assets (" + (offset / 1024L) + " KB) into " + target);
+    }
+}
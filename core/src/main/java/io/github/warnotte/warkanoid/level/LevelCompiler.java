@@ -0,0 +1,266 @@
+package io.github.warnotte.warkanoid.level;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Colors;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.JsonReader;
+import com.badlogic.gdx.utils.JsonValue;
+import io.github.warnotte.warkanoid.Brick;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Turns level JSON into {@link LevelData} and converts {@link LevelData} to and from
+ * the compact binary cache format.
+ * <p>
+ * JSON layout: a level has a {@code width}/{@code height}, an optional {@code grid}
+ * (rows of legend characters, row 0 at the top, {@code '.'} or space for empty cells)
+ * and an optional {@code bricks} array of free-placed rects.
+ * <p>
+ * Binary layout (big-endian): magic, version, source hash, width, height, count,
+ * name, then x[], y[], w[], h[], type[], hits[], bombChance[], color[].
+ */
+public final class LevelCompiler {
+    public static final int MAGIC = 0x574B4C56; // "WKLV"
+    public static final int VERSION = 1;
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + 4 + 4 + 2;
+    private static final int BYTES_PER_BRICK = 4 * 4 + 3 + 4;
+
+    private LevelCompiler() {
+    }
+
+    public static LevelData compile(String defaultName, String json) {
+        JsonValue root = new JsonReader().parse(json);
+        String name = root.getString("name", defaultName);
+        float width = root.getFloat("width", 800f);
+        float height = root.getFloat("height", 600f);
+
+        JsonValue grid = root.get("grid");
+        JsonValue freeBricks = root.get("bricks");
+
+        int count = 0;
+        if (grid != null) {
+            for (JsonValue row = grid.getChild("rows"); row != null; row = row.next) {
+                String cells = row.asString();
+                for (int col = 0; col < cells.length(); col++) {
+                    if (!isEmptyCell(cells.charAt(col))) {
+                        count++;
+                    }
+                }
+            }
+        }
+        if (freeBricks != null) {
+            count += freeBricks.size;
+        }
+
+        LevelData data = new LevelData(name, width, height, count);
+        int index = 0;
+
+        if (grid != null) {
+            float startX = grid.getFloat("x");
+            float startY = grid.getFloat("y");
+            float stepX = grid.getFloat("stepX");
+            float stepY = grid.getFloat("stepY");
+            float brickWidth = grid.getFloat("brickWidth", stepX);
+            float brickHeight = grid.getFloat("brickHeight", stepY);
+            JsonValue legend = grid.get("legend");
+
+            int rowIndex = 0;
+            for (JsonValue row = grid.getChild("rows"); row != null; row = row.next, rowIndex++) {
+                String cells = row.asString();
+                for (int col = 0; col < cells.length(); col++) {
+                    char cell = cells.charAt(col);
+                    if (isEmptyCell(cell)) {
+                        continue;
+                    }
+                    JsonValue entry = legend != null ? legend.get(String.valueOf(cell)) : null;
+                    if (entry == null) {
+                        throw new GdxRuntimeException("Level '" + name + "': no legend entry for '" + cell + "'");
+                    }
+                    setBrick(data, index++, startX + col * stepX, startY - rowIndex * stepY,
+                            brickWidth, brickHeight, entry);
+                }
+            }
+        }
+
+        if (freeBricks != null) {
+            for (JsonValue brick = freeBricks.child; brick != null; brick = brick.next) {
+                setBrick(data, index++, brick.getFloat("x"), brick.getFloat("y"),
+                        brick.getFloat("width"), brick.getFloat("height"), brick);
+            }
+        }
+
+        return data;
+    }
+
+    private static boolean isEmptyCell(char cell) {
+        return cell == '.' || cell == ' ';
+    }
+
+    private static void setBrick(LevelData data, int i, float x, float y, float width, float height, JsonValue entry) {
+        Brick.Type type = Brick.Type.valueOf(entry.getString("type", Brick.Type.NORMAL.name()));
+        data.x[i] = x;
+        data.y[i] = y;
+        data.w[i] = width;
+        data.h[i] = height;
+        data.type[i] = (byte) type.ordinal();
+        int hits = entry.getInt("hits", 1);
+        if (hits < 1 || hits > Byte.MAX_VALUE) {
+            throw new GdxRuntimeException("Level '" + data.name + "': brick " + i
+                    + (entry.name != null ? " (legend '" + entry.name + "')" : "")
+                    + " has hits " + hits + ", expected 1.." + Byte.MAX_VALUE);
+        }
+        data.hits[i] = (byte) hits;
+        data.bombChance[i] = (byte) Math.round(entry.getFloat("bombChance", 0f) * 100f);
+        data.color[i] = Color.rgba8888(parseColor(entry.getString("color", "WHITE")));
+    }
+
+    private static Color parseColor(String value) {
+        Color named = Colors.get(value.toUpperCase());
+        if (named != null) {
+            return named;
+        }
+        return Color.valueOf(value);
+    }
+
+    /** FNV-1a 64-bit hash of the level source, stored in the binary header to detect stale caches. */
+    public static long hash(byte[] bytes) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : bytes) {
+            hash ^= (b & 0xff);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    public static byte[] encode(LevelData data, long sourceHash) {
+        byte[] name = data.name.getBytes(StandardCharsets.UTF_8);
+        int n = data.count;
+        Cursor out = new Cursor(new byte[HEADER_SIZE + name.length + n * BYTES_PER_BRICK]);
+        out.putInt(MAGIC);
+        out.putInt(VERSION);
+        out.putLong(sourceHash);
+        out.putFloat(data.width);
+        out.putFloat(data.height);
+        out.putInt(n);
+        out.putShort(name.length);
+        out.putBytes(name, name.length);
+        for (int i = 0; i < n; i++) out.putFloat(data.x[i]);
+        for (int i = 0; i < n; i++) out.putFloat(data.y[i]);
+        for (int i = 0; i < n; i++) out.putFloat(data.w[i]);
+        for (int i = 0; i < n; i++) out.putFloat(data.h[i]);
+        out.putBytes(data.type, n);
+        out.putBytes(data.hits, n);
+        out.putBytes(data.bombChance, n);
+        for (int i = 0; i < n; i++) out.putInt(data.color[i]);
+        return out.bytes;
+    }
+
+    /** Returns the source hash recorded in a binary level, or 0 if the bytes are not a valid level. */
+    public static long readSourceHash(byte[] bytes) {
+        if (bytes == null || bytes.length < HEADER_SIZE) {
+            return 0L;
+        }
+        Cursor in = new Cursor(bytes);
+        if (in.getInt() != MAGIC || in.getInt() != VERSION) {
+            return 0L;
+        }
+        return in.getLong();
+    }
+
+    public static LevelData decode(byte[] bytes) {
+        if (bytes.length < HEADER_SIZE) {
+            throw new GdxRuntimeException("Binary level is truncated");
+        }
+        Cursor in = new Cursor(bytes);
+        if (in.getInt() != MAGIC) {
+            throw new GdxRuntimeException("Not a binary level");
+        }
+        int version = in.getInt();
+        if (version != VERSION) {
+            throw new GdxRuntimeException("Unsupported binary level version " + version);
+        }
+        in.getLong(); // source hash, only used to detect stale caches
+        float width = in.getFloat();
+        float height = in.getFloat();
+        int n = in.getInt();
+        int nameLength = in.getShort();
+        if (bytes.length != HEADER_SIZE + nameLength + n * BYTES_PER_BRICK) {
+            throw new GdxRuntimeException("Binary level size does not match its header");
+        }
+        String name = new String(bytes, in.position, nameLength, StandardCharsets.UTF_8);
+        in.position += nameLength;
+
+        LevelData data = new LevelData(name, width, height, n);
+        for (int i = 0; i < n; i++) data.x[i] = in.getFloat();
+        for (int i = 0; i < n; i++) data.y[i] = in.getFloat();
+        for (int i = 0; i < n; i++) data.w[i] = in.getFloat();
+        for (int i = 0; i < n; i++) data.h[i] = in.getFloat();
+        in.getBytes(data.type, n);
+        in.getBytes(data.hits, n);
+        in.getBytes(data.bombChance, n);
+        for (int i = 0; i < n; i++) data.color[i] = in.getInt();
+        return data;
+    }
+
+    /** Minimal big-endian reader/writer over a byte array (ByteBuffer is not available on GWT). */
+    private static final class Cursor {
+        final byte[] bytes;
+        int position;
+
+        Cursor(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        void putShort(int value) {
+            bytes[position++] = (byte) (value >>> 8);
+            bytes[position++] = (byte) value;
+        }
+
+        void putInt(int value) {
+            bytes[position++] = (byte) (value >>> 24);
+            bytes[position++] = (byte) (value >>> 16);
+            bytes[position++] = (byte) (value >>> 8);
+            bytes[position++] = (byte) value;
+        }
+
+        void putLong(long value) {
+            putInt((int) (value >>> 32));
+            putInt((int) value);
+        }
+
+        void putFloat(float value) {
+            putInt(Float.floatToIntBits(value));
+        }
+
+        void putBytes(byte[] src, int length) {
+            System.arraycopy(src, 0, bytes, position, length);
+            position += length;
+        }
+
+        int getShort() {
+            return ((bytes[position++] & 0xff) << 8) | (bytes[position++] & 0xff);
+        }
+
+        int getInt() {
+            return ((bytes[position++] & 0xff) << 24)
+                    | ((bytes[position++] & 0xff) << 16)
+                    | ((bytes[position++] & 0xff) << 8)
+                    | (bytes[position++] & 0xff);
+        }
+
+        long getLong() {
+            long high = getInt() & 0xffffffffL;
+            long low = getInt() & 0xffffffffL;
+            return (high << 32) | low;
+        }
+
+        float getFloat() {
+            return Float.intBitsToFloat(getInt());
+        }
+
+        void getBytes(byte[] dst, int length) {
+            System.arraycopy(bytes, position, dst, 0, length);
+            position += length;
+        }
+    }
+}
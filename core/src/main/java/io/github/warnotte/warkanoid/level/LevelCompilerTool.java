@@ -0,0 +1,46 @@
+package io.github.warnotte.warkanoid.level;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Build-time entry point used by the {@code compileLevels} Gradle task: compiles every
+ * {@code *.json} level of a folder into a sibling {@code *.bin}. Levels whose binary
+ * already carries the current content hash are skipped.
+ * <p>
+ * Desktop only (java.nio.file), excluded from the GWT module.
+ */
+public final class LevelCompilerTool {
+    private LevelCompilerTool() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path dir = Paths.get(args.length > 0 ? args[0] : "assets/levels");
+        int compiled = 0;
+        int upToDate = 0;
+        try (DirectoryStream<Path> sources = Files.newDirectoryStream(dir, "*.json")) {
+            for (Path source : sources) {
+                String fileName = source.getFileName().toString();
+                String baseName = fileName.substring(0, fileName.length() - ".json".length());
+                Path target = source.resolveSibling(baseName + ".bin");
+
+                byte[] sourceBytes = Files.readAllBytes(source);
+                long hash = LevelCompiler.hash(sourceBytes);
+                if (Files.exists(target) && LevelCompiler.readSourceHash(Files.readAllBytes(target)) == hash) {
+                    upToDate++;
+                    continue;
+                }
+
+                LevelData data = LevelCompiler.compile(baseName, new String(sourceBytes, StandardCharsets.UTF_8));
+                Files.write(target, LevelCompiler.encode(data, hash));
+                System.out.println("Compiled " + fileName + " (" + data.count + " bricks)");
+                compiled++;
+            }
+        }
+        System.out.println("Levels: " + compiled + " compiled, " + upToDate + " up to date");
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.warnotte.warkanoid.level;
+
+import com.badlogic.gdx.graphics.Color;
+import io.github.warnotte.warkanoid.Brick;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compiled, immutable description of a level. Bricks are stored as parallel arrays
+ * (packed rects, type, hits, rgba8888 color) so the binary cache can be decoded
+ * straight into them without intermediate objects.
+ */
+public final class LevelData {
+    private static final Brick.Type[] TYPES = Brick.Type.values();
+
+    public final String name;
+    public final float width;
+    public final float height;
+    public final int count;
+
+    public final float[] x;
+    public final float[] y;
+    public final float[] w;
+    public final float[] h;
+    public final byte[] type;
+    public final byte[] hits;
+    /** Chance (0..100) for a NORMAL brick to be turned into a BOMB when instantiated. */
+    public final byte[] bombChance;
+    public final int[] color;
+
+    public LevelData(String name, float width, float height, int count) {
+        this.name = name;
+        this.width = width;
+        this.height = height;
+        this.count = count;
+        this.x = new float[count];
+        this.y = new float[count];
+        this.w = new float[count];
+        this.h = new float[count];
+        this.type = new byte[count];
+        this.hits = new byte[count];
+        this.bombChance = new byte[count];
+        this.color = new int[count];
+    }
+
+    public Brick.Type getType(int index) {
+        return TYPES[type[index]];
+    }
+
+    /**
+     * Instantiates the playable bricks. Random bomb placement is rolled here so that
+     * restarting a level still reshuffles bombs like the old hard-coded levels did.
+     */
+    public List<Brick> createBricks(Random random) {
+        List<Brick> bricks = new ArrayList<>(count);
+        Color tmp = new Color();
+        for (int i = 0; i < count; i++) {
+            Color.rgba8888ToColor(tmp, color[i]);
+            bricks.add(new Brick(x[i], y[i], w[i], h[i], tmp, hits[i], rollType(i, random)));
+        }
+        return bricks;
+    }
+
+    /** Type of brick {@code index} once its bomb chance has been rolled. */
+    public Brick.Type rollType(int index, Random random) {
+        Brick.Type brickType = getType(index);
+        if (brickType == Brick.Type.NORMAL && bombChance[index] > 0 && random.nextInt(100) < bombChance[index]) {
+            brickType = Brick.Type.BOMB;
+        }
+        return brickType;
+    }
+}
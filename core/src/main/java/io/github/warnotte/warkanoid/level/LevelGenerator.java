@@ -0,0 +1,313 @@
+package io.github.warnotte.warkanoid.level;
+
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import io.github.warnotte.warkanoid.Brick;
+import io.github.warnotte.warkanoid.Main;
+import java.util.Random;
+
+/**
+ * Seeded procedural levels for stress testing (100 to 100k bricks). The same
+ * {@link Params} always produce the same {@link LevelData}: bomb and wall placement
+ * is decided here, nothing is left to chance when the bricks are instantiated.
+ * <p>
+ * When no playfield size is given, the default {@code GAME_WIDTH x GAME_HEIGHT} field
+ * is scaled up (keeping its aspect) until the requested bricks fit in its upper part.
+ */
+public final class LevelGenerator {
+    public enum Layout {
+        GRID,
+        MAZE,
+        SPIRAL,
+        BOMB_FIELD,
+        WALLS
+    }
+
+    public static class Params {
+        public Layout layout = Layout.GRID;
+        public int brickCount = 100;
+        public long seed = 1L;
+        /** Playfield size, 0 to size it automatically from the brick count. */
+        public float width;
+        public float height;
+        public float brickWidth = 68f;
+        public float brickHeight = 20f;
+        public float spacing = 2f;
+        /** Share of destructible bricks turned into bombs (BOMB_FIELD uses at least 35%). */
+        public float bombRatio = 0.05f;
+        /** Share of INDESTRUCTIBLE bricks for MAZE and SPIRAL walls. */
+        public float indestructibleRatio = 0.25f;
+        /** Empty space kept above the paddle, 0 for 40% of the playfield height. */
+        public float playAreaHeight;
+
+        public Params() {
+        }
+
+        public Params(Layout layout, int brickCount, long seed) {
+            this.layout = layout;
+            this.brickCount = brickCount;
+            this.seed = seed;
+        }
+    }
+
+    private static final float SIDE_MARGIN = 50f;
+    private static final float TOP_MARGIN = 100f;
+    /** Bricks stay above this fraction of the height so there is room to play. */
+    private static final float PLAY_AREA_FRACTION = 0.4f;
+    private static final int[] PALETTE = {
+            Color.rgba8888(Color.RED), Color.rgba8888(Color.ORANGE), Color.rgba8888(Color.YELLOW),
+            Color.rgba8888(Color.GREEN), Color.rgba8888(Color.CYAN), Color.rgba8888(Color.BLUE),
+            Color.rgba8888(Color.PURPLE), Color.rgba8888(Color.MAGENTA)
+    };
+    private static final int WALL_COLOR = Color.rgba8888(Color.GRAY);
+
+    private LevelGenerator() {
+    }
+
+    public static LevelData generate(Layout layout, int brickCount, long seed) {
+        return generate(new Params(layout, brickCount, seed));
+    }
+
+    /**
+     * Tall level for the scrolling mode: {@code GAME_WIDTH} wide, {@code screens} screens
+     * high and filled with bricks except for the bottom screen.
+     */
+    public static LevelData tall(Layout layout, int screens, long seed) {
+        Params params = new Params(layout, 0, seed);
+        params.width = Main.GAME_WIDTH;
+        params.height = Main.GAME_HEIGHT * (float) screens;
+        params.playAreaHeight = Main.GAME_HEIGHT;
+        params.brickCount = columns(params.width, params.brickWidth + params.spacing)
+                * rows(params, params.height, params.brickHeight + params.spacing);
+        return generate(params);
+    }
+
+    public static LevelData generate(Params params) {
+        Random random = new RandomXS128(params.seed);
+        String name = params.layout.name().toLowerCase() + "-" + params.brickCount + "-" + params.seed;
+        switch (params.layout) {
+            case MAZE:
+                return generateMaze(params, random, name);
+            case SPIRAL:
+                return generateSpiral(params, random, name);
+            case GRID:
+            case BOMB_FIELD:
+            case WALLS:
+            default:
+                return generateGrid(params, random, name);
+        }
+    }
+
+    private static LevelData generateGrid(Params params, Random random, String name) {
+        float stepX = params.brickWidth + params.spacing;
+        float stepY = params.brickHeight + params.spacing;
+        float[] size = fieldSize(params, params.brickCount, stepX, stepY);
+        int columns = columns(size[0], stepX);
+        int rows = rows(params, size[1], stepY);
+        float bombRatio = params.layout == Layout.BOMB_FIELD ? Math.max(0.35f, params.bombRatio) : params.bombRatio;
+
+        // WALLS: every 5th column is solid, every 6th row is a wall with a random gap.
+        int gapStart = 0;
+        Sink sink = new Sink((int) Math.min(params.brickCount, (long) columns * rows));
+        for (int row = 0; row < rows && !sink.isFull(); row++) {
+            if (params.layout == Layout.WALLS && row % 6 == 5) {
+                gapStart = random.nextInt(Math.max(1, columns - 2));
+            }
+            for (int col = 0; col < columns && !sink.isFull(); col++) {
+                float x = SIDE_MARGIN + col * stepX;
+                float y = size[1] - TOP_MARGIN - row * stepY;
+                boolean wall = params.layout == Layout.WALLS
+                        && (col % 5 == 4 || (row % 6 == 5 && (col < gapStart || col > gapStart + 1)));
+                if (wall) {
+                    sink.add(x, y, params.brickWidth, params.brickHeight, Brick.Type.INDESTRUCTIBLE, 1, WALL_COLOR);
+                } else {
+                    addDestructible(sink, random, x, y, params.brickWidth, params.brickHeight, row, bombRatio);
+                }
+            }
+        }
+        return sink.toLevel(name, size[0], size[1]);
+    }
+
+    private static LevelData generateMaze(Params params, Random random, String name) {
+        float stepX = params.brickWidth + params.spacing;
+        float stepY = params.brickHeight + params.spacing;
+        // A perfect maze turns roughly half of its lattice into walls.
+        float[] size = fieldSize(params, (int) Math.min(Integer.MAX_VALUE, params.brickCount * 2L), stepX, stepY);
+        int columns = columns(size[0], stepX) | 1;
+        int rows = rows(params, size[1], stepY) | 1;
+        if (columns * stepX > size[0] - 2f * SIDE_MARGIN) columns -= 2;
+        if (rows * stepY > size[1] - playAreaHeight(params, size[1]) - TOP_MARGIN) rows -= 2;
+        columns = Math.max(3, columns);
+        rows = Math.max(3, rows);
+
+        // Iterative recursive-backtracker carve: odd lattice cells are rooms, the rest walls.
+        boolean[] open = new boolean[columns * rows];
+        int[] stack = new int[columns * rows];
+        int top = 0;
+        stack[top++] = columns + 1;
+        open[columns + 1] = true;
+        int[] dirs = {2, -2, 2 * columns, -2 * columns};
+        while (top > 0) {
+            int cell = stack[top - 1];
+            int cx = cell % columns;
+            int cy = cell / columns;
+            int next = -1;
+            int start = random.nextInt(4);
+            for (int k = 0; k < 4 && next < 0; k++) {
+                int d = (start + k) % 4;
+                int nx = cx + (d == 0 ? 2 : d == 1 ? -2 : 0);
+                int ny = cy + (d == 2 ? 2 : d == 3 ? -2 : 0);
+                if (nx > 0 && nx < columns - 1 && ny > 0 && ny < rows - 1 && !open[cell + dirs[d]]) {
+                    next = cell + dirs[d];
+                }
+            }
+            if (next < 0) {
+                top--;
+                continue;
+            }
+            open[(cell + next) / 2] = true;
+            open[next] = true;
+            stack[top++] = next;
+        }
+
+        Sink sink = new Sink((int) Math.min(params.brickCount, (long) columns * rows));
+        for (int row = 0; row < rows && !sink.isFull(); row++) {
+            for (int col = 0; col < columns && !sink.isFull(); col++) {
+                if (open[row * columns + col]) {
+                    continue;
+                }
+                float x = SIDE_MARGIN + col * stepX;
+                float y = size[1] - TOP_MARGIN - row * stepY;
+                if (random.nextFloat() < params.indestructibleRatio) {
+                    sink.add(x, y, params.brickWidth, params.brickHeight, Brick.Type.INDESTRUCTIBLE, 1, WALL_COLOR);
+                } else {
+                    addDestructible(sink, random, x, y, params.brickWidth, params.brickHeight, row, params.bombRatio);
+                }
+            }
+        }
+        return sink.toLevel(name, size[0], size[1]);
+    }
+
+    private static LevelData generateSpiral(Params params, Random random, String name) {
+        // Archimedean spiral (r = a * theta) like the collision test level, with two
+        // brick heights between turns and one brick width between neighbours.
+        float brickWidth = Math.min(params.brickWidth, 30f);
+        float turnSpacing = 2f * (params.brickHeight + params.spacing);
+        float arcStep = brickWidth + params.spacing;
+        float a = turnSpacing / MathUtils.PI2;
+        float startRadius = 30f;
+        float maxRadius = (float) Math.sqrt(startRadius * startRadius
+                + params.brickCount * arcStep * turnSpacing / MathUtils.PI) + turnSpacing;
+
+        float width = params.width;
+        float height = params.height;
+        if (width <= 0f || height <= 0f) {
+            float diameter = 2f * maxRadius + 2f * SIDE_MARGIN;
+            float scale = Math.max(1f, Math.max(diameter / Main.GAME_WIDTH,
+                    (diameter + TOP_MARGIN) / (Main.GAME_HEIGHT * (1f - PLAY_AREA_FRACTION))));
+            width = Main.GAME_WIDTH * scale;
+            height = Main.GAME_HEIGHT * scale;
+        }
+        float centerX = width / 2f;
+        float centerY = height - TOP_MARGIN - maxRadius;
+
+        Sink sink = new Sink(params.brickCount);
+        float theta = startRadius / a;
+        for (int i = 0; i < params.brickCount; i++) {
+            float radius = a * theta;
+            float x = centerX + MathUtils.cos(theta) * radius - brickWidth / 2f;
+            float y = centerY + MathUtils.sin(theta) * radius - params.brickHeight / 2f;
+            theta += arcStep / radius;
+            if (x < 0f || x + brickWidth > width || y < 0f || y + params.brickHeight > height) {
+                continue; // Clipped by an explicit playfield size
+            }
+            if (random.nextFloat() < params.indestructibleRatio) {
+                sink.add(x, y, brickWidth, params.brickHeight, Brick.Type.INDESTRUCTIBLE, 1, WALL_COLOR);
+            } else {
+                addDestructible(sink, random, x, y, brickWidth, params.brickHeight, i / 64, params.bombRatio);
+            }
+        }
+        return sink.toLevel(name, width, height);
+    }
+
+    private static void addDestructible(Sink sink, Random random, float x, float y, float width, float height,
+                                        int band, float bombRatio) {
+        Brick.Type type = random.nextFloat() < bombRatio ? Brick.Type.BOMB : Brick.Type.NORMAL;
+        int hits = 1 + (band / 2) % 3;
+        sink.add(x, y, width, height, type, hits, PALETTE[band % PALETTE.length]);
+    }
+
+    private static int columns(float width, float stepX) {
+        return Math.max(1, (int) ((width - 2f * SIDE_MARGIN) / stepX));
+    }
+
+    private static int rows(Params params, float height, float stepY) {
+        return Math.max(1, (int) ((height - playAreaHeight(params, height) - TOP_MARGIN) / stepY));
+    }
+
+    private static float playAreaHeight(Params params, float height) {
+        return params.playAreaHeight > 0f ? params.playAreaHeight : height * PLAY_AREA_FRACTION;
+    }
+
+    /** Explicit size from the params, or the default field scaled until {@code cells} cells fit. */
+    private static float[] fieldSize(Params params, int cells, float stepX, float stepY) {
+        if (params.width > 0f && params.height > 0f) {
+            return new float[] {params.width, params.height};
+        }
+        float scale = 1f;
+        while (columns(Main.GAME_WIDTH * scale, stepX) * (long) rows(params, Main.GAME_HEIGHT * scale, stepY) < cells) {
+            scale *= 1.1f;
+        }
+        return new float[] {Main.GAME_WIDTH * scale, Main.GAME_HEIGHT * scale};
+    }
+
+    /** Fixed-capacity accumulator for the generated bricks. */
+    private static final class Sink {
+        final float[] x;
+        final float[] y;
+        final float[] w;
+        final float[] h;
+        final byte[] type;
+        final byte[] hits;
+        final int[] color;
+        int size;
+
+        Sink(int capacity) {
+            x = new float[capacity];
+            y = new float[capacity];
+            w = new float[capacity];
+            h = new float[capacity];
+            type = new byte[capacity];
+            hits = new byte[capacity];
+            color = new int[capacity];
+        }
+
+        boolean isFull() {
+            return size == x.length;
+        }
+
+        void add(float bx, float by, float bw, float bh, Brick.Type brickType, int brickHits, int rgba) {
+            x[size] = bx;
+            y[size] = by;
+            w[size] = bw;
+            h[size] = bh;
+            type[size] = (byte) brickType.ordinal();
+            hits[size] = (byte) brickHits;
+            color[size] = rgba;
+            size++;
+        }
+
+        LevelData toLevel(String name, float width, float height) {
+            LevelData data = new LevelData(name, width, height, size);
+            System.arraycopy(x, 0, data.x, 0, size);
+            System.arraycopy(y, 0, data.y, 0, size);
+            System.arraycopy(w, 0, data.w, 0, size);
+            System.arraycopy(h, 0, data.h, 0, size);
+            System.arraycopy(type, 0, data.type, 0, size);
+            System.arraycopy(hits, 0, data.hits, 0, size);
+            System.arraycopy(color, 0, data.color, 0, size);
+            return data;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.warnotte.warkanoid.level;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.math.RandomXS128;
+import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.async.AsyncExecutor;
+import com.badlogic.gdx.utils.async.AsyncResult;
+import java.util.Random;
+
+/**
+ * Builds levels (data load, brick instances, spatial index) on a background thread so
+ * that switching level on the render thread is just a swap of references.
+ * <p>
+ * {@link #prefetch(int)}, {@link #take(int)} and {@link #retain} must be called from the
+ * render thread. {@code take} waits for a prefetch that is still running, or builds the
+ * level in place when nothing was prefetched. On GWT the executor runs tasks synchronously.
+ * <p>
+ * Levels registered with {@link #setGenerator} are generated instead of loaded from the
+ * repository, on the same thread and with the same random as a loaded level.
+ */
+public class LevelPreparer implements Disposable {
+    private final LevelRepository repository;
+    private final AsyncExecutor executor = new AsyncExecutor(1, "LevelPrefetch");
+    // Only used by the prefetch thread; MathUtils.random belongs to the render thread.
+    private final Random workerRandom = new RandomXS128();
+    private final IntMap<AsyncResult<PreparedLevel>> pending = new IntMap<>();
+    private final IntMap<Generator> generators = new IntMap<>();
+
+    /** Builds the data of a generated level. Called from the prefetch thread. */
+    public interface Generator {
+        LevelData generate(Random random);
+    }
+
+    public LevelPreparer(LevelRepository repository) {
+        this.repository = repository;
+    }
+
+    /** Makes {@code level} a generated level; must be called before it is prefetched or taken. */
+    public void setGenerator(int level, Generator generator) {
+        generators.put(level, generator);
+    }
+
+    /** True for repository levels and generated ones. */
+    public boolean exists(int level) {
+        return generators.containsKey(level) || repository.exists(level);
+    }
+
+    public void prefetch(int level) {
+        if (pending.containsKey(level) || !exists(level)) {
+            return;
+        }
+        pending.put(level, executor.submit(() -> prepare(level, workerRandom)));
+    }
+
+    public PreparedLevel take(int level) {
+        AsyncResult<PreparedLevel> result = pending.remove(level);
+        if (result != null) {
+            try {
+                return result.get();
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("Levels", "Prefetch of level " + level + " failed, loading it now", e);
+            }
+        }
+        return prepare(level, MathUtils.random);
+    }
+
+    /**
+     * Drops the pending prefetches of every repository level but {@code current} and
+     * {@code next}, so a level prefetched for an earlier position (maybe before its file
+     * was edited) is not handed out much later. Generated levels are kept, they have no
+     * file to go stale. A dropped task still runs to its end: {@link AsyncResult} cannot
+     * cancel it, its level is just never used.
+     */
+    public void retain(int current, int next) {
+        IntMap.Keys levels = pending.keys();
+        while (levels.hasNext) {
+            int level = levels.next();
+            if (level != current && level != next && !generators.containsKey(level)) {
+                levels.remove();
+            }
+        }
+    }
+
+    private PreparedLevel prepare(int level, Random random) {
+        Generator generator = generators.get(level);
+        LevelData data = generator != null ? generator.generate(random) : repository.load(level);
+        return PreparedLevel.of(level, data, random);
+    }
+
+    @Override
+    public void dispose() {
+        executor.dispose();
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.warnotte.warkanoid.level;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.assets.loaders.FileHandleResolver;
+import com.badlogic.gdx.assets.loaders.resolvers.InternalFileHandleResolver;
+import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.IntMap;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Loads levels from {@code assets/levels/levelN.json}.
+ * <p>
+ * Lookup order: the binary compiled at build time ({@code levelN.bin}, see the
+ * {@code compileLevels} Gradle task), then the local first-load cache, then a fresh
+ * compile of the JSON (which refreshes the cache). Both binaries are only used when
+ * they carry the content hash of the JSON, when there is one.
+ * Decoded levels are kept in memory since {@link LevelData} is immutable. Level files
+ * are resolved like the other assets (loose files, or the desktop asset pack).
+ */
+public class LevelRepository {
+    public static final String LEVEL_DIR = "levels/";
+    private static final String CACHE_DIR = "cache/";
+
+    private final IntMap<LevelData> loaded = new IntMap<>();
+    private FileHandleResolver resolver = new InternalFileHandleResolver();
+
+    public static String getBaseName(int level) {
+        return "level" + level;
+    }
+
+    /** Where level files come from; set before the first load. */
+    public void setResolver(FileHandleResolver resolver) {
+        this.resolver = resolver;
+    }
+
+    public boolean exists(int level) {
+        String base = LEVEL_DIR + getBaseName(level);
+        return resolver.resolve(base + ".bin").exists() || resolver.resolve(base + ".json").exists();
+    }
+
+    public synchronized LevelData load(int level) {
+        LevelData data = loaded.get(level);
+        if (data == null) {
+            data = read(level);
+            loaded.put(level, data);
+        }
+        return data;
+    }
+
+    private LevelData read(int level) {
+        String base = LEVEL_DIR + getBaseName(level);
+
+        FileHandle source = resolver.resolve(base + ".json");
+        byte[] sourceBytes = source.exists() ? source.readBytes() : null;
+        long hash = sourceBytes != null ? LevelCompiler.hash(sourceBytes) : 0L;
+
+        FileHandle compiled = resolver.resolve(base + ".bin");
+        if (compiled.exists()) {
+            byte[] bytes = compiled.readBytes();
+            // A .bin compiled before the JSON was edited is stale; without a JSON it is all there is
+            if (sourceBytes == null || LevelCompiler.readSourceHash(bytes) == hash) {
+                return LevelCompiler.decode(bytes);
+            }
+        }
+
+        if (sourceBytes == null) {
+            throw new GdxRuntimeException("Level not found: " + base);
+        }
+
+        FileHandle cache = Gdx.files.isLocalStorageAvailable() ? Gdx.files.local(CACHE_DIR + base + ".bin") : null;
+        if (cache != null && cache.exists()) {
+            byte[] cached = cache.readBytes();
+            if (LevelCompiler.readSourceHash(cached) == hash) {
+                return LevelCompiler.decode(cached);
+            }
+        }
+
+        LevelData data = LevelCompiler.compile(getBaseName(level), new String(sourceBytes, StandardCharsets.UTF_8));
+        if (cache != null) {
+            try {
+                cache.writeBytes(LevelCompiler.encode(data, hash), false);
+            } catch (GdxRuntimeException e) {
+                Gdx.app.error("Levels", "Could not write level cache " + cache.path(), e);
+            }
+        }
+        return data;
+    }
+}
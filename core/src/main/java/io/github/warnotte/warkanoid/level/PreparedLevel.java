@@ -0,0 +1,43 @@
+package io.github.warnotte.warkanoid.level;
+
+import io.github.warnotte.warkanoid.Brick;
+import io.github.warnotte.warkanoid.BrickChunks;
+import io.github.warnotte.warkanoid.BrickGrid;
+import io.github.warnotte.warkanoid.Main;
+import java.util.List;
+import java.util.Random;
+
+/** Everything the game needs to start a level, built ahead of time by {@link LevelPreparer}. */
+public final class PreparedLevel {
+    /** Levels taller than this are streamed by chunks instead of being instantiated whole. */
+    public static final float STREAMING_HEIGHT = Main.GAME_HEIGHT * 2f;
+
+    public final int level;
+    public final LevelData data;
+    public final List<Brick> bricks;
+    public final BrickGrid grid;
+    /** Non-null for streamed (tall) levels; {@link #bricks} is then the active set only. */
+    public final BrickChunks chunks;
+
+    public PreparedLevel(int level, LevelData data, List<Brick> bricks, BrickGrid grid) {
+        this(level, data, bricks, grid, null);
+    }
+
+    private PreparedLevel(int level, LevelData data, List<Brick> bricks, BrickGrid grid, BrickChunks chunks) {
+        this.level = level;
+        this.data = data;
+        this.bricks = bricks;
+        this.grid = grid;
+        this.chunks = chunks;
+    }
+
+    /** Instantiates the bricks of {@code data} and indexes them. Safe to call off the render thread. */
+    public static PreparedLevel of(int level, LevelData data, Random random) {
+        if (data.height > STREAMING_HEIGHT) {
+            BrickChunks chunks = new BrickChunks(data, random);
+            return new PreparedLevel(level, data, chunks.getActiveBricks(), chunks.getActiveGrid(), chunks);
+        }
+        List<Brick> bricks = data.createBricks(random);
+        return new PreparedLevel(level, data, bricks, new BrickGrid(bricks));
+    }
+}
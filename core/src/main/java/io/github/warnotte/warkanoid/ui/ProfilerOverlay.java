@@ -0,0 +1,156 @@
+package io.github.warnotte.warkanoid.ui;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.Color;
+import com.badlogic.gdx.graphics.Pixmap;
+import com.badlogic.gdx.graphics.Texture;
+import com.badlogic.gdx.graphics.g2d.BitmapFont;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Matrix4;
+import io.github.warnotte.warkanoid.FrameProfiler;
+import io.github.warnotte.warkanoid.GameWorld;
+import io.github.warnotte.warkanoid.RenderStats;
+import io.github.warnotte.warkanoid.SoundManager;
+
+/**
+ * Frame profiler table (F11): p50 / p99 / max of every phase over the last second, in
+ * microseconds, the render counters of the last frame per pass, the entity counts and
+ * the sound voices. Drawn in window pixels after the CRT pass so it stays readable; the
+ * text is built in a reused buffer, so showing it allocates nothing.
+ */
+public class ProfilerOverlay {
+    private static final float LINE_HEIGHT = 16f;
+    private static final float PADDING = 8f;
+    private static final float WIDTH = 400f;
+    private static final float COLUMN_COUNTERS = 90f;
+    private static final float COUNTER_WIDTH = 42f;
+    private static final String[] COUNTER_HEADERS = {"draws", "verts", "tex", "shader", "fbo", "shape", "flush"};
+    private static final float COLUMN_P50 = 150f;
+    private static final float COLUMN_P99 = 210f;
+    private static final float COLUMN_MAX = 270f;
+
+    private final FrameProfiler profiler;
+    private final RenderStats renderStats;
+    private final SoundManager sounds;
+    private final SpriteBatch batch;
+    private final BitmapFont font;
+    private final Texture pixel;
+    private final Matrix4 projection = new Matrix4();
+    private final StringBuilder text = new StringBuilder();
+    private boolean visible;
+
+    public ProfilerOverlay(FrameProfiler profiler, RenderStats renderStats, SoundManager sounds, SpriteBatch sharedBatch) {
+        this.profiler = profiler;
+        this.renderStats = renderStats;
+        this.sounds = sounds;
+        this.batch = sharedBatch;
+        this.font = new BitmapFont();
+        Pixmap pixmap = new Pixmap(1, 1, Pixmap.Format.RGBA8888);
+        pixmap.setColor(Color.WHITE);
+        pixmap.fill();
+        this.pixel = new Texture(pixmap);
+        pixmap.dispose();
+    }
+
+    public void render(GameWorld world) {
+        if (!visible) {
+            return;
+        }
+        int screenWidth = Gdx.graphics.getWidth();
+        int screenHeight = Gdx.graphics.getHeight();
+        Gdx.gl.glViewport(0, 0, screenWidth, screenHeight);
+        projection.setToOrtho2D(0f, 0f, screenWidth, screenHeight);
+
+        int lines = profiler.getPhaseCount() + RenderStats.SCOPES + 6;
+        float height = lines * LINE_HEIGHT + 2f * PADDING;
+        float left = screenWidth - WIDTH - PADDING;
+        float top = screenHeight - PADDING;
+
+        batch.setProjectionMatrix(projection);
+        batch.begin();
+        batch.setColor(0f, 0f, 0f, 0.7f);
+        batch.draw(pixel, left, top - height, WIDTH, height);
+        batch.setColor(Color.WHITE);
+
+        float x = left + PADDING;
+        float y = top - PADDING;
+        font.setColor(1f, 0.8f, 0.3f, 1f);
+        font.draw(batch, "Profiler, us over 1 s (F11 hide, F12 dump)", x, y);
+        y -= LINE_HEIGHT;
+        font.draw(batch, "phase", x, y);
+        font.draw(batch, "p50", x + COLUMN_P50, y);
+        font.draw(batch, "p99", x + COLUMN_P99, y);
+        font.draw(batch, "max", x + COLUMN_MAX, y);
+        y -= LINE_HEIGHT;
+        font.setColor(Color.WHITE);
+        for (int i = 0; i < profiler.getPhaseCount(); i++) {
+            drawRow(profiler.getLabel(i), profiler.getWindow(i), x, y);
+            y -= LINE_HEIGHT;
+        }
+        font.setColor(0.6f, 1f, 0.6f, 1f);
+        drawRow("frame", profiler.getFrameWindow(), x, y);
+        y -= LINE_HEIGHT;
+
+        font.setColor(1f, 0.8f, 0.3f, 1f);
+        font.draw(batch, "scope", x, y);
+        for (int c = 0; c < RenderStats.COUNTERS; c++) {
+            font.draw(batch, COUNTER_HEADERS[c], x + COLUMN_COUNTERS + c * COUNTER_WIDTH, y);
+        }
+        y -= LINE_HEIGHT;
+        font.setColor(Color.WHITE);
+        for (int scope = 0; scope < RenderStats.SCOPES; scope++) {
+            font.draw(batch, RenderStats.getScopeName(scope), x, y);
+            for (int c = 0; c < RenderStats.COUNTERS; c++) {
+                text.setLength(0);
+                text.append(renderStats.getLast(scope, c));
+                font.draw(batch, text, x + COLUMN_COUNTERS + c * COUNTER_WIDTH, y);
+            }
+            y -= LINE_HEIGHT;
+        }
+
+        font.setColor(0.7f, 0.9f, 1f, 1f);
+        text.setLength(0);
+        text.append("balls ").append(world.getBalls().size())
+            .append("  bricks ").append(world.getBricks().size())
+            .append("  particles ").append(world.getParticles().size())
+            .append("  power-ups ").append(world.getPowerUps().size())
+            .append("  lasers ").append(world.getLasers().size());
+        font.draw(batch, text, x, y);
+        y -= LINE_HEIGHT;
+        text.setLength(0);
+        text.append("voices ").append(sounds.getActiveVoices())
+            .append("  played ").append(sounds.getPlayed())
+            .append("  merged ").append(sounds.getCoalesced())
+            .append("  dropped ").append(sounds.getDropped())
+            .append("  cut ").append(sounds.getStolen());
+        font.draw(batch, text, x, y);
+        font.setColor(Color.WHITE);
+        batch.end();
+    }
+
+    private void drawRow(String label, FrameProfiler.Histogram histogram, float x, float y) {
+        font.draw(batch, label, x, y);
+        drawMicros(histogram.getPercentile(0.5f), x + COLUMN_P50, y);
+        drawMicros(histogram.getPercentile(0.99f), x + COLUMN_P99, y);
+        drawMicros(histogram.getMax(), x + COLUMN_MAX, y);
+    }
+
+    private void drawMicros(long nanos, float x, float y) {
+        text.setLength(0);
+        FrameProfiler.appendMicros(text, nanos);
+        font.draw(batch, text, x, y);
+    }
+
+    public void toggle() {
+        visible = !visible;
+    }
+
+    public boolean isVisible() {
+        return visible;
+    }
+
+    public void dispose() {
+        font.dispose();
+        pixel.dispose();
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.warnotte.warkanoid;
+
+/**
+ * JDK 17+ version of {@link SweepFilters}, stored under {@code META-INF/versions/17} of the
+ * multi-release core JAR. The Vector API is an incubator module, resolved only when the
+ * JVM runs with {@code --add-modules jdk.incubator.vector}; without it the scalar filter
+ * is kept and {@link VectorSweepFilter} is never loaded.
+ */
+public final class SweepFilters {
+    private SweepFilters() {
+    }
+
+    public static SweepFilter best() {
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            return VectorSweepFilter.INSTANCE;
+        }
+        return SweepFilter.SCALAR;
+    }
+}
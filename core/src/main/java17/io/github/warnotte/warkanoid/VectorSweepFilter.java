@@ -0,0 +1,64 @@
+package io.github.warnotte.warkanoid;
+
+import com.badlogic.gdx.utils.IntArray;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link SweepFilter} on the Vector API: each pass gathers one vector of bricks through
+ * the candidate indices and runs the slab test on all lanes, then appends the lanes that
+ * passed. Same operations in the same order as {@link SweepFilter#SCALAR}, so both keep
+ * exactly the same bricks; the remainder that does not fill a vector runs scalar.
+ */
+final class VectorSweepFilter implements SweepFilter {
+    static final SweepFilter INSTANCE = new VectorSweepFilter();
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    private VectorSweepFilter() {
+    }
+
+    @Override
+    public void filter(BrickGrid grid, IntArray candidates, float x0, float y0, float x1, float y1, float radius,
+                       IntArray out) {
+        out.clear();
+        float[] minXs = grid.getMinXs();
+        float[] minYs = grid.getMinYs();
+        float[] maxXs = grid.getMaxXs();
+        float[] maxYs = grid.getMaxYs();
+        float invX = SweepFilter.inverse(x1 - x0);
+        float invY = SweepFilter.inverse(y1 - y0);
+        int[] items = candidates.items;
+        int size = candidates.size;
+
+        int c = 0;
+        for (int bound = SPECIES.loopBound(size); c < bound; c += SPECIES.length()) {
+            FloatVector tx1 = FloatVector.fromArray(SPECIES, minXs, 0, items, c).sub(radius).sub(x0).mul(invX);
+            FloatVector tx2 = FloatVector.fromArray(SPECIES, maxXs, 0, items, c).add(radius).sub(x0).mul(invX);
+            FloatVector ty1 = FloatVector.fromArray(SPECIES, minYs, 0, items, c).sub(radius).sub(y0).mul(invY);
+            FloatVector ty2 = FloatVector.fromArray(SPECIES, maxYs, 0, items, c).add(radius).sub(y0).mul(invY);
+            FloatVector entry = tx1.min(tx2).max(ty1.min(ty2));
+            FloatVector exit = tx1.max(tx2).min(ty1.max(ty2));
+            VectorMask<Float> hit = entry.compare(VectorOperators.LE, exit)
+                    .and(exit.compare(VectorOperators.GE, 0f))
+                    .and(entry.compare(VectorOperators.LE, 1f));
+            for (long lanes = hit.toLong(); lanes != 0; lanes &= lanes - 1) {
+                out.add(items[c + Long.numberOfTrailingZeros(lanes)]);
+            }
+        }
+        for (; c < size; c++) {
+            int i = items[c];
+            float tx1 = (minXs[i] - radius - x0) * invX;
+            float tx2 = (maxXs[i] + radius - x0) * invX;
+            float ty1 = (minYs[i] - radius - y0) * invY;
+            float ty2 = (maxYs[i] + radius - y0) * invY;
+            float entry = Math.max(Math.min(tx1, tx2), Math.min(ty1, ty2));
+            float exit = Math.min(Math.max(tx1, tx2), Math.max(ty1, ty2));
+            if (entry <= exit && exit >= 0f && entry <= 1f) {
+                out.add(i);
+            }
+        }
+    }
+}
@@ -2,17 +2,57 @@ package io.github.warnotte.warkanoid.lwjgl3;
 
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3Application;
 import com.badlogic.gdx.backends.lwjgl3.Lwjgl3ApplicationConfiguration;
+import io.github.warnotte.warkanoid.ForkJoinParallelFor;
+import io.github.warnotte.warkanoid.JfrTracer;
+import io.github.warnotte.warkanoid.JitWarmup;
+import io.github.warnotte.warkanoid.MXBeanGcStats;
 import io.github.warnotte.warkanoid.Main;
+import io.github.warnotte.warkanoid.assets.AssetPack;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
 
 /** Launches the desktop (LWJGL3) application. */
 public class Lwjgl3Launcher {
+    /** Name of the pack at the root of the distributed jar (see the lwjgl3 processResources task). */
+    private static final String ASSET_PACK_RESOURCE = "assets.pak";
+
     public static void main(String[] args) {
         if (StartupHelper.startNewJvmIfRequired()) return; // This handles macOS support and helps on Windows.
         createApplication();
     }
 
     private static Lwjgl3Application createApplication() {
-        return new Lwjgl3Application(new Main(), getDefaultConfiguration());
+        Main main = new Main(new ForkJoinParallelFor(), new JfrTracer(), new MXBeanGcStats());
+        // A native image is compiled ahead of time: nothing to warm up
+        boolean nativeImage = !System.getProperty("org.graalvm.nativeimage.imagecode", "").isEmpty();
+        main.setJitWarmupTicks(nativeImage ? 0 : Integer.getInteger("warkanoid.warmupTicks", JitWarmup.DEFAULT_TICKS));
+        main.setProcessStartMillis(ManagementFactory.getRuntimeMXBean().getStartTime());
+        AssetPack pack = openAssetPack();
+        if (pack != null) {
+            main.setAssetResolver(pack);
+        }
+        return new Lwjgl3Application(main, getDefaultConfiguration());
+    }
+
+    /**
+     * The pack file given by {@code warkanoid.assetPack} (memory-mapped, used by
+     * {@code lwjgl3:run}), else the one bundled in the jar; null to read loose files.
+     */
+    private static AssetPack openAssetPack() {
+        File file = new File(System.getProperty("warkanoid.assetPack", "assets.pak"));
+        try {
+            if (file.isFile()) {
+                return AssetPack.open(file);
+            }
+            try (InputStream in = Lwjgl3Launcher.class.getResourceAsStream("/" + ASSET_PACK_RESOURCE)) {
+                return in != null ? AssetPack.read(in, ASSET_PACK_RESOURCE) : null;
+            }
+        } catch (IOException e) {
+            System.err.println("Could not open the asset pack, falling back to loose files: " + e);
+            return null;
+        }
     }
 
     private static Lwjgl3ApplicationConfiguration getDefaultConfiguration() {